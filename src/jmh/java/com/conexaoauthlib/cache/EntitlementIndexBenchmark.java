@@ -0,0 +1,96 @@
+package com.conexaoauthlib.cache;
+
+import com.conexaoauthlib.dto.tenant.TenantProductDTO;
+import com.conexaoauthlib.dto.tenant.TenantResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da consulta {@link EntitlementIndex#hasActiveProduct(String, String)}.
+ *
+ * <p>O índice é carregado com {@value #TENANTS} tenants de
+ * {@value #PRODUCTS} produtos cada, metade deles com vencimento agendado na
+ * roda. Compara a consulta no índice com a avaliação direta do
+ * {@code TenantResponseDTO} ({@link EntitlementIndex#isActive}), que
+ * percorre os produtos e interpreta o vencimento a cada chamada.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="EntitlementIndexBenchmark"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntitlementIndexBenchmark {
+
+    private static final int TENANTS = 10_000;
+    private static final int PRODUCTS = 8;
+
+    private EntitlementIndex index;
+    private TenantResponseDTO[] tenants;
+    private String[] tenantIds;
+    private String[] codes;
+
+    @Setup
+    public void setUp() {
+        index = new EntitlementIndex(TENANTS, EntitlementIndex.DEFAULT_REFRESH_INTERVAL,
+            EntitlementIndex.DEFAULT_TICK, EntitlementIndex.DEFAULT_WHEEL_SIZE);
+        tenants = new TenantResponseDTO[TENANTS];
+        tenantIds = new String[TENANTS];
+        codes = new String[PRODUCTS];
+        for (int p = 0; p < PRODUCTS; p++) {
+            codes[p] = "product-" + p;
+        }
+        String expiresAt = OffsetDateTime.now().plus(Duration.ofDays(30)).toString();
+        for (int t = 0; t < TENANTS; t++) {
+            List<TenantProductDTO> products = new ArrayList<>(PRODUCTS);
+            for (int p = 0; p < PRODUCTS; p++) {
+                products.add(TenantProductDTO.builder()
+                    .code(codes[p])
+                    .status("ACTIVE")
+                    .expiresAt(p % 2 == 0 ? expiresAt : null)
+                    .build());
+            }
+            tenantIds[t] = "tenant-" + t;
+            tenants[t] = TenantResponseDTO.builder()
+                .id(tenantIds[t])
+                .status("ACTIVE")
+                .products(products)
+                .build();
+            index.update(tenants[t]);
+        }
+    }
+
+    @Benchmark
+    public boolean indexLookup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.hasActiveProduct(tenantIds[random.nextInt(TENANTS)], codes[random.nextInt(PRODUCTS)]);
+    }
+
+    @Benchmark
+    public boolean directEvaluation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return EntitlementIndex.isActive(tenants[random.nextInt(TENANTS)], codes[random.nextInt(PRODUCTS)]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.conexaoauthlib.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark de vazão do {@link AsyncExecutor} com {@value #CALLS} chamadas
+ * assíncronas simultâneas.
+ *
+ * <p>Cada chamada simula uma requisição HTTP bloqueante de
+ * {@code latencyMillis}. Compara o executor padrão (uma virtual thread por
+ * chamada), o mesmo executor com limite de chamadas simultâneas por cliente
+ * e um pool de threads de plataforma dimensionado pelo número de
+ * processadores, como o {@code ForkJoinPool.commonPool()}. O resultado é o
+ * tempo médio por chamada.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="AsyncExecutorBenchmark"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncExecutorBenchmark {
+
+    private static final int CALLS = 10_000;
+
+    private static final String CLIENT = "user";
+
+    @Param({"1"})
+    private long latencyMillis;
+
+    private AsyncExecutor virtualThreads;
+    private AsyncExecutor limited;
+    private AsyncExecutor platformPool;
+
+    @Setup
+    public void setUp() {
+        virtualThreads = new AsyncExecutor(AsyncExecutor.newVirtualThreadExecutor(), Map.of());
+        limited = new AsyncExecutor(AsyncExecutor.newVirtualThreadExecutor(), Map.of(CLIENT, 1000));
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        platformPool = new AsyncExecutor(pool, Map.of());
+    }
+
+    @TearDown
+    public void tearDown() {
+        virtualThreads.close();
+        limited.close();
+        platformPool.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void virtualThreads() {
+        runAll(virtualThreads);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void virtualThreadsLimited() {
+        runAll(limited);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void platformPool() {
+        runAll(platformPool);
+    }
+
+    private void runAll(AsyncExecutor executor) {
+        long latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            futures[i] = executor.run(CLIENT, () -> LockSupport.parkNanos(latencyNanos));
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,77 @@
+package com.conexaoauthlib.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da criação dos erros esperados ({@link ResourceNotFoundException}
+ * e {@link InvalidGrantException}) com e sem stack trace.
+ *
+ * <p>As exceções são criadas a {@value #DEPTH} quadros de profundidade,
+ * próximo de uma chamada Feign com as camadas de resiliência. Para a
+ * alocação por exceção, use {@code -prof gc}.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ExpectedExceptionBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpectedExceptionBenchmark {
+
+    private static final int DEPTH = 60;
+
+    @Param({"false", "true"})
+    private boolean stackTraces;
+
+    private boolean previous;
+
+    @Setup
+    public void setUp() {
+        previous = OAuth2Exception.isStackTracesEnabled();
+        OAuth2Exception.setStackTracesEnabled(stackTraces);
+    }
+
+    @TearDown
+    public void tearDown() {
+        OAuth2Exception.setStackTracesEnabled(previous);
+    }
+
+    @Benchmark
+    public RuntimeException resourceNotFound() {
+        return atDepth(DEPTH, true);
+    }
+
+    @Benchmark
+    public RuntimeException invalidGrant() {
+        return atDepth(DEPTH, false);
+    }
+
+    private static RuntimeException atDepth(int depth, boolean notFound) {
+        if (depth > 0) {
+            return atDepth(depth - 1, notFound);
+        }
+        return notFound
+            ? new ResourceNotFoundException("Usuário não encontrado: user-123")
+            : new InvalidGrantException("Invalid grant or request parameters", "invalid_grant");
+    }
+}
@@ -0,0 +1,119 @@
+package com.conexaoauthlib.feign.codec;
+
+import com.conexaoauthlib.dto.scope.ScopeResponseDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark da decodificação de uma lista de {@value #ELEMENTS} escopos.
+ *
+ * <p>Compara o {@link StreamingDecoder} ({@code Stream<ScopeResponseDTO>},
+ * consumido elemento a elemento) com a decodificação da lista inteira
+ * ({@code List<ScopeResponseDTO>}). Em ambos os casos cada elemento é
+ * lido uma vez. Com {@code -prof gc}, a alocação total é semelhante; a
+ * diferença está no que fica vivo: no modo streaming apenas o elemento
+ * corrente é retido, o que aparece no tempo de GC.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="StreamingDecoderBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingDecoderBenchmark {
+
+    private static final int ELEMENTS = 100_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private StreamingDecoder decoder;
+    private Type streamType;
+    private Type listType;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        Decoder listDecoder = (response, type) ->
+            MAPPER.readValue(response.body().asInputStream(), MAPPER.constructType(type));
+        decoder = new StreamingDecoder(listDecoder, MAPPER);
+        streamType = Responses.class.getMethod("stream").getGenericReturnType();
+        listType = Responses.class.getMethod("list").getGenericReturnType();
+
+        StringBuilder json = new StringBuilder(ELEMENTS * 200).append('[');
+        for (int i = 0; i < ELEMENTS; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"scope-").append(i)
+                .append("\",\"name\":\"resource").append(i % 100).append(":read\"")
+                .append(",\"description\":\"Leitura do recurso ").append(i % 100).append('"')
+                .append(",\"resource\":\"resource").append(i % 100).append('"')
+                .append(",\"action\":\"read\",\"status\":\"ACTIVE\"")
+                .append(",\"created_at\":\"2024-01-01T00:00:00Z\",\"updated_at\":\"2024-01-01T00:00:00Z\"}");
+        }
+        body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long streaming() throws Exception {
+        try (Stream<ScopeResponseDTO> scopes = (Stream<ScopeResponseDTO>) decoder.decode(response(), streamType)) {
+            return scopes.filter(scope -> scope.getId() != null).count();
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long fullList() throws Exception {
+        List<ScopeResponseDTO> scopes = (List<ScopeResponseDTO>) decoder.decode(response(), listType);
+        return scopes.stream().filter(scope -> scope.getId() != null).count();
+    }
+
+    private Response response() {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8080/api/scopes",
+            Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+            .status(200)
+            .request(request)
+            .headers(Map.of())
+            .body(body)
+            .build();
+    }
+
+    /**
+     * Tipos de retorno comparados.
+     */
+    interface Responses {
+        Stream<ScopeResponseDTO> stream();
+
+        List<ScopeResponseDTO> list();
+    }
+}
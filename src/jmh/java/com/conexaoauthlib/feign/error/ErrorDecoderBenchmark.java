@@ -0,0 +1,90 @@
+package com.conexaoauthlib.feign.error;
+
+import feign.Request;
+import feign.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Benchmark dos caminhos de erro mais frequentes dos error decoders:
+ * 401 do OAuth2 ({@code invalid_client}) e 404 do cliente de usuários.
+ *
+ * <p>Os loggers dos decoders ficam desligados, de modo que a medição cobre a
+ * escolha da regra, a leitura do corpo e a criação da exceção, sem a saída
+ * de log. Para a alocação por erro, use {@code -prof gc}.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ErrorDecoderBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorDecoderBenchmark {
+
+    private static final String METHOD_KEY = "Client#call()";
+
+    private final Logger[] loggers = {
+        Logger.getLogger(OAuth2ErrorDecoder.class.getName()),
+        Logger.getLogger(UserErrorDecoder.class.getName())
+    };
+
+    private OAuth2ErrorDecoder oauth2Decoder;
+    private UserErrorDecoder userDecoder;
+    private Response unauthorized;
+    private Response notFound;
+
+    @Setup
+    public void setUp() {
+        for (Logger logger : loggers) {
+            logger.setLevel(Level.OFF);
+        }
+        oauth2Decoder = new OAuth2ErrorDecoder();
+        userDecoder = new UserErrorDecoder();
+        unauthorized = response(401, "/oauth2/token",
+            "{\"error\":\"invalid_client\",\"error_description\":\"Client authentication failed\"}");
+        notFound = response(404, "/api/users/user-123",
+            "{\"message\":\"User user-123 not found\"}");
+    }
+
+    @Benchmark
+    public Exception oauth2Unauthorized() {
+        return oauth2Decoder.decode(METHOD_KEY, unauthorized);
+    }
+
+    @Benchmark
+    public Exception userNotFound() {
+        return userDecoder.decode(METHOD_KEY, notFound);
+    }
+
+    private static Response response(int status, String path, String body) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8080" + path,
+            Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+            .status(status)
+            .request(request)
+            .headers(Map.of())
+            .body(body, StandardCharsets.UTF_8)
+            .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.conexaoauthlib.fluent.oauth2;
+
+import com.conexaoauthlib.feign.oauth2.OAuth2Client;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.cloud.openfeign.FeignClientBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da obtenção do OAuth2Client pela {@link OAuth2ClientFactory}.
+ *
+ * <p>Compara o proxy compartilhado, construído uma única vez, com a
+ * construção de um novo proxy Feign decorado a cada chamada. Nenhuma
+ * requisição é enviada: a medição cobre apenas a obtenção do cliente.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="OAuth2ClientFactoryBenchmark"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OAuth2ClientFactoryBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FeignContext.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.cloud.openfeign.client.config.oauth2.url=http://127.0.0.1:8080/oauth2")
+            .run();
+        OAuth2ClientFactory.setApplicationContext(context);
+    }
+
+    @TearDown
+    public void tearDown() {
+        OAuth2ClientFactory.setApplicationContext(null);
+        context.close();
+    }
+
+    @Benchmark
+    public OAuth2Client sharedProxy() {
+        return OAuth2ClientFactory.createOAuth2Client();
+    }
+
+    @Benchmark
+    public OAuth2Client proxyPerCall() {
+        OAuth2Client feignClient = new FeignClientBuilder(context).forType(OAuth2Client.class, "oauth2").build();
+        return ResilienceDecorators.getDefault().decorate(OAuth2Client.class, feignClient, "oauth2");
+    }
+
+    /**
+     * Contexto mínimo para o {@link FeignClientBuilder}. A URL do cliente é
+     * definida em {@code spring.cloud.openfeign.client.config.oauth2.url}.
+     */
+    @ImportAutoConfiguration({
+        FeignAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+    })
+    static class FeignContext {
+    }
+}
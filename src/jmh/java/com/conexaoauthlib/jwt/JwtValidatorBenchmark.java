@@ -0,0 +1,119 @@
+package com.conexaoauthlib.jwt;
+
+import com.conexaoauthlib.dto.oauth2.IntrospectResponseDTO;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da validação local de access tokens JWT ({@link JwtValidator}).
+ *
+ * <p>O JWKS é servido por um servidor HTTP local e carregado uma única vez
+ * no setup; as medições cobrem apenas o caminho quente: decodificação,
+ * verificação da assinatura RS256 e dos claims, e montagem do
+ * {@code IntrospectResponseDTO}.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="JwtValidatorBenchmark"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidatorBenchmark {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static final String ISSUER = "https://auth.example.com";
+    private static final String AUDIENCE = "api";
+
+    private HttpServer server;
+    private JwtValidator validator;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        byte[] jwks = ("{\"keys\":[{\"kty\":\"RSA\",\"use\":\"sig\",\"kid\":\"bench\",\"n\":\""
+            + BASE64URL.encodeToString(publicKey.getModulus().toByteArray()) + "\",\"e\":\""
+            + BASE64URL.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}")
+            .getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jwks", exchange -> {
+            exchange.sendResponseHeaders(200, jwks.length);
+            exchange.getResponseBody().write(jwks);
+            exchange.close();
+        });
+        server.start();
+
+        URI jwksUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks");
+        JwksKeySet keySet = new JwksKeySet(jwksUri, Duration.ofMinutes(5), Duration.ofSeconds(2));
+        validator = new JwtValidator(keySet, ISSUER, AUDIENCE, Duration.ofSeconds(30));
+
+        long now = System.currentTimeMillis() / 1000;
+        String header = encode("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"bench\"}");
+        String payload = encode("{\"sub\":\"user-123\",\"client_id\":\"bench-client\",\"iss\":\"" + ISSUER
+            + "\",\"aud\":\"" + AUDIENCE + "\",\"iat\":" + now + ",\"exp\":" + (now + 3600)
+            + ",\"scope\":\"read write\",\"tenant_id\":\"tenant-1\"}");
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        validToken = header + "." + payload + "." + BASE64URL.encodeToString(signature.sign());
+        tamperedToken = header + "." + encode("{\"sub\":\"admin\",\"exp\":" + (now + 3600) + "}")
+            + validToken.substring(validToken.lastIndexOf('.'));
+
+        if (!Boolean.TRUE.equals(validator.validate(validToken).getActive())) {
+            throw new IllegalStateException("Token de benchmark rejeitado");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public IntrospectResponseDTO validToken() {
+        return validator.validate(validToken);
+    }
+
+    @Benchmark
+    public IntrospectResponseDTO invalidSignature() {
+        return validator.validate(tamperedToken);
+    }
+
+    private static String encode(String json) {
+        return BASE64URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
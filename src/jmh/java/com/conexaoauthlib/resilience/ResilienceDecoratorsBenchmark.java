@@ -0,0 +1,107 @@
+package com.conexaoauthlib.resilience;
+
+import com.conexaoauthlib.dto.user.UserResponseDTO;
+import com.conexaoauthlib.feign.user.UserClient;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Feign;
+import feign.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do custo por chamada das cadeias de {@link ResilienceDecorators}.
+ *
+ * <p>O mesmo {@code UserClient.getById} é chamado no proxy Feign puro e no
+ * proxy decorado por {@code ResilienceDecorators.getDefault().decorate(...)},
+ * ambos sobre um {@link Client} que responde da memória. A diferença entre
+ * os dois é o custo das cadeias (limite adaptativo, Bulkhead,
+ * CircuitBreaker, prazo e Retry), montadas uma única vez na decoração.</p>
+ *
+ * <p>Como a codificação e a decodificação do Feign dominam o tempo do
+ * primeiro par, o segundo par repete a comparação sobre um proxy em
+ * memória que devolve uma resposta fixa, isolando o custo das cadeias.</p>
+ *
+ * <pre>{@code
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ResilienceDecoratorsBenchmark -prof gc"
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResilienceDecoratorsBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final byte[] BODY = "{\"id\":\"user-123\",\"name\":\"João Silva\",\"email\":\"joao@empresa.com\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private UserClient bare;
+    private UserClient decorated;
+    private UserClient constant;
+    private UserClient decoratedConstant;
+
+    @Setup
+    public void setUp() {
+        Client stub = (request, options) -> Response.builder()
+            .status(200)
+            .request(request)
+            .headers(Map.of())
+            .body(BODY)
+            .build();
+        bare = Feign.builder()
+            .contract(new SpringMvcContract())
+            .client(stub)
+            .decoder((response, type) ->
+                MAPPER.readValue(response.body().asInputStream(), MAPPER.constructType(type)))
+            .target(UserClient.class, "http://localhost:8080");
+        decorated = ResilienceDecorators.getDefault().decorate(UserClient.class, bare, "user");
+
+        UserResponseDTO user = UserResponseDTO.builder().id("user-123").build();
+        constant = (UserClient) Proxy.newProxyInstance(UserClient.class.getClassLoader(),
+            new Class<?>[] {UserClient.class}, (proxy, method, args) -> user);
+        decoratedConstant = ResilienceDecorators.getDefault().decorate(UserClient.class, constant, "user");
+    }
+
+    @Benchmark
+    public UserResponseDTO bareProxy() {
+        return bare.getById("user-123", "tenant-123");
+    }
+
+    @Benchmark
+    public UserResponseDTO decoratedProxy() {
+        return decorated.getById("user-123", "tenant-123");
+    }
+
+    @Benchmark
+    public UserResponseDTO constantTarget() {
+        return constant.getById("user-123", "tenant-123");
+    }
+
+    @Benchmark
+    public UserResponseDTO decoratedConstantTarget() {
+        return decoratedConstant.getById("user-123", "tenant-123");
+    }
+}
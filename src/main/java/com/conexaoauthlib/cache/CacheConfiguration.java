@@ -0,0 +1,168 @@
+package com.conexaoauthlib.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração dos caches utilizados pela API fluente.
+ *
+ * <p>Cria as instâncias a partir de {@link CacheProperties}, registra-as
+ * como instâncias compartilhadas da API fluente e expõe suas métricas.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+public class CacheConfiguration {
+
+    /**
+     * Cache de tokens Client Credentials.
+     *
+     * @param properties Propriedades de cache
+     * @return TokenCache configurado
+     */
+    @Bean
+    public TokenCache tokenCache(CacheProperties properties) {
+        CacheProperties.TokenProperties token = properties.getToken();
+        TokenCache tokenCache = new TokenCache(
+            token.getSafetyMargin(),
+            token.isEnabled() ? token.getMaximumSize() : 0
+        );
+        TokenCache.setDefault(tokenCache);
+        return tokenCache;
+    }
+
+    /**
+     * Métricas do cache de tokens.
+     *
+     * @param tokenCache Cache de tokens
+     * @return MeterBinder com hits, misses, evictions e size
+     */
+    @Bean
+    public MeterBinder tokenCacheMetrics(TokenCache tokenCache) {
+        return new CacheMetrics("token", tokenCache.store());
+    }
+
+    /**
+     * Cache de respostas de introspecção.
+     *
+     * @param properties Propriedades de cache
+     * @return IntrospectionCache configurado
+     */
+    @Bean
+    public IntrospectionCache introspectionCache(CacheProperties properties) {
+        CacheProperties.IntrospectionProperties introspection = properties.getIntrospection();
+        IntrospectionCache introspectionCache = new IntrospectionCache(
+            introspection.getMaxTtl(),
+            introspection.getNegativeTtl(),
+            introspection.isEnabled() ? introspection.getMaximumSize() : 0
+        );
+        IntrospectionCache.setDefault(introspectionCache);
+        return introspectionCache;
+    }
+
+    /**
+     * Métricas do cache de introspecção.
+     *
+     * @param introspectionCache Cache de introspecção
+     * @return MeterBinder com hits, misses, evictions e size
+     */
+    @Bean
+    public MeterBinder introspectionCacheMetrics(IntrospectionCache introspectionCache) {
+        return new CacheMetrics("introspection", introspectionCache.store());
+    }
+
+    /**
+     * Caches de tenants, clients e usuários.
+     *
+     * @param properties Propriedades de cache
+     * @return EntityCaches configurado
+     */
+    @Bean
+    public EntityCaches entityCaches(CacheProperties properties) {
+        CacheProperties.EntityProperties entity = properties.getEntity();
+        EntityCaches entityCaches = new EntityCaches(
+            entity.isEnabled() ? entity.getMaximumSize() : 0,
+            entity.getTenantTtl(),
+            entity.getClientTtl(),
+            entity.getUserTtl()
+        );
+        EntityCaches.setDefault(entityCaches);
+        return entityCaches;
+    }
+
+    /**
+     * Métricas do cache de tenants.
+     *
+     * @param entityCaches Caches de entidades
+     * @return MeterBinder com hits, misses, evictions e size
+     */
+    @Bean
+    public MeterBinder tenantCacheMetrics(EntityCaches entityCaches) {
+        return new CacheMetrics("tenant", entityCaches.tenants().store());
+    }
+
+    /**
+     * Métricas do cache de clients.
+     *
+     * @param entityCaches Caches de entidades
+     * @return MeterBinder com hits, misses, evictions e size
+     */
+    @Bean
+    public MeterBinder clientCacheMetrics(EntityCaches entityCaches) {
+        return new CacheMetrics("client", entityCaches.clients().store());
+    }
+
+    /**
+     * Métricas do cache de usuários.
+     *
+     * @param entityCaches Caches de entidades
+     * @return MeterBinder com hits, misses, evictions e size
+     */
+    @Bean
+    public MeterBinder userCacheMetrics(EntityCaches entityCaches) {
+        return new CacheMetrics("user", entityCaches.users().store());
+    }
+
+    /**
+     * Índice local de produtos ativos por tenant.
+     *
+     * @param properties Propriedades de cache
+     * @return EntitlementIndex configurado
+     */
+    @Bean
+    public EntitlementIndex entitlementIndex(CacheProperties properties) {
+        CacheProperties.EntitlementProperties entitlement = properties.getEntitlement();
+        EntitlementIndex entitlementIndex = new EntitlementIndex(
+            entitlement.isEnabled() ? entitlement.getMaximumTenants() : 0,
+            entitlement.getRefreshInterval(),
+            entitlement.getTick(),
+            entitlement.getWheelSize()
+        );
+        EntitlementIndex.setDefault(entitlementIndex);
+        return entitlementIndex;
+    }
+
+    /**
+     * Métricas do índice de produtos ativos.
+     *
+     * @param entitlementIndex Índice de produtos ativos
+     * @return MeterBinder com tenants indexados e produtos vencidos
+     */
+    @Bean
+    public MeterBinder entitlementIndexMetrics(EntitlementIndex entitlementIndex) {
+        return registry -> {
+            Gauge.builder("conexaoauth.entitlement.tenants", entitlementIndex, EntitlementIndex::size)
+                .description("Tenants no índice de produtos ativos")
+                .register(registry);
+
+            FunctionCounter.builder("conexaoauth.entitlement.expired", entitlementIndex,
+                                    EntitlementIndex::getExpiredCount)
+                .description("Produtos removidos do índice por vencimento")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.conexaoauthlib.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Métricas de um {@link ExpiringCache}.
+ *
+ * <h3>Métricas expostas:</h3>
+ * <ul>
+ *   <li>conexaoauth.cache.hits - Leituras atendidas pelo cache</li>
+ *   <li>conexaoauth.cache.misses - Leituras não atendidas pelo cache</li>
+ *   <li>conexaoauth.cache.evictions - Entradas removidas por expiração ou tamanho</li>
+ *   <li>conexaoauth.cache.size - Número atual de entradas</li>
+ * </ul>
+ *
+ * <p>Todas as métricas recebem a tag {@code cache} com o nome informado.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class CacheMetrics implements MeterBinder {
+
+    private final String name;
+    private final ExpiringCache<?, ?> cache;
+
+    /**
+     * Construtor.
+     *
+     * @param name Nome do cache (valor da tag {@code cache})
+     * @param cache Cache monitorado
+     */
+    public CacheMetrics(String name, ExpiringCache<?, ?> cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("conexaoauth.cache.hits", cache, ExpiringCache::getHitCount)
+            .tag("cache", name)
+            .description("Leituras atendidas pelo cache")
+            .register(registry);
+
+        FunctionCounter.builder("conexaoauth.cache.misses", cache, ExpiringCache::getMissCount)
+            .tag("cache", name)
+            .description("Leituras não atendidas pelo cache")
+            .register(registry);
+
+        FunctionCounter.builder("conexaoauth.cache.evictions", cache, ExpiringCache::getEvictionCount)
+            .tag("cache", name)
+            .description("Entradas removidas por expiração ou limite de tamanho")
+            .register(registry);
+
+        Gauge.builder("conexaoauth.cache.size", cache, ExpiringCache::size)
+            .tag("cache", name)
+            .description("Número atual de entradas no cache")
+            .register(registry);
+    }
+}
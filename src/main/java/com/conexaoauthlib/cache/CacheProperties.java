@@ -0,0 +1,167 @@
+package com.conexaoauthlib.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração dos caches da biblioteca.
+ * Carregadas de application.yml com prefixo "conexao-auth.cache".
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   cache:
+ *     token:
+ *       enabled: true
+ *       safety-margin: 30s
+ *       maximum-size: 1000
+ *     introspection:
+ *       enabled: true
+ *       max-ttl: 60s
+ *       negative-ttl: 5s
+ *       maximum-size: 10000
+ *     entity:
+ *       enabled: false
+ *       maximum-size: 10000
+ *       tenant-ttl: 60s
+ *       client-ttl: 60s
+ *       user-ttl: 30s
+ *     entitlement:
+ *       enabled: true
+ *       refresh-interval: 5m
+ *       tick: 1s
+ *       wheel-size: 512
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.cache")
+public class CacheProperties {
+
+    private TokenProperties token = new TokenProperties();
+    private IntrospectionProperties introspection = new IntrospectionProperties();
+    private EntityProperties entity = new EntityProperties();
+    private EntitlementProperties entitlement = new EntitlementProperties();
+
+    @Data
+    public static class TokenProperties {
+        /**
+         * Habilita o cache de tokens Client Credentials.
+         * Valor padrão: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Margem subtraída de expires_in antes de considerar o token expirado.
+         * Valor padrão: 30s
+         */
+        private Duration safetyMargin = TokenCache.DEFAULT_SAFETY_MARGIN;
+
+        /**
+         * Número máximo de tokens em cache.
+         * Valor padrão: 1000
+         */
+        private int maximumSize = TokenCache.DEFAULT_MAXIMUM_SIZE;
+    }
+
+    @Data
+    public static class IntrospectionProperties {
+        /**
+         * Habilita o cache de introspecção.
+         * Valor padrão: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * TTL máximo para tokens ativos (limitado também pelo claim exp).
+         * Valor padrão: 60s
+         */
+        private Duration maxTtl = IntrospectionCache.DEFAULT_MAX_TTL;
+
+        /**
+         * TTL para tokens inativos (active=false).
+         * Valor padrão: 5s
+         */
+        private Duration negativeTtl = IntrospectionCache.DEFAULT_NEGATIVE_TTL;
+
+        /**
+         * Número máximo de respostas em cache.
+         * Valor padrão: 10000
+         */
+        private int maximumSize = IntrospectionCache.DEFAULT_MAXIMUM_SIZE;
+    }
+
+    @Data
+    public static class EntityProperties {
+        /**
+         * Habilita o cache de tenants, clients e usuários da API fluente.
+         * Valor padrão: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Número máximo de entidades em cada cache (tenants, clients, usuários).
+         * Valor padrão: 10000
+         */
+        private int maximumSize = EntityCaches.DEFAULT_MAXIMUM_SIZE;
+
+        /**
+         * TTL de tenants em cache.
+         * Valor padrão: 60s
+         */
+        private Duration tenantTtl = EntityCaches.DEFAULT_TENANT_TTL;
+
+        /**
+         * TTL de clients em cache.
+         * Valor padrão: 60s
+         */
+        private Duration clientTtl = EntityCaches.DEFAULT_CLIENT_TTL;
+
+        /**
+         * TTL de usuários em cache.
+         * Valor padrão: 30s
+         */
+        private Duration userTtl = EntityCaches.DEFAULT_USER_TTL;
+    }
+
+    @Data
+    public static class EntitlementProperties {
+        /**
+         * Habilita o índice local de produtos ativos por tenant
+         * ({@code TenantClient.hasActiveProduct}).
+         * Valor padrão: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Número máximo de tenants indexados.
+         * Valor padrão: 10000
+         */
+        private int maximumTenants = EntitlementIndex.DEFAULT_MAXIMUM_TENANTS;
+
+        /**
+         * Intervalo para buscar novamente um tenant indexado, em segundo plano.
+         * Valor padrão: 5m
+         */
+        private Duration refreshInterval = EntitlementIndex.DEFAULT_REFRESH_INTERVAL;
+
+        /**
+         * Duração de um tick da roda de expiração (resolução da remoção de
+         * produtos vencidos; a consulta compara o vencimento exato).
+         * Valor padrão: 1s
+         */
+        private Duration tick = EntitlementIndex.DEFAULT_TICK;
+
+        /**
+         * Número de posições da roda de expiração.
+         * Valor padrão: 512
+         */
+        private int wheelSize = EntitlementIndex.DEFAULT_WHEEL_SIZE;
+    }
+}
@@ -0,0 +1,368 @@
+package com.conexaoauthlib.cache;
+
+import com.conexaoauthlib.dto.tenant.TenantProductDTO;
+import com.conexaoauthlib.dto.tenant.TenantResponseDTO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Índice local dos produtos ativos de cada tenant.
+ *
+ * <p>Responde "o tenant X tem o produto Y ativo agora?" com duas buscas em
+ * hash, sem chamada remota nem alocação. O índice guarda apenas os produtos
+ * ativos de tenants ativos (status {@code ACTIVE} ou ausente) ainda não
+ * vencidos. Cada produto com {@code expires_at} é agendado numa
+ * {@link TimingWheel} e removido quando vence; a consulta também compara o
+ * vencimento, de modo que a resposta é exata entre dois ticks.</p>
+ *
+ * <p>O índice é atualizado incrementalmente, tenant a tenant, com as
+ * respostas de {@code TenantClient} (busca, criação, status e produtos):
+ * apenas os produtos incluídos, removidos ou com vencimento alterado são
+ * modificados. Tenants indexados há mais que o intervalo de atualização são
+ * buscados novamente em segundo plano por
+ * {@code TenantClient.hasActiveProduct}. Com o índice cheio, sai o tenant
+ * atualizado há mais tempo, retirado em O(1) amortizado de uma fila por
+ * ordem de atualização.</p>
+ *
+ * <p>Datas de vencimento são lidas em ISO-8601; datas sem fuso são
+ * interpretadas em UTC, e datas sem hora valem até o fim do dia. Produtos
+ * sem vencimento não expiram; um vencimento que não pode ser interpretado
+ * torna o produto inativo (registrado em WARNING).</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * if (!TenantClient.hasActiveProduct(tenantId, "analytics")) {
+ *     throw new ForbiddenException("Produto não contratado");
+ * }
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see com.conexaoauthlib.fluent.tenant.TenantClient#hasActiveProduct(String, String)
+ */
+public class EntitlementIndex {
+
+    /**
+     * Intervalo padrão para buscar novamente um tenant indexado.
+     */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * Duração padrão de um tick da roda de expiração.
+     */
+    public static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+
+    /**
+     * Número padrão de posições da roda de expiração.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Número máximo padrão de tenants indexados.
+     */
+    public static final int DEFAULT_MAXIMUM_TENANTS = 10_000;
+
+    private static final Logger LOGGER = Logger.getLogger(EntitlementIndex.class.getName());
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private static final long EXPIRED = Long.MIN_VALUE;
+
+    private static volatile EntitlementIndex defaultInstance = new EntitlementIndex(
+        DEFAULT_MAXIMUM_TENANTS, DEFAULT_REFRESH_INTERVAL, DEFAULT_TICK, DEFAULT_WHEEL_SIZE);
+
+    private final int maximumTenants;
+    private final long refreshIntervalMillis;
+    private final ConcurrentHashMap<String, Tenant> tenants = new ConcurrentHashMap<>();
+    private final Queue<Refresh> refreshOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final TimingWheel<Entitlement> wheel;
+    private final LongAdder expired = new LongAdder();
+
+    /**
+     * Construtor.
+     *
+     * @param maximumTenants Número máximo de tenants indexados (0 desabilita o índice)
+     * @param refreshInterval Intervalo para buscar novamente um tenant indexado
+     * @param tick Duração de um tick da roda de expiração
+     * @param wheelSize Número de posições da roda de expiração
+     */
+    public EntitlementIndex(int maximumTenants, Duration refreshInterval, Duration tick, int wheelSize) {
+        this.maximumTenants = Math.max(0, maximumTenants);
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.wheel = new TimingWheel<>(tick.toMillis(), wheelSize, this::expire, System.currentTimeMillis());
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API fluente.
+     *
+     * @return EntitlementIndex padrão
+     */
+    public static EntitlementIndex getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param entitlementIndex Nova instância
+     */
+    public static void setDefault(EntitlementIndex entitlementIndex) {
+        EntitlementIndex.defaultInstance = entitlementIndex;
+    }
+
+    /**
+     * Verifica no índice se o tenant tem o produto ativo agora.
+     *
+     * @param tenantId ID do tenant
+     * @param productCode Código do produto
+     * @return true se o produto está ativo e não vencido; false também para
+     *         tenants não indexados
+     */
+    public boolean hasActiveProduct(String tenantId, String productCode) {
+        long now = System.currentTimeMillis();
+        wheel.advance(now);
+        Tenant tenant = tenantId != null ? tenants.get(tenantId) : null;
+        if (tenant == null || productCode == null) {
+            return false;
+        }
+        Entitlement entitlement = tenant.products.get(productCode);
+        return entitlement != null && entitlement.expiresAt() > now;
+    }
+
+    /**
+     * Avalia um tenant diretamente, sem o índice.
+     *
+     * @param tenant Tenant
+     * @param productCode Código do produto
+     * @return true se o produto está ativo e não vencido
+     */
+    public static boolean isActive(TenantResponseDTO tenant, String productCode) {
+        if (tenant == null || productCode == null || !isActive(tenant.getStatus()) || tenant.getProducts() == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (TenantProductDTO product : tenant.getProducts()) {
+            if (productCode.equals(product.getCode()) && isActive(product.getStatus())
+                    && parseExpiry(product.getExpiresAt()) > now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param tenantId ID do tenant
+     * @return true se o tenant está indexado
+     */
+    public boolean contains(String tenantId) {
+        return tenantId != null && tenants.containsKey(tenantId);
+    }
+
+    /**
+     * Marca o início da atualização em segundo plano de um tenant indexado
+     * há mais que o intervalo de atualização. Apenas uma atualização por
+     * tenant é iniciada por vez.
+     *
+     * @param tenantId ID do tenant
+     * @return true se o chamador deve buscar o tenant novamente
+     */
+    public boolean beginRefresh(String tenantId) {
+        Tenant tenant = tenantId != null ? tenants.get(tenantId) : null;
+        return tenant != null
+            && System.currentTimeMillis() - tenant.refreshedAt >= refreshIntervalMillis
+            && tenant.refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Marca o fim da atualização iniciada por {@link #beginRefresh(String)},
+     * com ou sem sucesso.
+     *
+     * @param tenantId ID do tenant
+     */
+    public void endRefresh(String tenantId) {
+        Tenant tenant = tenantId != null ? tenants.get(tenantId) : null;
+        if (tenant != null) {
+            tenant.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Atualiza os produtos ativos de um tenant a partir da resposta do
+     * servidor. Apenas as diferenças em relação ao índice são aplicadas.
+     *
+     * @param tenant Tenant retornado pelo servidor
+     */
+    public void update(TenantResponseDTO tenant) {
+        if (!isEnabled() || tenant == null || tenant.getId() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        wheel.advance(now);
+
+        String tenantId = tenant.getId();
+        Map<String, Entitlement> active = new HashMap<>();
+        if (isActive(tenant.getStatus()) && tenant.getProducts() != null) {
+            for (TenantProductDTO product : tenant.getProducts()) {
+                if (product.getCode() == null || !isActive(product.getStatus())) {
+                    continue;
+                }
+                long expiresAt = parseExpiry(product.getExpiresAt());
+                if (expiresAt > now) {
+                    active.put(product.getCode(), new Entitlement(tenantId, product.getCode(), expiresAt));
+                }
+            }
+        }
+
+        if (tenants.size() >= maximumTenants && !tenants.containsKey(tenantId)) {
+            evictLeastRecentlyRefreshed();
+        }
+        Tenant entry = tenants.computeIfAbsent(tenantId, id -> new Tenant());
+        entry.products.keySet().retainAll(active.keySet());
+        for (Entitlement entitlement : active.values()) {
+            if (!entitlement.equals(entry.products.get(entitlement.code()))) {
+                entry.products.put(entitlement.code(), entitlement);
+                if (entitlement.expiresAt() != NO_EXPIRY) {
+                    wheel.schedule(entitlement, entitlement.expiresAt());
+                }
+            }
+        }
+        entry.refreshedAt = now;
+        refreshOrder.offer(new Refresh(tenantId, entry, now));
+        if (queued.incrementAndGet() > 2 * maximumTenants) {
+            // Descarta da fila as atualizações substituídas por outras mais recentes
+            refreshOrder.removeIf(refresh -> !isCurrent(refresh));
+            queued.set(refreshOrder.size());
+        }
+    }
+
+    /**
+     * Remove um tenant do índice.
+     *
+     * @param tenantId ID do tenant
+     */
+    public void remove(String tenantId) {
+        if (tenantId != null) {
+            tenants.remove(tenantId);
+        }
+    }
+
+    /**
+     * Remove todos os tenants do índice.
+     */
+    public void clear() {
+        tenants.clear();
+        refreshOrder.clear();
+        queued.set(0);
+    }
+
+    /**
+     * @return true se o índice está habilitado
+     */
+    public boolean isEnabled() {
+        return maximumTenants > 0;
+    }
+
+    /**
+     * @return Número de tenants indexados
+     */
+    public int size() {
+        return tenants.size();
+    }
+
+    /**
+     * @return Total de produtos removidos do índice por vencimento
+     */
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    private void expire(Entitlement entitlement) {
+        Tenant tenant = tenants.get(entitlement.tenantId());
+        if (tenant != null && tenant.products.remove(entitlement.code(), entitlement)) {
+            expired.increment();
+        }
+    }
+
+    /**
+     * Remove o tenant da atualização mais antiga ainda vigente. Atualizações
+     * substituídas ou de tenants já removidos são descartadas da fila.
+     */
+    private void evictLeastRecentlyRefreshed() {
+        Refresh head;
+        while ((head = refreshOrder.poll()) != null) {
+            queued.decrementAndGet();
+            if (isCurrent(head) && tenants.remove(head.tenantId(), head.tenant())) {
+                return;
+            }
+        }
+    }
+
+    private boolean isCurrent(Refresh refresh) {
+        return tenants.get(refresh.tenantId()) == refresh.tenant()
+            && refresh.tenant().refreshedAt == refresh.refreshedAt();
+    }
+
+    private static boolean isActive(String status) {
+        return status == null || ACTIVE.equalsIgnoreCase(status);
+    }
+
+    private static long parseExpiry(String expiresAt) {
+        if (expiresAt == null || expiresAt.isBlank()) {
+            return NO_EXPIRY;
+        }
+        try {
+            return OffsetDateTime.parse(expiresAt).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // Tenta formatos sem fuso
+        }
+        try {
+            return LocalDateTime.parse(expiresAt).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // Tenta data sem hora
+        }
+        try {
+            return LocalDate.parse(expiresAt).plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.warning("Unparseable product expires_at, product treated as inactive: " + expiresAt);
+            }
+            return EXPIRED;
+        }
+    }
+
+    /**
+     * Produtos ativos de um tenant, por código.
+     */
+    private static final class Tenant {
+        private final Map<String, Entitlement> products = new ConcurrentHashMap<>();
+        private volatile long refreshedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+
+    private record Entitlement(String tenantId, String code, long expiresAt) {
+    }
+
+    /**
+     * Atualização de um tenant, na fila por ordem de atualização.
+     */
+    private record Refresh(String tenantId, Tenant tenant, long refreshedAt) {
+    }
+}
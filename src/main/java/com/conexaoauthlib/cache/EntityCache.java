@@ -0,0 +1,212 @@
+package com.conexaoauthlib.cache;
+
+import com.conexaoauthlib.resilience.LastKnownGood;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache read-through de entidades (tenant, client, usuário) da API fluente.
+ *
+ * <p>As entidades são mantidas pelo ID e pelo tenant de contexto
+ * ({@code X-Tenant-Id}) da consulta, com TTL fixo. Índices secundários
+ * (ex.: documento do tenant, {@code clientId} do client) apontam para o
+ * ID, de modo que buscas por chaves diferentes resolvem a mesma entrada.
+ * O tamanho é limitado com admissão por frequência (TinyLFU) em
+ * {@link ExpiringCache}.</p>
+ *
+ * <p>Alterações feitas pelo próprio processo invalidam a entidade em todos
+ * os tenants de contexto ({@link #invalidating}). Uma busca concorrente com
+ * uma invalidação não repovoa o cache com o valor possivelmente antigo, e
+ * respostas obsoletas ({@link LastKnownGood}) não são guardadas.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * // Utilizado automaticamente por TenantClient.get(...) e findByDocument(...)
+ * EntityCaches.getDefault().tenants().invalidate("tenant-123");
+ * }</pre>
+ *
+ * @param <V> Tipo da entidade
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see EntityCaches
+ */
+public class EntityCache<V> {
+
+    private final Duration ttl;
+    private final Function<V, String> idOf;
+    private final Map<String, Function<V, String>> indexes;
+    private final ExpiringCache<Key, V> entries;
+    private final ExpiringCache<IndexKey, String> index;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Construtor.
+     *
+     * @param ttl Tempo de vida das entradas (nulo ou zero desabilita o cache)
+     * @param maximumSize Número máximo de entidades (0 desabilita o cache)
+     * @param idOf Extrai o ID da entidade
+     * @param indexes Índices secundários: nome do índice para a chave extraída da entidade
+     */
+    public EntityCache(Duration ttl, int maximumSize, Function<V, String> idOf,
+                       Map<String, Function<V, String>> indexes) {
+        boolean enabled = ttl != null && !ttl.isNegative() && !ttl.isZero() && maximumSize > 0;
+        this.ttl = ttl;
+        this.idOf = idOf;
+        this.indexes = Map.copyOf(indexes);
+        this.entries = new ExpiringCache<>(enabled ? maximumSize : 0, true);
+        this.index = new ExpiringCache<>(enabled && !indexes.isEmpty() ? maximumSize * indexes.size() : 0);
+    }
+
+    /**
+     * Retorna a entidade pelo ID, buscando-a se ausente.
+     *
+     * @param tenantId ID do tenant de contexto
+     * @param id ID da entidade
+     * @param loader Busca remota
+     * @return Entidade em cache ou buscada
+     */
+    public V getOrLoad(String tenantId, String id, Supplier<V> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        V cached = entries.get(new Key(tenantId, id));
+        return cached != null ? cached : load(tenantId, loader);
+    }
+
+    /**
+     * Retorna a entidade por um índice secundário, buscando-a se ausente.
+     *
+     * @param indexName Nome do índice
+     * @param tenantId ID do tenant de contexto
+     * @param value Chave no índice (ex.: documento, clientId)
+     * @param loader Busca remota
+     * @return Entidade em cache ou buscada
+     */
+    public V getByOrLoad(String indexName, String tenantId, String value, Supplier<V> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        String id = index.get(new IndexKey(indexName, tenantId, value));
+        V cached = id != null ? entries.get(new Key(tenantId, id)) : null;
+        return cached != null ? cached : load(tenantId, loader);
+    }
+
+    /**
+     * Executa uma alteração da entidade e a invalida em seguida, mesmo em
+     * caso de falha (a alteração pode ter sido aplicada).
+     *
+     * @param key ID da entidade ou chave de um índice secundário
+     * @param mutation Chamada remota de alteração
+     * @param <R> Tipo do resultado
+     * @return Resultado da alteração
+     */
+    public <R> R invalidating(String key, Supplier<R> mutation) {
+        try {
+            return mutation.get();
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * Remove a entidade de todos os tenants de contexto.
+     *
+     * @param key ID da entidade ou chave de um índice secundário
+     */
+    public void invalidate(String key) {
+        if (key == null) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        if (!isEnabled()) {
+            return;
+        }
+        Set<String> ids = new HashSet<>();
+        ids.add(key);
+        index.invalidateIf((indexKey, id) -> {
+            if (indexKey.value().equals(key)) {
+                ids.add(id);
+                return true;
+            }
+            return false;
+        });
+        entries.invalidateIf((entryKey, value) -> ids.contains(entryKey.id()));
+        index.invalidateIf((indexKey, id) -> ids.contains(id));
+    }
+
+    /**
+     * Remove todas as entidades.
+     */
+    public void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+        index.clear();
+    }
+
+    /**
+     * @return true se o cache está habilitado
+     */
+    public boolean isEnabled() {
+        return entries.getMaximumSize() > 0;
+    }
+
+    /**
+     * @return Número de entidades em cache
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Total de buscas servidas pelo cache
+     */
+    public long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    /**
+     * @return Total de buscas que exigiram requisição ao servidor
+     */
+    public long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    ExpiringCache<?, ?> store() {
+        return entries;
+    }
+
+    private V load(String tenantId, Supplier<V> loader) {
+        long version = invalidations.get();
+        V value = loader.get();
+        if (value == null || version != invalidations.get() || LastKnownGood.isStale()) {
+            return value;
+        }
+        String id = idOf.apply(value);
+        if (id == null) {
+            return value;
+        }
+        entries.put(new Key(tenantId, id), value, ttl);
+        for (Map.Entry<String, Function<V, String>> indexEntry : indexes.entrySet()) {
+            String indexValue = indexEntry.getValue().apply(value);
+            if (indexValue != null) {
+                index.put(new IndexKey(indexEntry.getKey(), tenantId, indexValue), id, ttl);
+            }
+        }
+        if (version != invalidations.get()) {
+            invalidate(id);
+        }
+        return value;
+    }
+
+    private record Key(String tenantId, String id) {
+    }
+
+    private record IndexKey(String name, String tenantId, String value) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.conexaoauthlib.cache;
+
+import com.conexaoauthlib.dto.client.ClientResponseDTO;
+import com.conexaoauthlib.dto.tenant.TenantResponseDTO;
+import com.conexaoauthlib.dto.user.UserResponseDTO;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Caches read-through de tenants, clients e usuários da API fluente.
+ *
+ * <p>Desabilitado por padrão. Quando habilitado, atende:</p>
+ * <ul>
+ *   <li>{@code TenantClient.get(id)} e {@code TenantClient.findByDocument(doc)},
+ *       que resolvem a mesma entrada pelo índice {@value #DOCUMENT};</li>
+ *   <li>{@code ClientClient.get(id)} e {@code ClientClient.getByClientId(clientId)},
+ *       pelo índice {@value #CLIENT_ID};</li>
+ *   <li>{@code UserClient.get(id)}.</li>
+ * </ul>
+ *
+ * <p>As operações de alteração da API fluente ({@code updateStatus},
+ * {@code addProducts}, {@code removeProducts}, {@code update},
+ * {@code delete}, etc.) invalidam a entidade alterada.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * // Habilitado por conexao-auth.cache.entity.enabled=true
+ * TenantResponseDTO tenant = TenantClient.findByDocument("12345678000190").execute();
+ * TenantResponseDTO same = TenantClient.get(tenant.getId()).execute(); // servido pelo cache
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see EntityCache
+ */
+public class EntityCaches {
+
+    /**
+     * Índice de tenants pelo documento.
+     */
+    public static final String DOCUMENT = "document";
+
+    /**
+     * Índice de clients pelo clientId OAuth2.
+     */
+    public static final String CLIENT_ID = "clientId";
+
+    /**
+     * TTL padrão de tenants.
+     */
+    public static final Duration DEFAULT_TENANT_TTL = Duration.ofSeconds(60);
+
+    /**
+     * TTL padrão de clients.
+     */
+    public static final Duration DEFAULT_CLIENT_TTL = Duration.ofSeconds(60);
+
+    /**
+     * TTL padrão de usuários.
+     */
+    public static final Duration DEFAULT_USER_TTL = Duration.ofSeconds(30);
+
+    /**
+     * Número máximo padrão de entidades em cada cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static volatile EntityCaches defaultInstance =
+        new EntityCaches(0, DEFAULT_TENANT_TTL, DEFAULT_CLIENT_TTL, DEFAULT_USER_TTL);
+
+    private final EntityCache<TenantResponseDTO> tenants;
+    private final EntityCache<ClientResponseDTO> clients;
+    private final EntityCache<UserResponseDTO> users;
+
+    /**
+     * Construtor.
+     *
+     * @param maximumSize Número máximo de entidades em cada cache (0 desabilita os caches)
+     * @param tenantTtl TTL de tenants
+     * @param clientTtl TTL de clients
+     * @param userTtl TTL de usuários
+     */
+    public EntityCaches(int maximumSize, Duration tenantTtl, Duration clientTtl, Duration userTtl) {
+        this.tenants = new EntityCache<>(tenantTtl, maximumSize, TenantResponseDTO::getId,
+            Map.of(DOCUMENT, TenantResponseDTO::getDocumentNumber));
+        this.clients = new EntityCache<>(clientTtl, maximumSize, ClientResponseDTO::getId,
+            Map.of(CLIENT_ID, ClientResponseDTO::getClientId));
+        this.users = new EntityCache<>(userTtl, maximumSize, UserResponseDTO::getId, Map.of());
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API fluente.
+     *
+     * @return EntityCaches padrão
+     */
+    public static EntityCaches getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param entityCaches Nova instância
+     */
+    public static void setDefault(EntityCaches entityCaches) {
+        EntityCaches.defaultInstance = entityCaches;
+    }
+
+    /**
+     * @return Cache de tenants
+     */
+    public EntityCache<TenantResponseDTO> tenants() {
+        return tenants;
+    }
+
+    /**
+     * @return Cache de clients
+     */
+    public EntityCache<ClientResponseDTO> clients() {
+        return clients;
+    }
+
+    /**
+     * @return Cache de usuários
+     */
+    public EntityCache<UserResponseDTO> users() {
+        return users;
+    }
+}
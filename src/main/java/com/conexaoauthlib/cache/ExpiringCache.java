@@ -0,0 +1,304 @@
+package com.conexaoauthlib.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+
+/**
+ * Cache em memória com expiração por entrada e tamanho máximo.
+ *
+ * <p>Cada entrada recebe seu próprio TTL no momento da inserção. Entradas
+ * expiradas são removidas na leitura; quando o limite de tamanho é atingido,
+ * as entradas expiradas são descartadas primeiro e, se necessário, a entrada
+ * mais próxima da expiração é removida.</p>
+ *
+ * <p>As entradas ficam também numa fila de prioridade por instante de
+ * expiração, de modo que a remoção por tamanho custa O(log n), sem percorrer
+ * o cache. Entradas substituídas ou invalidadas saem da fila de forma
+ * preguiçosa, ao chegarem à cabeça, e a fila é compactada quando passa do
+ * dobro do tamanho máximo. Leituras não bloqueiam; escritas são
+ * serializadas.</p>
+ *
+ * <p>Com admissão por frequência (TinyLFU), cada leitura registra a chave
+ * em um {@link FrequencySketch}. Com o cache cheio, a vítima é a entrada
+ * menos acessada entre as {@value #EVICTION_SAMPLE} mais próximas da
+ * expiração (a mais próxima em caso de empate), e a nova entrada só é
+ * admitida se for acessada ao menos tanto quanto a vítima. Assim, entradas
+ * populares não são expulsas por uma sequência de chaves lidas uma única
+ * vez.</p>
+ *
+ * <p>Contadores de acerto, falha e remoção são mantidos para exposição
+ * via {@link CacheMetrics}.</p>
+ *
+ * @param <K> Tipo da chave
+ * @param <V> Tipo do valor
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class ExpiringCache<K, V> {
+
+    /**
+     * Entradas candidatas na escolha da vítima com admissão por frequência.
+     */
+    static final int EVICTION_SAMPLE = 16;
+
+    private final int maximumSize;
+    private final FrequencySketch sketch;
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final PriorityQueue<Entry<K, V>> expiryOrder =
+        new PriorityQueue<>((a, b) -> Long.signum(a.expiresAt - b.expiresAt));
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Construtor.
+     *
+     * @param maximumSize Número máximo de entradas (0 desabilita o cache)
+     */
+    public ExpiringCache(int maximumSize) {
+        this(maximumSize, false);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @param maximumSize Número máximo de entradas (0 desabilita o cache)
+     * @param frequencyAdmission true para admissão e remoção por frequência (TinyLFU)
+     */
+    public ExpiringCache(int maximumSize, boolean frequencyAdmission) {
+        this.maximumSize = Math.max(0, maximumSize);
+        this.sketch = frequencyAdmission && this.maximumSize > 0 ? new FrequencySketch(this.maximumSize) : null;
+    }
+
+    /**
+     * Retorna o valor associado à chave, se presente e não expirado.
+     *
+     * @param key Chave
+     * @return Valor em cache ou null
+     */
+    public V get(K key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Retorna o valor associado à chave, se presente e não expirado, sem
+     * contar acerto ou falha nem registrar o acesso.
+     *
+     * @param key Chave
+     * @return Valor em cache ou null
+     */
+    V peek(K key) {
+        Entry<K, V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(System.nanoTime()) ? entry.value : null;
+    }
+
+    /**
+     * Armazena um valor com o TTL informado.
+     * TTLs nulos, zero ou negativos são ignorados.
+     *
+     * @param key Chave
+     * @param value Valor
+     * @param ttl Tempo de vida da entrada
+     */
+    public void put(K key, V value, Duration ttl) {
+        if (maximumSize == 0 || ttl == null || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Entry<K, V> entry = new Entry<>(key, value, now + ttl.toNanos());
+        writeLock.lock();
+        try {
+            if (entries.size() >= maximumSize && !entries.containsKey(key)) {
+                removeExpired(now);
+                if (entries.size() >= maximumSize && !(sketch != null ? admit(key) : evict())) {
+                    return;
+                }
+            }
+            entries.put(key, entry);
+            expiryOrder.offer(entry);
+            if (expiryOrder.size() > 2 * maximumSize) {
+                expiryOrder.removeIf(queued -> !isLive(queued));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove a entrada associada à chave.
+     *
+     * @param key Chave
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove todas as entradas que satisfazem o predicado.
+     *
+     * @param predicate Predicado sobre chave e valor
+     */
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value));
+    }
+
+    /**
+     * Remove todas as entradas.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            entries.clear();
+            expiryOrder.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return Número atual de entradas (incluindo expiradas ainda não removidas)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Tamanho máximo configurado
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return Total de leituras atendidas pelo cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Total de leituras não atendidas pelo cache
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Total de entradas removidas por expiração ou limite de tamanho
+     *         (incluindo as recusadas pela admissão por frequência)
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Remove, pela cabeça da fila, as entradas expiradas e descarta as
+     * entradas da fila que já não estão no cache.
+     */
+    private void removeExpired(long now) {
+        Entry<K, V> head;
+        while ((head = expiryOrder.peek()) != null && (!isLive(head) || head.isExpired(now))) {
+            expiryOrder.poll();
+            if (entries.remove(head.key, head)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove a entrada mais próxima da expiração.
+     */
+    private boolean evict() {
+        Entry<K, V> victim = pollLive();
+        if (victim != null && entries.remove(victim.key, victim)) {
+            evictions.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Libera espaço para a chave, se ela for acessada ao menos tanto quanto
+     * a menos acessada das {@value #EVICTION_SAMPLE} entradas mais próximas
+     * da expiração. As demais candidatas voltam à fila.
+     */
+    private boolean admit(K key) {
+        List<Entry<K, V>> candidates = new ArrayList<>(EVICTION_SAMPLE);
+        Entry<K, V> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        Entry<K, V> candidate;
+        while (candidates.size() < EVICTION_SAMPLE && (candidate = pollLive()) != null) {
+            candidates.add(candidate);
+            int frequency = sketch.frequency(candidate.key);
+            if (frequency < victimFrequency) {
+                victim = candidate;
+                victimFrequency = frequency;
+            }
+        }
+
+        evictions.increment();
+        boolean admitted = victim == null || sketch.frequency(key) >= victimFrequency;
+        for (Entry<K, V> queued : candidates) {
+            if (!admitted || queued != victim) {
+                expiryOrder.offer(queued);
+            }
+        }
+        if (admitted && victim != null) {
+            entries.remove(victim.key, victim);
+        }
+        return admitted;
+    }
+
+    private Entry<K, V> pollLive() {
+        Entry<K, V> head;
+        while ((head = expiryOrder.poll()) != null) {
+            if (isLive(head)) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    private boolean isLive(Entry<K, V> entry) {
+        return entries.get(entry.key) == entry;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiresAt;
+
+        Entry(K key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.conexaoauthlib.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Estimativa aproximada da frequência de acesso das chaves (TinyLFU).
+ *
+ * <p>Count-Min Sketch com contadores de 4 bits (máximo 15), 16 por
+ * {@code long}, e quatro funções de hash. Após {@code 10 × maximumSize}
+ * incrementos todos os contadores são divididos por dois, de modo que a
+ * estimativa reflete o histórico recente e chaves antes populares perdem
+ * prioridade com o tempo.</p>
+ *
+ * <p>Thread-safe; incrementos concorrentes podem ocasionalmente ser
+ * perdidos durante o envelhecimento, o que é aceitável para uma
+ * estimativa.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ExpiringCache
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * Construtor.
+     *
+     * @param maximumSize Tamanho máximo do cache que usa a estimativa
+     */
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 28)) - 1) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    /**
+     * @param key Chave
+     * @return Frequência estimada (0 a 15)
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = 15;
+        for (int i = 0; i < 4; i++) {
+            long word = table.get(indexOf(hash, i));
+            int count = (int) ((word >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Registra um acesso à chave.
+     *
+     * @param key Chave
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        while (true) {
+            long word = table.get(index);
+            if ((word & mask) == mask) {
+                return false;
+            }
+            if (table.compareAndSet(index, word, word + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized void reset() {
+        if (additions.get() < sampleSize) {
+            return;
+        }
+        int odd = 0;
+        for (int i = 0; i < table.length(); i++) {
+            long word = table.get(i);
+            odd += Long.bitCount(word & ONE_MASK);
+            table.set(i, (word >>> 1) & RESET_MASK);
+        }
+        additions.set(Math.max(0, (additions.get() - (odd >>> 2)) >>> 1));
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
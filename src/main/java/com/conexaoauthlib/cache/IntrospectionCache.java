@@ -0,0 +1,254 @@
+package com.conexaoauthlib.cache;
+
+import com.conexaoauthlib.dto.oauth2.IntrospectResponseDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache de respostas de introspecção de tokens (RFC 7662).
+ *
+ * <p>Tokens ativos são mantidos até o claim {@code exp}, limitado por um TTL
+ * máximo. Tokens inativos ({@code active=false}) são mantidos por um TTL
+ * negativo curto. A chave é o hash SHA-256 do token, de modo que o token
+ * original nunca fica retido em memória pelo cache.</p>
+ *
+ * <p>As respostas de um token, em todos os tenants, ficam numa única
+ * entrada, de modo que {@link #invalidate(String)} custa O(1). A
+ * invalidação deixa também uma marca pelo TTL máximo: respostas ativas de
+ * introspecções ainda em andamento não voltam ao cache depois de uma
+ * revogação. Acertos e falhas são contados por token.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * // Utilizado automaticamente por AuthClient.introspect(...)
+ * IntrospectionCache cache = IntrospectionCache.getDefault();
+ * cache.invalidate(accessToken);
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see com.conexaoauthlib.fluent.oauth2.AuthClient
+ */
+public class IntrospectionCache {
+
+    /**
+     * TTL máximo padrão para tokens ativos.
+     */
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofSeconds(60);
+
+    /**
+     * TTL padrão para tokens inativos.
+     */
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(5);
+
+    /**
+     * Número máximo padrão de respostas em cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static volatile IntrospectionCache defaultInstance =
+        new IntrospectionCache(DEFAULT_MAX_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_MAXIMUM_SIZE);
+
+    private final Duration maxTtl;
+    private final Duration negativeTtl;
+    private final ExpiringCache<String, Responses> cache;
+    private final ExpiringCache<String, Boolean> invalidated;
+
+    /**
+     * Construtor.
+     *
+     * @param maxTtl TTL máximo para tokens ativos
+     * @param negativeTtl TTL para tokens inativos
+     * @param maximumSize Número máximo de respostas (0 desabilita o cache)
+     */
+    public IntrospectionCache(Duration maxTtl, Duration negativeTtl, int maximumSize) {
+        this.maxTtl = maxTtl;
+        this.negativeTtl = negativeTtl;
+        this.cache = new ExpiringCache<>(maximumSize);
+        this.invalidated = new ExpiringCache<>(maximumSize);
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API fluente.
+     *
+     * @return IntrospectionCache padrão
+     */
+    public static IntrospectionCache getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param introspectionCache Nova instância
+     */
+    public static void setDefault(IntrospectionCache introspectionCache) {
+        IntrospectionCache.defaultInstance = introspectionCache;
+    }
+
+    /**
+     * Busca a resposta de introspecção em cache.
+     *
+     * @param token Token introspectado
+     * @param tenantId ID do tenant de contexto
+     * @return Resposta em cache ou null
+     */
+    public IntrospectResponseDTO get(String token, String tenantId) {
+        Responses responses = cache.get(hash(token));
+        return responses != null ? responses.get(tenantId, System.nanoTime()) : null;
+    }
+
+    /**
+     * Armazena a resposta de introspecção com TTL derivado do claim {@code exp}.
+     * Respostas ativas de um token invalidado há menos que o TTL máximo são
+     * descartadas.
+     *
+     * @param token Token introspectado
+     * @param tenantId ID do tenant de contexto
+     * @param response Resposta do servidor
+     */
+    public void put(String token, String tenantId, IntrospectResponseDTO response) {
+        if (response == null) {
+            return;
+        }
+        Duration ttl = ttlFor(response);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        String tokenHash = hash(token);
+        boolean active = Boolean.TRUE.equals(response.getActive());
+        if (active && invalidated.peek(tokenHash) != null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Responses responses = cache.peek(tokenHash);
+        responses = (responses != null ? responses : Responses.EMPTY)
+            .with(tenantId, response, now + ttl.toNanos(), now);
+        cache.put(tokenHash, responses, Duration.ofNanos(responses.expiresAt() - now));
+        // Invalidação concorrente: a marca já existe ou a remoção já viu a entrada
+        if (active && invalidated.peek(tokenHash) != null) {
+            cache.invalidate(tokenHash);
+        }
+    }
+
+    /**
+     * Remove todas as respostas em cache para o token, em qualquer tenant.
+     *
+     * @param token Token revogado ou invalidado
+     */
+    public void invalidate(String token) {
+        String tokenHash = hash(token);
+        invalidated.put(tokenHash, Boolean.TRUE, maxTtl);
+        cache.invalidate(tokenHash);
+    }
+
+    /**
+     * Remove todas as respostas em cache.
+     */
+    public void clear() {
+        cache.clear();
+        invalidated.clear();
+    }
+
+    /**
+     * @return Número de respostas em cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return Total de introspecções servidas pelo cache
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return Total de introspecções que exigiram requisição ao servidor
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return Total de respostas removidas por expiração ou limite de tamanho
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    ExpiringCache<?, ?> store() {
+        return cache;
+    }
+
+    private Duration ttlFor(IntrospectResponseDTO response) {
+        if (!Boolean.TRUE.equals(response.getActive())) {
+            return negativeTtl;
+        }
+        if (response.getExp() == null) {
+            return maxTtl;
+        }
+        Duration untilExpiry = Duration.ofSeconds(response.getExp() - System.currentTimeMillis() / 1000);
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(Objects.requireNonNull(token).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    /**
+     * Respostas de um token por tenant, cada uma com seu instante de
+     * expiração. Imutável: cada inclusão gera uma nova instância.
+     */
+    private record Responses(Map<String, Response> byTenant) {
+
+        private static final Responses EMPTY = new Responses(Map.of());
+
+        IntrospectResponseDTO get(String tenantId, long now) {
+            Response response = byTenant.get(tenantKey(tenantId));
+            return response != null && response.expiresAt() - now > 0 ? response.value() : null;
+        }
+
+        Responses with(String tenantId, IntrospectResponseDTO value, long expiresAt, long now) {
+            Map<String, Response> updated = new HashMap<>();
+            byTenant.forEach((tenant, response) -> {
+                if (response.expiresAt() - now > 0) {
+                    updated.put(tenant, response);
+                }
+            });
+            updated.put(tenantKey(tenantId), new Response(value, expiresAt));
+            return new Responses(updated);
+        }
+
+        long expiresAt() {
+            long latest = Long.MIN_VALUE;
+            for (Response response : byTenant.values()) {
+                if (latest == Long.MIN_VALUE || response.expiresAt() - latest > 0) {
+                    latest = response.expiresAt();
+                }
+            }
+            return latest;
+        }
+
+        private static String tenantKey(String tenantId) {
+            return tenantId != null ? tenantId : "";
+        }
+    }
+
+    private record Response(IntrospectResponseDTO value, long expiresAt) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.conexaoauthlib.cache;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo com hash (hashed timing wheel) para expiração de entradas.
+ *
+ * <p>O tempo é dividido em ticks de duração fixa, distribuídos
+ * circularmente em {@code wheelSize} posições. Cada agendamento é colocado,
+ * em O(1), na posição do tick em que vence; a cada tick apenas a posição
+ * correspondente é percorrida, e as entradas vencidas são entregues ao
+ * callback. Entradas com vencimento além de uma volta permanecem na posição
+ * até a volta em que vencem.</p>
+ *
+ * <p>A roda não tem thread própria: é avançada por {@link #advance(long)},
+ * chamado nas leituras e escritas de quem a usa. Enquanto nenhum tick
+ * passou, o avanço custa uma comparação. Agendamentos entram numa fila sem
+ * bloqueio e são distribuídos nas posições no avanço seguinte. Não há
+ * cancelamento: o callback deve ignorar entradas já substituídas.</p>
+ *
+ * @param <T> Tipo das entradas agendadas
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see EntitlementIndex
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Consumer<T> onExpire;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final Queue<Timeout<T>> scheduled = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTick;
+    private volatile long nextTickAt;
+
+    /**
+     * Construtor.
+     *
+     * @param tickMillis Duração de um tick em milissegundos
+     * @param wheelSize Número de posições (arredondado para potência de 2)
+     * @param onExpire Callback das entradas vencidas
+     * @param nowMillis Instante atual em milissegundos
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, Consumer<T> onExpire, long nowMillis) {
+        int size = Integer.highestOneBit(Math.max(2, Math.min(wheelSize, 1 << 20)) - 1) << 1;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.mask = size - 1;
+        this.onExpire = onExpire;
+        this.buckets = (ArrayDeque<Timeout<T>>[]) new ArrayDeque<?>[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTick = nowMillis / this.tickMillis;
+        this.nextTickAt = (currentTick + 1) * this.tickMillis;
+    }
+
+    /**
+     * Agenda o vencimento de uma entrada.
+     *
+     * @param value Entrada
+     * @param deadlineMillis Instante de vencimento em milissegundos
+     */
+    void schedule(T value, long deadlineMillis) {
+        scheduled.add(new Timeout<>(value, deadlineMillis));
+    }
+
+    /**
+     * Avança a roda até o instante informado, entregando as entradas
+     * vencidas. Se outra thread já está avançando, retorna sem esperar.
+     *
+     * @param nowMillis Instante atual em milissegundos
+     */
+    void advance(long nowMillis) {
+        if (nowMillis < nextTickAt || !lock.tryLock()) {
+            return;
+        }
+        try {
+            long targetTick = nowMillis / tickMillis;
+            distribute(nowMillis, targetTick);
+            long ticks = Math.min(targetTick - currentTick, buckets.length);
+            for (long tick = targetTick - ticks + 1; tick <= targetTick; tick++) {
+                expire(buckets[(int) (tick & mask)], nowMillis);
+            }
+            currentTick = targetTick;
+            nextTickAt = (targetTick + 1) * tickMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Número de entradas agendadas (incluindo substituídas ainda não vencidas)
+     */
+    int size() {
+        lock.lock();
+        try {
+            int size = scheduled.size();
+            for (ArrayDeque<Timeout<T>> bucket : buckets) {
+                size += bucket.size();
+            }
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void distribute(long nowMillis, long targetTick) {
+        Timeout<T> timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            long deadlineTick = (timeout.deadlineMillis() + tickMillis - 1) / tickMillis;
+            if (deadlineTick <= targetTick) {
+                if (timeout.deadlineMillis() <= nowMillis) {
+                    onExpire.accept(timeout.value());
+                    continue;
+                }
+                deadlineTick = targetTick + 1;
+            }
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout<T>> bucket, long nowMillis) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.deadlineMillis() <= nowMillis) {
+                iterator.remove();
+                onExpire.accept(timeout.value());
+            }
+        }
+    }
+
+    private record Timeout<T>(T value, long deadlineMillis) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.conexaoauthlib.cache;
+
+import com.conexaoauthlib.dto.oauth2.TokenResponseDTO;
+
+import java.time.Duration;
+
+/**
+ * Cache de tokens obtidos via Client Credentials Grant.
+ *
+ * <p>Os tokens são mantidos até {@code expires_in} menos uma margem de
+ * segurança, evitando que um token prestes a expirar seja entregue ao
+ * chamador. Tokens sem {@code expires_in} nunca são armazenados.</p>
+ *
+ * <p>A chave é composta por clientId, scope e tenantId. O segredo do
+ * cliente também participa da chave, para que credenciais diferentes
+ * nunca recebam um token obtido por outras.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * // Utilizado automaticamente por AuthClient.clientCredentials(...)
+ * TokenCache cache = TokenCache.getDefault();
+ * long hits = cache.getHitCount();
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see com.conexaoauthlib.fluent.oauth2.AuthClient
+ */
+public class TokenCache {
+
+    /**
+     * Margem de segurança padrão antes da expiração.
+     */
+    public static final Duration DEFAULT_SAFETY_MARGIN = Duration.ofSeconds(30);
+
+    /**
+     * Número máximo padrão de tokens em cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static volatile TokenCache defaultInstance =
+        new TokenCache(DEFAULT_SAFETY_MARGIN, DEFAULT_MAXIMUM_SIZE);
+
+    private final Duration safetyMargin;
+    private final ExpiringCache<Key, TokenResponseDTO> cache;
+
+    /**
+     * Construtor.
+     *
+     * @param safetyMargin Margem subtraída de {@code expires_in}
+     * @param maximumSize Número máximo de tokens (0 desabilita o cache)
+     */
+    public TokenCache(Duration safetyMargin, int maximumSize) {
+        this.safetyMargin = safetyMargin;
+        this.cache = new ExpiringCache<>(maximumSize);
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API fluente.
+     *
+     * @return TokenCache padrão
+     */
+    public static TokenCache getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param tokenCache Nova instância
+     */
+    public static void setDefault(TokenCache tokenCache) {
+        TokenCache.defaultInstance = tokenCache;
+    }
+
+    /**
+     * Busca um token válido em cache.
+     *
+     * @param clientId ID do cliente
+     * @param clientSecret Segredo do cliente
+     * @param scope Escopos solicitados
+     * @param tenantId ID do tenant
+     * @return Token em cache ou null
+     */
+    public TokenResponseDTO get(String clientId, String clientSecret, String scope, String tenantId) {
+        return cache.get(new Key(clientId, clientSecret, scope, tenantId));
+    }
+
+    /**
+     * Armazena um token até {@code expires_in} menos a margem de segurança.
+     *
+     * @param clientId ID do cliente
+     * @param clientSecret Segredo do cliente
+     * @param scope Escopos solicitados
+     * @param tenantId ID do tenant
+     * @param token Token obtido do servidor
+     */
+    public void put(String clientId, String clientSecret, String scope, String tenantId,
+                    TokenResponseDTO token) {
+        if (token == null || token.getExpiresIn() == null) {
+            return;
+        }
+        Duration ttl = Duration.ofSeconds(token.getExpiresIn()).minus(safetyMargin);
+        cache.put(new Key(clientId, clientSecret, scope, tenantId), token, ttl);
+    }
+
+    /**
+     * Remove o token associado às credenciais informadas.
+     *
+     * @param clientId ID do cliente
+     * @param clientSecret Segredo do cliente
+     * @param scope Escopos solicitados
+     * @param tenantId ID do tenant
+     */
+    public void invalidate(String clientId, String clientSecret, String scope, String tenantId) {
+        cache.invalidate(new Key(clientId, clientSecret, scope, tenantId));
+    }
+
+    /**
+     * Remove os tokens em cache cujo access token corresponde ao informado.
+     *
+     * @param accessToken Access token revogado
+     */
+    public void invalidateAccessToken(String accessToken) {
+        cache.invalidateIf((key, token) -> accessToken.equals(token.getAccessToken()));
+    }
+
+    /**
+     * Remove todos os tokens em cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return Margem de segurança configurada
+     */
+    public Duration getSafetyMargin() {
+        return safetyMargin;
+    }
+
+    /**
+     * @return Número de tokens em cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return Total de tokens servidos pelo cache
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return Total de buscas que exigiram requisição ao servidor
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return Total de tokens removidos por expiração ou limite de tamanho
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    ExpiringCache<?, ?> store() {
+        return cache;
+    }
+
+    private record Key(String clientId, String clientSecret, String scope, String tenantId) {
+    }
+}
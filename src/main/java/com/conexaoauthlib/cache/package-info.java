@@ -0,0 +1,46 @@
+/**
+ * Módulo de Cache.
+ *
+ * <p>Este módulo fornece caches em memória utilizados pela API fluente
+ * para evitar chamadas remotas repetidas ao servidor OAuth2/Identity.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>ExpiringCache - Cache genérico com TTL por entrada e tamanho máximo</li>
+ *   <li>TokenCache - Cache de tokens Client Credentials com margem de segurança</li>
+ *   <li>IntrospectionCache - Cache de introspecção limitado pelo claim exp</li>
+ *   <li>EntityCaches - Caches read-through de tenants, clients e usuários,
+ *       com índices secundários e invalidação nas alterações</li>
+ *   <li>FrequencySketch - Estimativa de frequência para admissão TinyLFU</li>
+ *   <li>EntitlementIndex - Índice local de produtos ativos por tenant, com
+ *       expiração por TimingWheel</li>
+ *   <li>CacheMetrics - Métricas de hits, misses, evictions e tamanho</li>
+ *   <li>CacheProperties - Propriedades configuráveis via application.yml</li>
+ * </ul>
+ *
+ * <h3>Configuração:</h3>
+ * <pre>{@code
+ * conexao-auth:
+ *   cache:
+ *     token:
+ *       enabled: true
+ *       safety-margin: 30s
+ *       maximum-size: 1000
+ *     introspection:
+ *       max-ttl: 60s
+ *       negative-ttl: 5s
+ *     entity:
+ *       enabled: true
+ *       tenant-ttl: 60s
+ *     entitlement:
+ *       refresh-interval: 5m
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.cache.TokenCache
+ * @see com.conexaoauthlib.cache.IntrospectionCache
+ * @see com.conexaoauthlib.cache.EntityCaches
+ * @see com.conexaoauthlib.cache.EntitlementIndex
+ * @see com.conexaoauthlib.cache.CacheConfiguration
+ */
+package com.conexaoauthlib.cache;
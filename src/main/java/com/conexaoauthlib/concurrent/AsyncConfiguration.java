@@ -0,0 +1,55 @@
+package com.conexaoauthlib.concurrent;
+
+import com.conexaoauthlib.resilience.ClientBulkheads;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuração do executor utilizado pelos métodos {@code executeAsync()}.
+ *
+ * <p>Cria o {@link AsyncExecutor} a partir de {@link AsyncProperties} e o
+ * registra como instância compartilhada da API fluente.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+public class AsyncConfiguration {
+
+    /**
+     * Executor assíncrono da API fluente.
+     *
+     * @param properties Propriedades de execução assíncrona
+     * @param clientBulkheads Bulkheads dos clientes
+     * @return AsyncExecutor configurado
+     */
+    @Bean
+    public AsyncExecutor asyncExecutor(AsyncProperties properties, ClientBulkheads clientBulkheads) {
+        if (properties.isThreadPoolBulkhead()) {
+            AsyncExecutor asyncExecutor = new AsyncExecutor(
+                clientBulkheads::threadPoolExecutor, properties.getMaxConcurrency());
+            AsyncExecutor.setDefault(asyncExecutor);
+            return asyncExecutor;
+        }
+
+        ExecutorService executor = properties.isVirtualThreads()
+            ? AsyncExecutor.newVirtualThreadExecutor()
+            : newPlatformThreadPool(properties.getPoolSize());
+        AsyncExecutor asyncExecutor = new AsyncExecutor(executor, properties.getMaxConcurrency());
+        AsyncExecutor.setDefault(asyncExecutor);
+        return asyncExecutor;
+    }
+
+    private static ExecutorService newPlatformThreadPool(int poolSize) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "conexaoauth-async-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package com.conexaoauthlib.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executor das operações assíncronas ({@code executeAsync()}) da API fluente.
+ *
+ * <p>Por padrão cada chamada roda em uma virtual thread, de modo que o I/O
+ * bloqueante das requisições HTTP não ocupa threads de plataforma nem o
+ * {@code ForkJoinPool.commonPool()}. Um limite opcional de chamadas
+ * simultâneas pode ser definido por cliente ({@code oauth2}, {@code user},
+ * ...); chamadas acima do limite aguardam, em sua própria virtual thread,
+ * até que uma vaga seja liberada.</p>
+ *
+ * <p>Alternativamente, cada cliente pode usar um executor próprio, como o
+ * Bulkhead de thread pool do cliente. Se o executor recusar a tarefa, o
+ * CompletableFuture retornado é concluído com a exceção de recusa.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * // Utilizado automaticamente pelos métodos executeAsync()
+ * CompletableFuture<UserResponseDTO> future = UserClient.getById("user-id")
+ *     .executeAsync();
+ *
+ * // Executor próprio
+ * AsyncExecutor.setDefault(new AsyncExecutor(myExecutor, Map.of("oauth2", 100)));
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public final class AsyncExecutor implements AutoCloseable {
+
+    private static volatile AsyncExecutor defaultInstance = new AsyncExecutor(newVirtualThreadExecutor(), Map.of());
+
+    private final Function<String, Executor> executors;
+    private final ExecutorService ownedExecutor;
+    private final Map<String, Semaphore> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param executor Executor das chamadas
+     * @param maxConcurrency Limite de chamadas simultâneas por cliente (ausente ou 0 = sem limite)
+     */
+    public AsyncExecutor(Executor executor, Map<String, Integer> maxConcurrency) {
+        this(clientName -> executor, executor instanceof ExecutorService service ? service : null, maxConcurrency);
+    }
+
+    /**
+     * Construtor com um executor por cliente.
+     *
+     * @param executors Função que retorna o executor de cada cliente
+     * @param maxConcurrency Limite de chamadas simultâneas por cliente (ausente ou 0 = sem limite)
+     */
+    public AsyncExecutor(Function<String, Executor> executors, Map<String, Integer> maxConcurrency) {
+        this(executors, null, maxConcurrency);
+    }
+
+    private AsyncExecutor(Function<String, Executor> executors, ExecutorService ownedExecutor,
+                          Map<String, Integer> maxConcurrency) {
+        this.executors = executors;
+        this.ownedExecutor = ownedExecutor;
+        maxConcurrency.forEach((client, limit) -> {
+            if (limit != null && limit > 0) {
+                limits.put(client, new Semaphore(limit, true));
+            }
+        });
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API fluente.
+     *
+     * @return AsyncExecutor padrão
+     */
+    public static AsyncExecutor getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param asyncExecutor Nova instância
+     */
+    public static void setDefault(AsyncExecutor asyncExecutor) {
+        AsyncExecutor.defaultInstance = asyncExecutor;
+    }
+
+    /**
+     * Cria um executor que inicia uma virtual thread por tarefa.
+     *
+     * @return ExecutorService baseado em virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("conexaoauth-async-", 0).factory());
+    }
+
+    /**
+     * Executa a chamada de forma assíncrona.
+     *
+     * @param clientName Nome do cliente (oauth2, tenant, client, user, role, scope)
+     * @param call Chamada bloqueante
+     * @param <T> Tipo do resultado
+     * @return CompletableFuture com o resultado da chamada
+     */
+    public <T> CompletableFuture<T> supply(String clientName, Supplier<T> call) {
+        Executor executor = executors.apply(clientName);
+        Semaphore limit = limits.get(clientName);
+        Supplier<T> task = limit == null ? call : () -> {
+            limit.acquireUninterruptibly();
+            try {
+                return call.get();
+            } finally {
+                limit.release();
+            }
+        };
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Executa a chamada sem retorno de forma assíncrona.
+     *
+     * @param clientName Nome do cliente (oauth2, tenant, client, user, role, scope)
+     * @param call Chamada bloqueante
+     * @return CompletableFuture concluído ao término da chamada
+     */
+    public CompletableFuture<Void> run(String clientName, Runnable call) {
+        return supply(clientName, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Vagas livres do cliente, ou -1 se o cliente não tiver limite
+     */
+    public int getAvailablePermits(String clientName) {
+        Semaphore limit = limits.get(clientName);
+        return limit != null ? limit.availablePermits() : -1;
+    }
+
+    /**
+     * Encerra o executor compartilhado, se for um ExecutorService.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.conexaoauthlib.concurrent;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Propriedades de configuração da execução assíncrona.
+ * Carregadas de application.yml com prefixo "conexao-auth.async".
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   async:
+ *     virtual-threads: true
+ *     thread-pool-bulkhead: false
+ *     max-concurrency:
+ *       oauth2: 200
+ *       user: 100
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.async")
+public class AsyncProperties {
+
+    /**
+     * Executa as chamadas assíncronas em virtual threads.
+     * Valor padrão: true
+     */
+    private boolean virtualThreads = true;
+
+    /**
+     * Tamanho do pool de threads de plataforma quando virtual-threads = false.
+     * Valor padrão: 16
+     */
+    private int poolSize = 16;
+
+    /**
+     * Executa as chamadas assíncronas no Bulkhead de thread pool de cada
+     * cliente, em vez do executor compartilhado.
+     * Valor padrão: false
+     */
+    private boolean threadPoolBulkhead = false;
+
+    /**
+     * Limite de chamadas assíncronas simultâneas por cliente
+     * (oauth2, tenant, client, user, role, scope). Ausente = sem limite.
+     */
+    private Map<String, Integer> maxConcurrency = new HashMap<>();
+}
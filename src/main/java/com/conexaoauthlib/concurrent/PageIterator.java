@@ -0,0 +1,243 @@
+package com.conexaoauthlib.concurrent;
+
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator preguiçoso sobre todos os elementos de uma listagem paginada.
+ *
+ * <p>As páginas são buscadas sob demanda: a primeira na thread do
+ * chamador, as seguintes pelo {@link AsyncExecutor} do cliente enquanto a
+ * página atual é consumida. No máximo {@code prefetch} páginas ficam em
+ * voo além da atual, de modo que a memória não cresce com o total de
+ * elementos. Com {@code prefetch} maior que 1, páginas além da próxima só
+ * são pedidas quando {@code total_pages} é conhecido.</p>
+ *
+ * <p>No modo paralelo ({@link #parallel}), a primeira página informa
+ * {@code total_pages} e as demais são buscadas com até {@code parallelism}
+ * chamadas simultâneas, entregues na ordem das páginas. O paralelismo é
+ * reavaliado a cada página por {@link ResilienceDecorators#parallelism}:
+ * limitado ao Bulkhead do cliente e reduzido a uma chamada por vez enquanto
+ * o CircuitBreaker não estiver fechado.</p>
+ *
+ * <p>Uma falha ao buscar uma página é lançada pelo {@link #hasNext()} que a
+ * aguarda e encerra o iterator. Streams criados por {@link #stream()}
+ * cancelam as buscas pendentes no {@code close()}.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * try (Stream<UserResponseDTO> users = UserClient.list()
+ *         .tenantId("tenant-123")
+ *         .size(100)
+ *         .stream()) {
+ *     users.filter(u -> "ACTIVE".equals(u.getStatus())).forEach(this::sync);
+ * }
+ * }</pre>
+ *
+ * <p>Instâncias não são thread-safe.</p>
+ *
+ * @param <T> Tipo dos elementos
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Páginas buscadas antecipadamente por padrão.
+     */
+    public static final int DEFAULT_PREFETCH = 1;
+
+    private final String clientName;
+    private final IntFunction<PageResponseDTO<T>> fetch;
+    private final int prefetch;
+    private final IntUnaryOperator limit;
+    private final ArrayDeque<CompletableFuture<PageResponseDTO<T>>> inFlight = new ArrayDeque<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private int nextPage;
+    private Integer totalPages;
+    private boolean started;
+    private boolean lastHadNext = true;
+    private boolean exhausted;
+
+    /**
+     * Construtor com {@value #DEFAULT_PREFETCH} página antecipada.
+     *
+     * @param clientName Nome do cliente (tenant, client, user, role)
+     * @param firstPage Primeira página (inicia em 0)
+     * @param fetch Busca de uma página pelo número
+     */
+    public PageIterator(String clientName, int firstPage, IntFunction<PageResponseDTO<T>> fetch) {
+        this(clientName, firstPage, fetch, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @param clientName Nome do cliente (tenant, client, user, role)
+     * @param firstPage Primeira página (inicia em 0)
+     * @param fetch Busca de uma página pelo número
+     * @param prefetch Máximo de páginas em voo além da atual (0 = sem antecipação)
+     */
+    public PageIterator(String clientName, int firstPage, IntFunction<PageResponseDTO<T>> fetch, int prefetch) {
+        this(clientName, firstPage, fetch, prefetch, IntUnaryOperator.identity());
+    }
+
+    private PageIterator(String clientName, int firstPage, IntFunction<PageResponseDTO<T>> fetch, int prefetch,
+                         IntUnaryOperator limit) {
+        this.clientName = clientName;
+        this.fetch = fetch;
+        this.prefetch = Math.max(0, prefetch);
+        this.limit = limit;
+        this.nextPage = Math.max(0, firstPage);
+    }
+
+    /**
+     * Cria um iterator que busca as páginas em paralelo, respeitando o
+     * Bulkhead e o CircuitBreaker do cliente.
+     *
+     * @param clientName Nome do cliente (tenant, client, user, role)
+     * @param firstPage Primeira página (inicia em 0)
+     * @param fetch Busca de uma página pelo número
+     * @param parallelism Máximo de páginas buscadas simultaneamente
+     * @param <T> Tipo dos elementos
+     * @return PageIterator em modo paralelo
+     */
+    public static <T> PageIterator<T> parallel(String clientName, int firstPage,
+                                               IntFunction<PageResponseDTO<T>> fetch, int parallelism) {
+        return new PageIterator<>(clientName, firstPage, fetch, parallelism,
+            requested -> ResilienceDecorators.getDefault().parallelism(clientName, requested));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            PageResponseDTO<T> page;
+            if (!inFlight.isEmpty()) {
+                page = await(inFlight.poll());
+            } else if (canRequest()) {
+                page = fetch.apply(nextPage++);
+            } else {
+                return false;
+            }
+            onPage(page);
+            prefetch();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * @return Stream sequencial e ordenado sobre os elementos restantes
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * Cancela as buscas pendentes e encerra o iterator.
+     */
+    @Override
+    public void close() {
+        exhausted = true;
+        current = Collections.emptyIterator();
+        cancelInFlight();
+    }
+
+    private void onPage(PageResponseDTO<T> page) {
+        started = true;
+        if (totalPages == null && page != null) {
+            totalPages = page.getTotalPages();
+        }
+        List<T> content = page != null ? page.getContent() : null;
+        lastHadNext = content != null && !content.isEmpty() && hasNextPage(page);
+        if (!lastHadNext) {
+            exhausted = true;
+            cancelInFlight();
+        }
+        current = content != null ? content.iterator() : Collections.emptyIterator();
+    }
+
+    private void prefetch() {
+        if (!canRequest()) {
+            return;
+        }
+        int maxInFlight = prefetch > 1 ? limit.applyAsInt(prefetch) : prefetch;
+        while (inFlight.size() < maxInFlight && canRequest()
+                && (inFlight.isEmpty() || totalPages != null)) {
+            int pageNumber = nextPage++;
+            inFlight.add(AsyncExecutor.getDefault().supply(clientName, () -> fetch.apply(pageNumber)));
+        }
+    }
+
+    private boolean canRequest() {
+        if (exhausted) {
+            return false;
+        }
+        if (!started) {
+            return true;
+        }
+        if (totalPages != null) {
+            return nextPage < totalPages;
+        }
+        return lastHadNext && inFlight.isEmpty();
+    }
+
+    private static boolean hasNextPage(PageResponseDTO<?> page) {
+        if (page.getHasNext() != null) {
+            return page.getHasNext();
+        }
+        if (page.getLast() != null) {
+            return !page.getLast();
+        }
+        return page.getTotalPages() != null && page.getPage() != null
+            && page.getPage() + 1 < page.getTotalPages();
+    }
+
+    private PageResponseDTO<T> await(CompletableFuture<PageResponseDTO<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            close();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Falha ao buscar a página", cause);
+        }
+    }
+
+    private void cancelInFlight() {
+        CompletableFuture<PageResponseDTO<T>> future;
+        while ((future = inFlight.poll()) != null) {
+            future.cancel(false);
+        }
+    }
+}
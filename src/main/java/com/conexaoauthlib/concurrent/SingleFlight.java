@@ -0,0 +1,120 @@
+package com.conexaoauthlib.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de chamadas concorrentes idênticas.
+ *
+ * <p>Enquanto uma chamada para determinada chave estiver em andamento,
+ * chamadas concorrentes com a mesma chave não disparam uma nova execução:
+ * aguardam a chamada em andamento e recebem o mesmo resultado ou a mesma
+ * exceção. Após a conclusão, a próxima chamada executa normalmente.</p>
+ *
+ * <p>Com espera limitada ({@link #execute(Object, Supplier, Duration, Supplier)}),
+ * uma chamada que aguarda outra desiste ao fim do próprio limite, sem
+ * interromper a chamada em andamento.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * SingleFlight<String, TokenResponseDTO> flights = new SingleFlight<>();
+ *
+ * TokenResponseDTO token = flights.execute("client-id", () -> client.getToken(request));
+ * }</pre>
+ *
+ * @param <K> Tipo da chave que identifica chamadas idênticas
+ * @param <V> Tipo do resultado
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Executa a chamada ou aguarda uma chamada idêntica já em andamento.
+     *
+     * @param key Chave que identifica a chamada
+     * @param call Chamada a executar caso nenhuma esteja em andamento
+     * @return Resultado da chamada
+     */
+    public V execute(K key, Supplier<V> call) {
+        return execute(key, call, null, null);
+    }
+
+    /**
+     * Executa a chamada ou aguarda, por no máximo {@code maxWait}, uma
+     * chamada idêntica já em andamento.
+     *
+     * @param key Chave que identifica a chamada
+     * @param call Chamada a executar caso nenhuma esteja em andamento
+     * @param maxWait Espera máxima pela chamada em andamento (null = sem limite)
+     * @param onTimeout Exceção lançada quando a espera se esgota
+     * @return Resultado da chamada
+     */
+    public V execute(K key, Supplier<V> call, Duration maxWait, Supplier<? extends RuntimeException> onTimeout) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing, maxWait, onTimeout);
+        }
+
+        try {
+            V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return Número de chamadas em andamento
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return Total de chamadas atendidas por uma chamada já em andamento
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private V await(CompletableFuture<V> flight, Duration maxWait,
+                    Supplier<? extends RuntimeException> onTimeout) {
+        try {
+            if (maxWait == null) {
+                return flight.join();
+            }
+            return flight.get(Math.max(0, maxWait.toNanos()), TimeUnit.NANOSECONDS);
+        } catch (CompletionException | ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        } catch (TimeoutException e) {
+            throw onTimeout.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+}
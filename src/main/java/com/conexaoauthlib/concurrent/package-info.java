@@ -0,0 +1,28 @@
+/**
+ * Módulo de utilitários de concorrência.
+ *
+ * <p>Este módulo fornece primitivas de concorrência utilizadas pela API
+ * fluente para reduzir a carga sobre o servidor OAuth2/Identity.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>SingleFlight - Coalescência de chamadas concorrentes idênticas</li>
+ *   <li>AsyncExecutor - Executor dos métodos executeAsync() baseado em virtual threads</li>
+ *   <li>PageIterator - Iteração preguiçosa das listagens com busca antecipada da próxima página</li>
+ *   <li>AsyncProperties - Propriedades configuráveis via application.yml</li>
+ * </ul>
+ *
+ * <h3>Configuração:</h3>
+ * <pre>{@code
+ * conexao-auth:
+ *   async:
+ *     virtual-threads: true
+ *     max-concurrency:
+ *       oauth2: 200
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.concurrent.SingleFlight
+ * @see com.conexaoauthlib.concurrent.AsyncExecutor
+ */
+package com.conexaoauthlib.concurrent;
@@ -28,7 +28,7 @@ import java.util.List;
  * @version 1.0.0
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ClientFilterDTO {
@@ -0,0 +1,29 @@
+package com.conexaoauthlib.exception;
+
+/**
+ * Exceção para quando o limite adaptativo de concorrência do cliente foi
+ * atingido (HTTP 503).
+ *
+ * <p>Lançada sem realizar a chamada HTTP, quando o número de requisições em
+ * andamento já alcançou o limite calculado a partir da latência observada.
+ * Por ser esperada sob carga, a exceção não captura stack trace.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class ConcurrencyLimitExceededException extends OAuth2Exception {
+
+    /**
+     * Construtor com mensagem apenas.
+     *
+     * @param message Mensagem descritiva do erro
+     */
+    public ConcurrencyLimitExceededException(String message) {
+        super(message, "concurrency_limit_exceeded", 503);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
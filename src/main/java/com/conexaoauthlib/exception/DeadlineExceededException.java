@@ -0,0 +1,29 @@
+package com.conexaoauthlib.exception;
+
+/**
+ * Exceção para quando o prazo da chamada, definido com
+ * {@code .deadline(Duration)} nos builders fluentes, se esgotou (HTTP 504).
+ *
+ * <p>Lançada antes de uma nova tentativa quando o prazo já passou, ou
+ * quando a tentativa em andamento não responde dentro do tempo restante.
+ * Por ser esperada sob carga, a exceção não captura stack trace.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class DeadlineExceededException extends OAuth2Exception {
+
+    /**
+     * Construtor com mensagem apenas.
+     *
+     * @param message Mensagem descritiva do erro
+     */
+    public DeadlineExceededException(String message) {
+        super(message, "deadline_exceeded", 504);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,25 @@
+package com.conexaoauthlib.exception;
+
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das exceções da biblioteca.
+ *
+ * <p>Aplica {@link ExceptionProperties#isStackTraces()} ao modo de captura
+ * de stack trace de {@link OAuth2Exception}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+public class ExceptionConfiguration {
+
+    /**
+     * Construtor.
+     *
+     * @param properties Propriedades das exceções
+     */
+    public ExceptionConfiguration(ExceptionProperties properties) {
+        OAuth2Exception.setStackTracesEnabled(properties.isStackTraces());
+    }
+}
@@ -0,0 +1,32 @@
+package com.conexaoauthlib.exception;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propriedades das exceções da biblioteca.
+ * Carregadas de application.yml com prefixo "conexao-auth.exceptions".
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   exceptions:
+ *     stack-traces: false
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.exceptions")
+public class ExceptionProperties {
+
+    /**
+     * Captura stack traces nos erros esperados (404, 401, grant e client
+     * inválidos). Útil apenas para depuração.
+     * Valor padrão: false
+     */
+    private boolean stackTraces = false;
+}
@@ -6,6 +6,9 @@ package com.conexaoauthlib.exception;
  * <p>Lançada quando o client_id ou client_secret são inválidos,
  * ou quando o cliente não está autorizado para o grant type solicitado.</p>
  *
+ * <p>Por ser esperada em regime normal, é criada sem stack trace, salvo
+ * com {@link OAuth2Exception#setStackTracesEnabled(boolean)}.</p>
+ *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
  */
@@ -18,7 +21,7 @@ public class InvalidClientException extends OAuth2Exception {
      * @param errorCode Código de erro OAuth2
      */
     public InvalidClientException(String message, String errorCode) {
-        super(message, errorCode, 401);
+        super(message, errorCode, 401, null, isStackTracesEnabled());
     }
 
     /**
@@ -29,6 +32,6 @@ public class InvalidClientException extends OAuth2Exception {
      * @param cause Causa da exceção
      */
     public InvalidClientException(String message, String errorCode, Throwable cause) {
-        super(message, errorCode, 401, cause);
+        super(message, errorCode, 401, cause, isStackTracesEnabled());
     }
 }
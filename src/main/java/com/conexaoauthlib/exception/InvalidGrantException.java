@@ -6,6 +6,9 @@ package com.conexaoauthlib.exception;
  * <p>Lançada quando o grant type é inválido, o token expirou,
  * ou os parâmetros da requisição estão incorretos.</p>
  *
+ * <p>Por ser esperada em regime normal, é criada sem stack trace, salvo
+ * com {@link OAuth2Exception#setStackTracesEnabled(boolean)}.</p>
+ *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
  */
@@ -18,7 +21,7 @@ public class InvalidGrantException extends OAuth2Exception {
      * @param errorCode Código de erro OAuth2
      */
     public InvalidGrantException(String message, String errorCode) {
-        super(message, errorCode, 400);
+        super(message, errorCode, 400, null, isStackTracesEnabled());
     }
 
     /**
@@ -29,6 +32,6 @@ public class InvalidGrantException extends OAuth2Exception {
      * @param cause Causa da exceção
      */
     public InvalidGrantException(String message, String errorCode, Throwable cause) {
-        super(message, errorCode, 400, cause);
+        super(message, errorCode, 400, cause, isStackTracesEnabled());
     }
 }
@@ -6,11 +6,21 @@ package com.conexaoauthlib.exception;
  * <p>Esta é a classe pai para todas as exceções relacionadas a operações OAuth2,
  * incluindo erros de autenticação, grants inválidos e problemas de servidor.</p>
  *
+ * <p>Erros esperados em regime normal ({@link InvalidGrantException},
+ * {@link InvalidClientException}, {@link ResourceNotFoundException} e
+ * {@link UnauthorizedException}) são criados sem stack trace, a parte mais
+ * cara da exceção, a menos que a captura seja habilitada com
+ * {@link #setStackTracesEnabled(boolean)} (propriedade
+ * {@code conexao-auth.exceptions.stack-traces}). Código de erro, status HTTP,
+ * mensagem e causa são mantidos.</p>
+ *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
  */
 public class OAuth2Exception extends RuntimeException {
 
+    private static volatile boolean stackTracesEnabled;
+
     private final String errorCode;
     private final int httpStatus;
 
@@ -53,6 +63,38 @@ public class OAuth2Exception extends RuntimeException {
         this.httpStatus = httpStatus;
     }
 
+    /**
+     * Construtor para subclasses que controlam a captura do stack trace.
+     *
+     * @param message Mensagem de erro
+     * @param errorCode Código de erro OAuth2
+     * @param httpStatus Código HTTP status
+     * @param cause Causa da exceção (pode ser null)
+     * @param writableStackTrace false para não capturar o stack trace
+     */
+    protected OAuth2Exception(String message, String errorCode, int httpStatus, Throwable cause,
+                              boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+    }
+
+    /**
+     * Habilita ou desabilita a captura de stack trace nos erros esperados.
+     *
+     * @param enabled true para capturar stack traces (depuração)
+     */
+    public static void setStackTracesEnabled(boolean enabled) {
+        stackTracesEnabled = enabled;
+    }
+
+    /**
+     * @return true se os erros esperados capturam stack trace
+     */
+    public static boolean isStackTracesEnabled() {
+        return stackTracesEnabled;
+    }
+
     /**
      * Retorna o código de erro OAuth2.
      *
@@ -6,10 +6,13 @@ package com.conexaoauthlib.exception;
  * <p>Lançada quando uma operação tenta acessar um recurso
  * que não existe ou foi removido.</p>
  *
+ * <p>Por ser esperada em regime normal, é criada sem stack trace, salvo
+ * com {@link OAuth2Exception#setStackTracesEnabled(boolean)}.</p>
+ *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
  */
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends OAuth2Exception {
 
     /**
      * Construtor com mensagem.
@@ -17,7 +20,7 @@ public class ResourceNotFoundException extends RuntimeException {
      * @param message Mensagem descritiva do erro
      */
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, "not_found", 404, null, isStackTracesEnabled());
     }
 
     /**
@@ -27,6 +30,6 @@ public class ResourceNotFoundException extends RuntimeException {
      * @param cause Causa da exceção
      */
     public ResourceNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, "not_found", 404, cause, isStackTracesEnabled());
     }
 }
@@ -6,10 +6,13 @@ package com.conexaoauthlib.exception;
  * <p>Lançada quando uma operação requer autenticação ou autorização
  * que não foi fornecida ou é inválida.</p>
  *
+ * <p>Por ser esperada em regime normal, é criada sem stack trace, salvo
+ * com {@link OAuth2Exception#setStackTracesEnabled(boolean)}.</p>
+ *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
  */
-public class UnauthorizedException extends RuntimeException {
+public class UnauthorizedException extends OAuth2Exception {
 
     /**
      * Construtor com mensagem.
@@ -17,7 +20,7 @@ public class UnauthorizedException extends RuntimeException {
      * @param message Mensagem descritiva do erro
      */
     public UnauthorizedException(String message) {
-        super(message);
+        super(message, "unauthorized", 401, null, isStackTracesEnabled());
     }
 
     /**
@@ -27,6 +30,6 @@ public class UnauthorizedException extends RuntimeException {
      * @param cause Causa da exceção
      */
     public UnauthorizedException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, "unauthorized", 401, cause, isStackTracesEnabled());
     }
 }
@@ -7,6 +7,10 @@ import com.conexaoauthlib.dto.client.ClientSecretResponseDTO;
 import com.conexaoauthlib.dto.client.ClientStatusDTO;
 import com.conexaoauthlib.dto.common.PageResponseDTO;
 import com.conexaoauthlib.exception.CircuitBreakerOpenException;
+import com.conexaoauthlib.resilience.Hedged;
+import com.conexaoauthlib.resilience.IdempotencyKey;
+import com.conexaoauthlib.resilience.Idempotent;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -14,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface Feign Client para operações de Client OAuth2.
@@ -95,6 +100,8 @@ public interface ClientClient {
     )
     @CircuitBreaker(name = "client", fallbackMethod = "createFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
+    @IdempotencyKey
     ClientResponseDTO create(
         @RequestBody ClientCreateRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -111,11 +118,32 @@ public interface ClientClient {
     @GetMapping(value = "/api/clients")
     @CircuitBreaker(name = "client", fallbackMethod = "listFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
     PageResponseDTO<ClientResponseDTO> list(
         @ModelAttribute ClientFilterDTO filter,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
     );
 
+    /**
+     * Lista os clients da página como Stream, decodificando cada elemento à medida
+     * que o Stream é consumido. A resposta fica aberta até o Stream ser
+     * esgotado ou fechado.
+     *
+     * @param filter Parâmetros de filtro e paginação
+     * @param xTenantId Header de contexto (opcional)
+     * @return Stream com os clients da página
+     * @throws CircuitBreakerOpenException se o circuit breaker estiver aberto
+     * @see com.conexaoauthlib.feign.codec.StreamingDecoder
+     */
+    @GetMapping(value = "/api/clients")
+    @CircuitBreaker(name = "client", fallbackMethod = "streamFallback")
+    @Retry(name = "client")
+    @Bulkhead(name = "client")
+    Stream<ClientResponseDTO> stream(
+        @ModelAttribute ClientFilterDTO filter,
+        @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
+    );
+
     /**
      * Busca client pelo ID interno.
      *
@@ -127,6 +155,8 @@ public interface ClientClient {
     @GetMapping(value = "/api/clients/{id}")
     @CircuitBreaker(name = "client", fallbackMethod = "getFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
+    @Hedged
     ClientResponseDTO getById(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -143,6 +173,8 @@ public interface ClientClient {
     @GetMapping(value = "/api/clients/by-clientId/{clientId}")
     @CircuitBreaker(name = "client", fallbackMethod = "getByClientIdFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
+    @Hedged
     ClientResponseDTO getByClientId(
         @PathVariable("clientId") String clientId,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -160,6 +192,8 @@ public interface ClientClient {
     @PatchMapping(value = "/api/clients/{id}/status")
     @CircuitBreaker(name = "client", fallbackMethod = "updateStatusFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
+    @Idempotent
     ClientResponseDTO updateStatus(
         @PathVariable("id") String id,
         @RequestBody ClientStatusDTO request,
@@ -183,6 +217,8 @@ public interface ClientClient {
     )
     @CircuitBreaker(name = "client", fallbackMethod = "regenerateSecretFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
+    @IdempotencyKey(deduplicate = false)
     ClientSecretResponseDTO regenerateSecret(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -198,6 +234,7 @@ public interface ClientClient {
     @DeleteMapping(value = "/api/clients/{id}")
     @CircuitBreaker(name = "client", fallbackMethod = "deleteFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
     void delete(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -219,6 +256,7 @@ public interface ClientClient {
     )
     @CircuitBreaker(name = "client", fallbackMethod = "updateFallback")
     @Retry(name = "client")
+    @Bulkhead(name = "client")
     ClientResponseDTO update(
         @PathVariable("id") String id,
         @RequestBody ClientCreateRequestDTO request,
@@ -239,6 +277,12 @@ public interface ClientClient {
             "Client service unavailable - unable to list clients", t);
     }
 
+    default Stream<ClientResponseDTO> streamFallback(ClientFilterDTO filter,
+                                                      String xTenantId, Throwable t) {
+        throw new CircuitBreakerOpenException(
+            "Client service unavailable - unable to stream clients", t);
+    }
+
     default ClientResponseDTO getFallback(String id, String xTenantId, Throwable t) {
         throw new CircuitBreakerOpenException(
             "Client service unavailable - unable to get client", t);
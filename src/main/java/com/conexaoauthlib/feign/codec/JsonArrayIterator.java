@@ -0,0 +1,136 @@
+package com.conexaoauthlib.feign.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator sobre os elementos de um array JSON, lidos um a um do stream.
+ *
+ * <p>O array pode ser o próprio documento ({@code [...]}) ou o campo
+ * {@code content} de um objeto, como em {@code PageResponseDTO}; os demais
+ * campos do objeto são ignorados. Apenas o elemento atual fica em memória,
+ * independentemente do tamanho da resposta.</p>
+ *
+ * <p>O stream é fechado ao fim do array, em caso de erro ou no
+ * {@link #close()}. Instâncias não são thread-safe.</p>
+ *
+ * @param <T> Tipo dos elementos
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Campo com os elementos em respostas paginadas.
+     */
+    public static final String CONTENT_FIELD = "content";
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final AutoCloseable source;
+    private T next;
+    private boolean done;
+
+    /**
+     * Construtor. Posiciona o parser no início do array.
+     *
+     * @param input Corpo JSON
+     * @param reader Leitor do tipo dos elementos
+     * @param source Recurso fechado junto com o iterator (ex.: a resposta)
+     * @throws IOException se o corpo não puder ser lido
+     */
+    public JsonArrayIterator(InputStream input, ObjectReader reader, AutoCloseable source) throws IOException {
+        this.reader = reader;
+        this.source = source;
+        this.parser = reader.getFactory().createParser(input);
+        try {
+            done = !moveToArray();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (done) {
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            next = reader.readValue(parser);
+            return next != null || hasNext();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Falha ao ler elemento da resposta", e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        return element;
+    }
+
+    /**
+     * Fecha o parser e o recurso de origem.
+     */
+    @Override
+    public void close() {
+        done = true;
+        next = null;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            // corpo já descartado
+        }
+        try {
+            source.close();
+        } catch (Exception e) {
+            // corpo já descartado
+        }
+    }
+
+    private boolean moveToArray() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return true;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            token = parser.nextToken();
+            if (CONTENT_FIELD.equals(field) && token == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
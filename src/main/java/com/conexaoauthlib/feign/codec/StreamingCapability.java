@@ -0,0 +1,82 @@
+package com.conexaoauthlib.feign.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Capability;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Habilita métodos {@code Stream<T>} em um Feign Client.
+ *
+ * <p>Envolve o decoder do cliente em um {@link StreamingDecoder} e o error
+ * decoder em um que fecha a resposta após a decodificação, já que o Feign
+ * deixa de fechá-la com {@code doNotCloseAfterDecode()}.</p>
+ *
+ * <p>O {@link ObjectMapper} é o do conversor Jackson registrado em
+ * {@link HttpMessageConverters}, o mesmo que o decoder padrão do Spring
+ * Cloud OpenFeign utiliza.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Bean
+ * public FeignBuilderCustomizer scopeStreamingCustomizer(
+ *         ObjectFactory<HttpMessageConverters> messageConverters) {
+ *     return StreamingCapability.customizer(messageConverters);
+ * }
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class StreamingCapability implements Capability {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construtor.
+     *
+     * @param objectMapper ObjectMapper usado na leitura dos elementos
+     */
+    public StreamingCapability(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param messageConverters Conversores HTTP da aplicação
+     * @return Customizer que aplica {@code doNotCloseAfterDecode()} e esta capability
+     */
+    public static FeignBuilderCustomizer customizer(ObjectFactory<HttpMessageConverters> messageConverters) {
+        return builder -> builder.doNotCloseAfterDecode()
+            .addCapability(new StreamingCapability(objectMapper(messageConverters.getObject())));
+    }
+
+    private static ObjectMapper objectMapper(HttpMessageConverters messageConverters) {
+        return messageConverters.getConverters().stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "Nenhum MappingJackson2HttpMessageConverter registrado em HttpMessageConverters"));
+    }
+
+    @Override
+    public Decoder enrich(Decoder decoder) {
+        return decoder instanceof StreamingDecoder ? decoder : new StreamingDecoder(decoder, objectMapper);
+    }
+
+    @Override
+    public ErrorDecoder enrich(ErrorDecoder errorDecoder) {
+        return (methodKey, response) -> {
+            try {
+                return errorDecoder.decode(methodKey, response);
+            } finally {
+                Util.ensureClosed(response.body());
+            }
+        };
+    }
+}
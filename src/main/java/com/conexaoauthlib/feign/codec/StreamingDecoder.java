@@ -0,0 +1,95 @@
+package com.conexaoauthlib.feign.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decoder que entrega métodos {@code Stream<T>} elemento a elemento.
+ *
+ * <p>Para métodos que retornam {@code Stream<T>}, o corpo é lido com o
+ * parser de streaming do Jackson à medida que o Stream é consumido
+ * ({@link JsonArrayIterator}), e a resposta fica aberta até o Stream ser
+ * esgotado ou fechado. Os demais tipos são decodificados pelo decoder
+ * original, e a resposta é fechada em seguida.</p>
+ *
+ * <p>Os elementos são lidos com o {@link ObjectMapper} da aplicação, o mesmo
+ * usado pelo decoder original, e portanto respeitam os módulos e as
+ * configurações de desserialização registrados nele.</p>
+ *
+ * <p>Requer {@code doNotCloseAfterDecode()} no builder do Feign, aplicado
+ * por {@link StreamingCapability#customizer}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class StreamingDecoder implements Decoder {
+
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final Decoder delegate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construtor.
+     *
+     * @param delegate Decoder dos tipos que não são {@code Stream<T>}
+     * @param objectMapper ObjectMapper usado na leitura dos elementos
+     */
+    public StreamingDecoder(Decoder delegate, ObjectMapper objectMapper) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        Type elementType = streamElementType(type);
+        if (elementType == null) {
+            try {
+                return delegate.decode(response, type);
+            } finally {
+                Util.ensureClosed(response.body());
+            }
+        }
+        if (response.body() == null) {
+            response.close();
+            return Stream.empty();
+        }
+        JsonArrayIterator<Object> iterator;
+        try {
+            iterator = new JsonArrayIterator<>(response.body().asInputStream(), reader(elementType), response);
+        } catch (IOException e) {
+            Util.ensureClosed(response.body());
+            throw new DecodeException(response.status(), "Falha ao iniciar a leitura da resposta",
+                response.request(), e);
+        }
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+
+    private static Type streamElementType(Type type) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == Stream.class) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return null;
+    }
+
+    private ObjectReader reader(Type elementType) {
+        return readers.computeIfAbsent(elementType,
+            t -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(t)));
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * Módulo de Decodificação em Streaming.
+ *
+ * <p>Este módulo permite que métodos Feign retornem {@code Stream<T>},
+ * decodificando respostas de listagem elemento a elemento com o parser de
+ * streaming do Jackson. A memória usada fica limitada ao tamanho de um
+ * elemento, e não ao tamanho da resposta.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>StreamingDecoder - Decoder que entrega {@code Stream<T>} de forma preguiçosa</li>
+ *   <li>JsonArrayIterator - Iterator sobre um array JSON (ou o campo {@code content})</li>
+ *   <li>StreamingCapability - Aplica o decoder e o fechamento das respostas a um cliente</li>
+ * </ul>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * try (Stream<ScopeResponseDTO> scopes = ScopeClient.list().stream()) {
+ *     scopes.map(ScopeResponseDTO::getName).forEach(names::add);
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.feign.codec.StreamingDecoder
+ * @see com.conexaoauthlib.feign.codec.StreamingCapability
+ */
+package com.conexaoauthlib.feign.codec;
@@ -1,5 +1,6 @@
 package com.conexaoauthlib.feign.config;
 
+import com.conexaoauthlib.resilience.IdempotencyKeys;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +11,8 @@ import org.springframework.stereotype.Component;
  * Interceptor para adicionar headers padrão em todas as requisições Feign.
  *
  * <p>Este interceptor garante que todas as requisições tenham os headers
- * necessários para comunicação com o servidor OAuth2.</p>
+ * necessários para comunicação com o servidor OAuth2, incluindo a chave
+ * de idempotência das chamadas de criação.</p>
  *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
@@ -35,6 +37,14 @@ public class FeignClientInterceptor implements RequestInterceptor {
             template.header(HttpHeaders.ACCEPT, "application/json");
         }
 
-        LOGGER.fine("Applied Feign interceptor for URL: " + template.url());
+        // Chave de idempotência, a mesma em todas as tentativas do Retry
+        String idempotencyKey = IdempotencyKeys.current();
+        if (idempotencyKey != null) {
+            template.header(IdempotencyKeys.getDefault().getHeaderName(), idempotencyKey);
+        }
+
+        if (LOGGER.isLoggable(java.util.logging.Level.FINE)) {
+            LOGGER.fine("Applied Feign interceptor for URL: " + template.url());
+        }
     }
 }
@@ -0,0 +1,130 @@
+package com.conexaoauthlib.feign.error;
+
+import com.conexaoauthlib.dto.oauth2.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Corpo de uma resposta de erro, lido sob demanda.
+ *
+ * <p>O corpo só é lido quando uma regra de {@link TableErrorDecoder} (ou o
+ * log) precisa dele, e no máximo {@value #MAX_BODY_BYTES} bytes são
+ * consumidos. O JSON de erro OAuth2 só é interpretado quando o código ou a
+ * descrição do erro são pedidos, com um {@link ObjectReader} compartilhado.</p>
+ *
+ * <p>Instâncias são válidas apenas durante o {@code decode}, enquanto a
+ * resposta está aberta, e não são thread-safe.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public final class ErrorBody {
+
+    /**
+     * Número máximo de bytes lidos do corpo de erro.
+     */
+    public static final int MAX_BODY_BYTES = 4096;
+
+    private static final Logger LOGGER = Logger.getLogger(ErrorBody.class.getName());
+
+    private static final ObjectReader ERROR_READER = new ObjectMapper().readerFor(ErrorResponseDTO.class);
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Response response;
+    private byte[] bytes;
+    private String text;
+    private ErrorResponseDTO error;
+    private boolean parsed;
+
+    /**
+     * Construtor.
+     *
+     * @param response Resposta de erro do Feign
+     */
+    public ErrorBody(Response response) {
+        this.response = response;
+    }
+
+    /**
+     * @return Status HTTP da resposta
+     */
+    public int status() {
+        return response.status();
+    }
+
+    /**
+     * @return Corpo como texto UTF-8 (vazio se ausente ou ilegível)
+     */
+    public String text() {
+        if (text == null) {
+            byte[] content = bytes();
+            text = content.length == 0 ? "" : new String(content, StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+
+    /**
+     * @return Erro OAuth2 do corpo, ou null se o corpo não for um JSON de erro
+     */
+    public ErrorResponseDTO error() {
+        if (!parsed) {
+            parsed = true;
+            byte[] content = bytes();
+            if (content.length > 0) {
+                try {
+                    error = ERROR_READER.readValue(content);
+                } catch (IOException e) {
+                    LOGGER.fine("Failed to parse error response as ErrorResponseDTO");
+                }
+            }
+        }
+        return error;
+    }
+
+    /**
+     * @param defaultValue Valor quando ausente
+     * @return Campo {@code error} do JSON de erro OAuth2
+     */
+    public String errorCode(String defaultValue) {
+        ErrorResponseDTO dto = error();
+        return dto != null && dto.getError() != null ? dto.getError() : defaultValue;
+    }
+
+    /**
+     * @param defaultValue Valor quando ausente
+     * @return Campo {@code error_description} do JSON de erro OAuth2
+     */
+    public String errorDescription(String defaultValue) {
+        ErrorResponseDTO dto = error();
+        return dto != null && dto.getErrorDescription() != null ? dto.getErrorDescription() : defaultValue;
+    }
+
+    private byte[] bytes() {
+        if (bytes == null) {
+            bytes = read();
+        }
+        return bytes;
+    }
+
+    private byte[] read() {
+        if (response.body() == null) {
+            return EMPTY;
+        }
+        try (InputStream inputStream = response.body().asInputStream()) {
+            return inputStream.readNBytes(MAX_BODY_BYTES);
+        } catch (IOException e) {
+            if (LOGGER.isLoggable(Level.SEVERE)) {
+                LOGGER.severe("Failed to read error body: " + e.getMessage());
+            }
+            return EMPTY;
+        }
+    }
+}
@@ -5,12 +5,8 @@ import com.conexaoauthlib.exception.ConflictException;
 import com.conexaoauthlib.exception.InvalidOperationException;
 import com.conexaoauthlib.exception.ResourceNotFoundException;
 import com.conexaoauthlib.exception.ServerException;
-import feign.Response;
-import feign.codec.ErrorDecoder;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -21,61 +17,40 @@ import java.util.logging.Logger;
  *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
+ * @see TableErrorDecoder
  */
-public class RoleErrorDecoder implements ErrorDecoder {
+public class RoleErrorDecoder extends TableErrorDecoder {
 
     private static final Logger LOGGER = Logger.getLogger(RoleErrorDecoder.class.getName());
 
-    @Override
-    public Exception decode(String methodKey, Response response) {
-        int status = response.status();
-
-        String body = readBody(response);
-
-        return switch (status) {
-            case 404 -> {
-                LOGGER.warning("Role not found: " + body);
-                yield new ResourceNotFoundException("Role não encontrada: " + body);
-            }
-            case 409 -> {
-                LOGGER.warning("Role conflict: " + body);
-                yield new ConflictException("Role em uso ou nome duplicado: " + body);
-            }
-            case 400 -> {
-                LOGGER.warning("Role bad request: " + body);
-                yield new InvalidOperationException("Dados inválidos: " + body);
-            }
-            case 403 -> {
-                LOGGER.warning("Role forbidden: " + body);
-                yield new SecurityException("Acesso negado ao recurso: " + body);
-            }
-            case 503 -> {
-                LOGGER.severe("Role service unavailable");
-                yield new CircuitBreakerOpenException("Role service unavailable");
-            }
-            case 500, 502, 504 -> {
-                LOGGER.severe("Role server error: " + body);
-                yield new ServerException("Erro interno do servidor: " + body);
-            }
-            default -> {
-                LOGGER.warning("Role unknown error: HTTP " + status + " - " + body);
-                yield new RuntimeException("Erro HTTP: " + status + " - " + body);
-            }
-        };
-    }
-
-    private String readBody(Response response) {
-        if (response.body() == null) {
-            return "";
-        }
-
-        try {
-            InputStream inputStream = response.body().asInputStream();
-            byte[] bytes = inputStream.readAllBytes();
-            return new String(bytes, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            LOGGER.severe("Failed to read error body: " + e.getMessage());
-            return "";
-        }
+    private static final Table TABLE = table()
+        .on(404, Level.WARNING,
+            body -> "Role not found: " + body.text(),
+            body -> new ResourceNotFoundException("Role não encontrada: " + body.text()))
+        .on(409, Level.WARNING,
+            body -> "Role conflict: " + body.text(),
+            body -> new ConflictException("Role em uso ou nome duplicado: " + body.text()))
+        .on(400, Level.WARNING,
+            body -> "Role bad request: " + body.text(),
+            body -> new InvalidOperationException("Dados inválidos: " + body.text()))
+        .on(403, Level.WARNING,
+            body -> "Role forbidden: " + body.text(),
+            body -> new SecurityException("Acesso negado ao recurso: " + body.text()))
+        .on(503, Level.SEVERE,
+            body -> "Role service unavailable",
+            body -> new CircuitBreakerOpenException("Role service unavailable"))
+        .on(new int[] {500, 502, 504}, Level.SEVERE,
+            body -> "Role server error: " + body.text(),
+            body -> new ServerException("Erro interno do servidor: " + body.text()))
+        .otherwise(Level.WARNING,
+            body -> "Role unknown error: HTTP " + body.status() + " - " + body.text(),
+            body -> new RuntimeException("Erro HTTP: " + body.status() + " - " + body.text()))
+        .build();
+
+    /**
+     * Construtor.
+     */
+    public RoleErrorDecoder() {
+        super(LOGGER, TABLE);
     }
 }
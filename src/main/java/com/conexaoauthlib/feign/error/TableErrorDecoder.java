@@ -0,0 +1,166 @@
+package com.conexaoauthlib.feign.error;
+
+import feign.Response;
+import feign.codec.ErrorDecoder;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Error decoder orientado por tabela, base dos decoders de todos os clientes.
+ *
+ * <p>Cada status HTTP aponta diretamente (por índice) para uma regra com a
+ * exceção a criar e a mensagem de log. O corpo da resposta é lido e
+ * interpretado sob demanda por {@link ErrorBody}: regras que não usam o
+ * corpo não o leem, e a mensagem de log só é montada quando o nível está
+ * habilitado.</p>
+ *
+ * <h3>Exemplo de tabela:</h3>
+ * <pre>{@code
+ * TableErrorDecoder.Table table = TableErrorDecoder.table()
+ *     .on(404, Level.WARNING,
+ *         body -> "User not found: " + body.text(),
+ *         body -> new ResourceNotFoundException("Usuário não encontrado: " + body.text()))
+ *     .otherwise(Level.WARNING,
+ *         body -> "User unknown error: HTTP " + body.status() + " - " + body.text(),
+ *         body -> new RuntimeException("Erro HTTP: " + body.status() + " - " + body.text()))
+ *     .build();
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ErrorBody
+ */
+public class TableErrorDecoder implements ErrorDecoder {
+
+    private static final int MAX_STATUS = 600;
+
+    private final Logger logger;
+    private final Table table;
+
+    /**
+     * Construtor.
+     *
+     * @param logger Logger das mensagens de erro
+     * @param table Tabela de regras
+     */
+    public TableErrorDecoder(Logger logger, Table table) {
+        this.logger = logger;
+        this.table = table;
+    }
+
+    /**
+     * Inicia a construção de uma tabela de regras.
+     *
+     * @return Builder da tabela
+     */
+    public static TableBuilder table() {
+        return new TableBuilder();
+    }
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        Rule rule = table.rule(response.status());
+        ErrorBody body = new ErrorBody(response);
+        Exception exception = rule.exception().apply(body);
+        if (logger.isLoggable(rule.level())) {
+            logger.log(rule.level(), rule.message().apply(body));
+        }
+        return exception;
+    }
+
+    /**
+     * Regra de um status: nível e mensagem de log, e exceção a criar.
+     */
+    private record Rule(Level level, Function<ErrorBody, String> message,
+                        Function<ErrorBody, ? extends Exception> exception) {
+    }
+
+    /**
+     * Tabela imutável de regras, indexada pelo status HTTP.
+     */
+    public static final class Table {
+        private final Rule[] rules;
+        private final Rule fallback;
+
+        private Table(Rule[] rules, Rule fallback) {
+            this.rules = rules;
+            this.fallback = fallback;
+        }
+
+        private Rule rule(int status) {
+            Rule rule = status >= 0 && status < MAX_STATUS ? rules[status] : null;
+            return rule != null ? rule : fallback;
+        }
+    }
+
+    /**
+     * Builder de {@link Table}.
+     */
+    public static final class TableBuilder {
+        private final Rule[] rules = new Rule[MAX_STATUS];
+        private Rule fallback;
+
+        private TableBuilder() {
+        }
+
+        /**
+         * Define a regra de um ou mais status.
+         *
+         * @param status Status HTTP
+         * @param level Nível do log
+         * @param message Mensagem de log (montada só se o nível estiver habilitado)
+         * @param exception Exceção a devolver
+         * @return this builder
+         */
+        public TableBuilder on(int status, Level level, Function<ErrorBody, String> message,
+                               Function<ErrorBody, ? extends Exception> exception) {
+            return on(new int[] {status}, level, message, exception);
+        }
+
+        /**
+         * Define a mesma regra para vários status.
+         *
+         * @param statuses Status HTTP
+         * @param level Nível do log
+         * @param message Mensagem de log (montada só se o nível estiver habilitado)
+         * @param exception Exceção a devolver
+         * @return this builder
+         */
+        public TableBuilder on(int[] statuses, Level level, Function<ErrorBody, String> message,
+                               Function<ErrorBody, ? extends Exception> exception) {
+            Rule rule = new Rule(level, message, exception);
+            for (int status : statuses) {
+                rules[status] = rule;
+            }
+            return this;
+        }
+
+        /**
+         * Define a regra dos status sem regra própria.
+         *
+         * @param level Nível do log
+         * @param message Mensagem de log (montada só se o nível estiver habilitado)
+         * @param exception Exceção a devolver
+         * @return this builder
+         */
+        public TableBuilder otherwise(Level level, Function<ErrorBody, String> message,
+                                      Function<ErrorBody, ? extends Exception> exception) {
+            this.fallback = new Rule(level, message, exception);
+            return this;
+        }
+
+        /**
+         * @return Tabela imutável
+         * @throws IllegalStateException se a regra padrão não foi definida
+         */
+        public Table build() {
+            if (fallback == null) {
+                throw new IllegalStateException("Regra padrão (otherwise) não definida");
+            }
+            return new Table(Arrays.copyOf(rules, MAX_STATUS), fallback);
+        }
+    }
+}
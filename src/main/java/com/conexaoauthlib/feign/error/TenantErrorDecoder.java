@@ -4,13 +4,8 @@ import com.conexaoauthlib.exception.CircuitBreakerOpenException;
 import com.conexaoauthlib.exception.ConflictException;
 import com.conexaoauthlib.exception.ResourceNotFoundException;
 import com.conexaoauthlib.exception.ServerException;
-import feign.Response;
-import feign.codec.ErrorDecoder;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.lang.reflect.Field;
-import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -21,57 +16,37 @@ import java.util.logging.Logger;
  *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
+ * @see TableErrorDecoder
  */
-public class TenantErrorDecoder implements ErrorDecoder {
+public class TenantErrorDecoder extends TableErrorDecoder {
 
     private static final Logger LOGGER = Logger.getLogger(TenantErrorDecoder.class.getName());
 
-    @Override
-    public Exception decode(String methodKey, Response response) {
-        int status = response.status();
-
-        String body = readBody(response);
-
-        return switch (status) {
-            case 404 -> {
-                LOGGER.warning("Tenant not found: " + body);
-                yield new ResourceNotFoundException("Tenant não encontrado");
-            }
-            case 409 -> {
-                LOGGER.warning("Tenant conflict: " + body);
-                yield new ConflictException("Operação em conflito com estado atual: " + body);
-            }
-            case 400 -> {
-                LOGGER.warning("Tenant bad request: " + body);
-                yield new IllegalArgumentException("Requisição inválida: " + body);
-            }
-            case 503 -> {
-                LOGGER.severe("Tenant service unavailable");
-                yield new CircuitBreakerOpenException("Tenant service unavailable");
-            }
-            case 500, 502, 504 -> {
-                LOGGER.severe("Tenant server error: " + body);
-                yield new ServerException("Erro interno do servidor: " + body);
-            }
-            default -> {
-                LOGGER.warning("Tenant unknown error: HTTP " + status + " - " + body);
-                yield new RuntimeException("Erro HTTP: " + status + " - " + body);
-            }
-        };
-    }
-
-    private String readBody(Response response) {
-        if (response.body() == null) {
-            return "";
-        }
-
-        try {
-            InputStream inputStream = response.body().asInputStream();
-            byte[] bytes = inputStream.readAllBytes();
-            return new String(bytes, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            LOGGER.severe("Failed to read error body: " + e.getMessage());
-            return "";
-        }
+    private static final Table TABLE = table()
+        .on(404, Level.WARNING,
+            body -> "Tenant not found: " + body.text(),
+            body -> new ResourceNotFoundException("Tenant não encontrado"))
+        .on(409, Level.WARNING,
+            body -> "Tenant conflict: " + body.text(),
+            body -> new ConflictException("Operação em conflito com estado atual: " + body.text()))
+        .on(400, Level.WARNING,
+            body -> "Tenant bad request: " + body.text(),
+            body -> new IllegalArgumentException("Requisição inválida: " + body.text()))
+        .on(503, Level.SEVERE,
+            body -> "Tenant service unavailable",
+            body -> new CircuitBreakerOpenException("Tenant service unavailable"))
+        .on(new int[] {500, 502, 504}, Level.SEVERE,
+            body -> "Tenant server error: " + body.text(),
+            body -> new ServerException("Erro interno do servidor: " + body.text()))
+        .otherwise(Level.WARNING,
+            body -> "Tenant unknown error: HTTP " + body.status() + " - " + body.text(),
+            body -> new RuntimeException("Erro HTTP: " + body.status() + " - " + body.text()))
+        .build();
+
+    /**
+     * Construtor.
+     */
+    public TenantErrorDecoder() {
+        super(LOGGER, TABLE);
     }
 }
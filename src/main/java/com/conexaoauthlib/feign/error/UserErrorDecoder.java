@@ -6,12 +6,8 @@ import com.conexaoauthlib.exception.InvalidOperationException;
 import com.conexaoauthlib.exception.ResourceNotFoundException;
 import com.conexaoauthlib.exception.ServerException;
 import com.conexaoauthlib.exception.UnauthorizedException;
-import feign.Response;
-import feign.codec.ErrorDecoder;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -22,65 +18,43 @@ import java.util.logging.Logger;
  *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
+ * @see TableErrorDecoder
  */
-public class UserErrorDecoder implements ErrorDecoder {
+public class UserErrorDecoder extends TableErrorDecoder {
 
     private static final Logger LOGGER = Logger.getLogger(UserErrorDecoder.class.getName());
 
-    @Override
-    public Exception decode(String methodKey, Response response) {
-        int status = response.status();
-
-        String body = readBody(response);
-
-        return switch (status) {
-            case 404 -> {
-                LOGGER.warning("User not found: " + body);
-                yield new ResourceNotFoundException("Usuário não encontrado: " + body);
-            }
-            case 409 -> {
-                LOGGER.warning("User conflict: " + body);
-                yield new ConflictException("Email já existe ou operação em conflito: " + body);
-            }
-            case 400 -> {
-                LOGGER.warning("User bad request: " + body);
-                yield new InvalidOperationException("Dados inválidos: " + body);
-            }
-            case 401 -> {
-                LOGGER.warning("User unauthorized: " + body);
-                yield new UnauthorizedException("Operação não autorizada: " + body);
-            }
-            case 403 -> {
-                LOGGER.warning("User forbidden: " + body);
-                yield new SecurityException("Acesso negado: " + body);
-            }
-            case 503 -> {
-                LOGGER.severe("User service unavailable");
-                yield new CircuitBreakerOpenException("User service unavailable");
-            }
-            case 500, 502, 504 -> {
-                LOGGER.severe("User server error: " + body);
-                yield new ServerException("Erro interno do servidor: " + body);
-            }
-            default -> {
-                LOGGER.warning("User unknown error: HTTP " + status + " - " + body);
-                yield new RuntimeException("Erro HTTP: " + status + " - " + body);
-            }
-        };
-    }
-
-    private String readBody(Response response) {
-        if (response.body() == null) {
-            return "";
-        }
-
-        try {
-            InputStream inputStream = response.body().asInputStream();
-            byte[] bytes = inputStream.readAllBytes();
-            return new String(bytes, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            LOGGER.severe("Failed to read error body: " + e.getMessage());
-            return "";
-        }
+    private static final Table TABLE = table()
+        .on(404, Level.WARNING,
+            body -> "User not found: " + body.text(),
+            body -> new ResourceNotFoundException("Usuário não encontrado: " + body.text()))
+        .on(409, Level.WARNING,
+            body -> "User conflict: " + body.text(),
+            body -> new ConflictException("Email já existe ou operação em conflito: " + body.text()))
+        .on(400, Level.WARNING,
+            body -> "User bad request: " + body.text(),
+            body -> new InvalidOperationException("Dados inválidos: " + body.text()))
+        .on(401, Level.WARNING,
+            body -> "User unauthorized: " + body.text(),
+            body -> new UnauthorizedException("Operação não autorizada: " + body.text()))
+        .on(403, Level.WARNING,
+            body -> "User forbidden: " + body.text(),
+            body -> new SecurityException("Acesso negado: " + body.text()))
+        .on(503, Level.SEVERE,
+            body -> "User service unavailable",
+            body -> new CircuitBreakerOpenException("User service unavailable"))
+        .on(new int[] {500, 502, 504}, Level.SEVERE,
+            body -> "User server error: " + body.text(),
+            body -> new ServerException("Erro interno do servidor: " + body.text()))
+        .otherwise(Level.WARNING,
+            body -> "User unknown error: HTTP " + body.status() + " - " + body.text(),
+            body -> new RuntimeException("Erro HTTP: " + body.status() + " - " + body.text()))
+        .build();
+
+    /**
+     * Construtor.
+     */
+    public UserErrorDecoder() {
+        super(LOGGER, TABLE);
     }
 }
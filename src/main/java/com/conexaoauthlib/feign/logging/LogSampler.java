@@ -0,0 +1,71 @@
+package com.conexaoauthlib.feign.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem e limite de taxa do log de requisições.
+ *
+ * <p>Cada requisição é registrada com probabilidade {@code sampleRate} e,
+ * dentre as amostradas, no máximo {@code maxPerSecond} por segundo. O estado
+ * da janela (segundo e contagem) cabe em um único {@link AtomicLong}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public final class LogSampler {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final double sampleRate;
+    private final int maxPerSecond;
+    private final long originNanos = System.nanoTime();
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Construtor.
+     *
+     * @param sampleRate Fração das requisições registradas (0 a 1)
+     * @param maxPerSecond Máximo de requisições registradas por segundo (0 = sem limite)
+     */
+    public LogSampler(double sampleRate, int maxPerSecond) {
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+        this.maxPerSecond = (int) Math.max(0, Math.min(COUNT_MASK, maxPerSecond));
+    }
+
+    /**
+     * Decide se a requisição atual deve ser registrada.
+     *
+     * @return true se a requisição foi amostrada e cabe no limite do segundo
+     */
+    public boolean sample() {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        if (maxPerSecond == 0) {
+            return true;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - originNanos);
+        while (true) {
+            long state = window.get();
+            long count = state >>> COUNT_BITS == second ? state & COUNT_MASK : 0;
+            if (count >= maxPerSecond) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (window.compareAndSet(state, second << COUNT_BITS | (count + 1))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return Requisições amostradas descartadas pelo limite por segundo
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+}
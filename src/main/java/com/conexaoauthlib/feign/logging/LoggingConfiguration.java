@@ -0,0 +1,33 @@
+package com.conexaoauthlib.feign.logging;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.openfeign.FeignLoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do log de requisições compartilhada pelos Feign Clients.
+ *
+ * <p>A fábrica definida aqui pertence ao contexto principal e é herdada
+ * pelos contextos de cada Feign Client, substituindo o logger padrão do
+ * Spring Cloud OpenFeign. O nível de detalhe de cada cliente é definido em
+ * sua {@code *ClientConfiguration} a partir de {@link LoggingProperties}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+public class LoggingConfiguration {
+
+    /**
+     * Fábrica dos loggers Feign com amostragem e mascaramento.
+     *
+     * @param properties Propriedades de log
+     * @return RequestLoggerFactory configurada
+     */
+    @Bean
+    @ConditionalOnMissingBean(FeignLoggerFactory.class)
+    public FeignLoggerFactory feignLoggerFactory(LoggingProperties properties) {
+        return new RequestLoggerFactory(properties);
+    }
+}
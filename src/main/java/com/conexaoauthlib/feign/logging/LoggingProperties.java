@@ -0,0 +1,95 @@
+package com.conexaoauthlib.feign.logging;
+
+import feign.Logger;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propriedades do log de requisições dos Feign Clients.
+ * Carregadas de application.yml com prefixo "conexao-auth.logging".
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   logging:
+ *     level: BASIC
+ *     sample-rate: 1.0
+ *     max-per-second: 50
+ *     clients:
+ *       oauth2:
+ *         level: HEADERS
+ * }</pre>
+ *
+ * <p>A saída só é produzida quando o logger {@code java.util.logging}
+ * {@code com.conexaoauthlib.feign.<cliente>} está em {@code FINE}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.logging")
+public class LoggingProperties {
+
+    /**
+     * Nível de detalhe do log das requisições (NONE, BASIC, HEADERS, FULL).
+     * Valor padrão: BASIC
+     */
+    private Logger.Level level = Logger.Level.BASIC;
+
+    /**
+     * Fração das requisições registradas (0 a 1).
+     * Valor padrão: 1.0
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Máximo de requisições registradas por segundo, por cliente (0 = sem limite).
+     * Valor padrão: 50
+     */
+    private int maxPerSecond = 50;
+
+    /**
+     * Campos mascarados em formulários, query strings e corpos JSON.
+     * Valor padrão: senhas, segredos de client e tokens
+     */
+    private List<String> redactedFields = new ArrayList<>(List.of(
+        "client_secret", "clientSecret", "secret", "new_secret", "newSecret",
+        "password", "current_password", "currentPassword", "new_password", "newPassword",
+        "access_token", "accessToken", "refresh_token", "refreshToken", "token"
+    ));
+
+    /**
+     * Configurações específicas por cliente (oauth2, tenant, client, user, role, scope).
+     */
+    private Map<String, ClientProperties> clients = new HashMap<>();
+
+    /**
+     * Retorna o nível de detalhe do cliente informado.
+     *
+     * @param clientName Nome do Feign Client
+     * @return Nível específico do cliente ou o nível padrão
+     */
+    public Logger.Level levelFor(String clientName) {
+        ClientProperties client = clients.get(clientName);
+        if (client != null && client.getLevel() != null) {
+            return client.getLevel();
+        }
+        return level;
+    }
+
+    @Data
+    public static class ClientProperties {
+        /**
+         * Nível de detalhe do log do cliente.
+         * Valor padrão: conexao-auth.logging.level
+         */
+        private Logger.Level level;
+    }
+}
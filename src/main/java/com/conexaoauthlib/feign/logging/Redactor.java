@@ -0,0 +1,64 @@
+package com.conexaoauthlib.feign.logging;
+
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Mascara segredos em linhas de log de requisições e respostas.
+ *
+ * <p>Os campos configurados são mascarados em parâmetros de formulário e de
+ * query ({@code client_secret=...}) e em propriedades JSON
+ * ({@code "password":"..."}). Os headers {@code Authorization},
+ * {@code Proxy-Authorization}, {@code Cookie} e {@code Set-Cookie} são
+ * sempre mascarados. A comparação de nomes ignora maiúsculas/minúsculas.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public final class Redactor {
+
+    /**
+     * Texto que substitui os valores mascarados.
+     */
+    public static final String MASK = "***";
+
+    private static final Pattern HEADERS = Pattern.compile(
+        "(?i)(?<![\\w-])((?:proxy-)?authorization|set-cookie|cookie):\\s.*");
+
+    private final Pattern form;
+    private final Pattern json;
+
+    /**
+     * Construtor.
+     *
+     * @param fields Nomes dos campos a mascarar
+     */
+    public Redactor(Collection<String> fields) {
+        String names = fields.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        if (names.isEmpty()) {
+            this.form = null;
+            this.json = null;
+        } else {
+            this.form = Pattern.compile("(?i)(?<![\\w-])(" + names + ")=[^&\\s]*");
+            this.json = Pattern.compile("(?i)\"(" + names + ")\"\\s*:\\s*\"(?:[^\"\\\\]|\\\\.)*\"");
+        }
+    }
+
+    /**
+     * @param text Linha de log
+     * @return Linha com os segredos mascarados
+     */
+    public String redact(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        String result = HEADERS.matcher(text).replaceAll("$1: " + MASK);
+        if (form != null) {
+            result = form.matcher(result).replaceAll("$1=" + Matcher.quoteReplacement(MASK));
+            result = json.matcher(result).replaceAll("\"$1\":\"" + Matcher.quoteReplacement(MASK) + "\"");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package com.conexaoauthlib.feign.logging;
+
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * Logger Feign de um cliente, com custo zero quando desabilitado.
+ *
+ * <p>O nível de detalhe vem do {@code Logger.Level} do cliente
+ * ({@code conexao-auth.logging}); a saída vai para o logger
+ * {@code java.util.logging} {@code com.conexaoauthlib.feign.<cliente>} no
+ * nível {@code FINE}. Enquanto esse nível estiver desabilitado, cada
+ * requisição custa apenas uma verificação de nível: nada é formatado e o
+ * corpo da resposta não é lido.</p>
+ *
+ * <p>Com o nível habilitado, a requisição é registrada conforme o
+ * {@link LogSampler} (a resposta segue a decisão da requisição) e cada linha
+ * passa pelo {@link Redactor} antes de ser escrita. Erros de I/O não são
+ * amostrados.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see RequestLoggerFactory
+ */
+public class RequestLogger extends feign.Logger {
+
+    private static final java.util.logging.Level FINE = java.util.logging.Level.FINE;
+
+    private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+
+    private final Logger logger;
+    private final LogSampler sampler;
+    private final Redactor redactor;
+
+    /**
+     * Construtor.
+     *
+     * @param clientName Nome do Feign Client
+     * @param sampler Amostragem das requisições
+     * @param redactor Mascaramento de segredos
+     */
+    public RequestLogger(String clientName, LogSampler sampler, Redactor redactor) {
+        this.logger = Logger.getLogger("com.conexaoauthlib.feign." + clientName);
+        this.sampler = sampler;
+        this.redactor = redactor;
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+        if (!logger.isLoggable(FINE)) {
+            return;
+        }
+        if (!sampler.sample()) {
+            SAMPLED.remove();
+            return;
+        }
+        SAMPLED.set(Boolean.TRUE);
+        super.logRequest(configKey, logLevel, request);
+    }
+
+    @Override
+    protected void logRetry(String configKey, Level logLevel) {
+        if (logger.isLoggable(FINE) && SAMPLED.get() != null) {
+            super.logRetry(configKey, logLevel);
+        }
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response,
+                                              long elapsedTime) throws IOException {
+        if (!logger.isLoggable(FINE) || !takeSampled()) {
+            return response;
+        }
+        return super.logAndRebufferResponse(configKey, logLevel, response, elapsedTime);
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        if (!logger.isLoggable(FINE)) {
+            return ioe;
+        }
+        SAMPLED.remove();
+        return super.logIOException(configKey, logLevel, ioe, elapsedTime);
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        logger.fine(redactor.redact(methodTag(configKey) + String.format(format, args)));
+    }
+
+    private static boolean takeSampled() {
+        boolean sampled = SAMPLED.get() != null;
+        SAMPLED.remove();
+        return sampled;
+    }
+}
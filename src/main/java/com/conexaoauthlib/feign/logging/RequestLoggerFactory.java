@@ -0,0 +1,45 @@
+package com.conexaoauthlib.feign.logging;
+
+import feign.Logger;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.FeignLoggerFactory;
+
+/**
+ * Cria o {@link RequestLogger} de cada Feign Client.
+ *
+ * <p>Os clientes compartilham o {@link Redactor}; cada um tem seu próprio
+ * {@link LogSampler}, para que um cliente ruidoso não consuma o limite de
+ * log dos demais.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class RequestLoggerFactory implements FeignLoggerFactory {
+
+    private final LoggingProperties properties;
+    private final Redactor redactor;
+
+    /**
+     * Construtor.
+     *
+     * @param properties Propriedades de log
+     */
+    public RequestLoggerFactory(LoggingProperties properties) {
+        this.properties = properties;
+        this.redactor = new Redactor(properties.getRedactedFields());
+    }
+
+    @Override
+    public Logger create(Class<?> type) {
+        LogSampler sampler = new LogSampler(properties.getSampleRate(), properties.getMaxPerSecond());
+        return new RequestLogger(clientName(type), sampler, redactor);
+    }
+
+    private static String clientName(Class<?> type) {
+        FeignClient feignClient = type.getAnnotation(FeignClient.class);
+        if (feignClient == null) {
+            return type.getSimpleName();
+        }
+        return feignClient.name().isEmpty() ? feignClient.value() : feignClient.name();
+    }
+}
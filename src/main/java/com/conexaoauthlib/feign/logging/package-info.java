@@ -0,0 +1,36 @@
+/**
+ * Módulo de Log de Requisições.
+ *
+ * <p>Este módulo registra as requisições e respostas dos Feign Clients com
+ * nível de detalhe por cliente, amostragem, limite por segundo e
+ * mascaramento de segredos ({@code client_secret}, {@code password},
+ * tokens e o header {@code Authorization}). Com o logger desabilitado, o
+ * custo por requisição é uma verificação de nível.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>RequestLogger - feign.Logger sobre java.util.logging com guarda de nível</li>
+ *   <li>RequestLoggerFactory - Cria um RequestLogger por Feign Client</li>
+ *   <li>LogSampler - Amostragem e limite de requisições registradas por segundo</li>
+ *   <li>Redactor - Mascaramento de segredos em formulários, JSON e headers</li>
+ *   <li>LoggingConfiguration - Fábrica herdada pelos Feign Clients</li>
+ *   <li>LoggingProperties - Propriedades configuráveis via application.yml</li>
+ * </ul>
+ *
+ * <h3>Configuração:</h3>
+ * <pre>{@code
+ * conexao-auth:
+ *   logging:
+ *     level: BASIC
+ *     sample-rate: 1.0
+ *     max-per-second: 50
+ *     clients:
+ *       oauth2:
+ *         level: HEADERS
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.feign.logging.RequestLogger
+ * @see com.conexaoauthlib.feign.logging.LoggingConfiguration
+ */
+package com.conexaoauthlib.feign.logging;
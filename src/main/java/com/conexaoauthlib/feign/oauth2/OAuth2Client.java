@@ -6,6 +6,8 @@ import com.conexaoauthlib.dto.oauth2.RevokeRequestDTO;
 import com.conexaoauthlib.dto.oauth2.TokenRequestDTO;
 import com.conexaoauthlib.dto.oauth2.TokenResponseDTO;
 import com.conexaoauthlib.exception.CircuitBreakerOpenException;
+import com.conexaoauthlib.resilience.Idempotent;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -56,6 +58,7 @@ public interface OAuth2Client {
     )
     @CircuitBreaker(name = "oauth2", fallbackMethod = "tokenFallback")
     @Retry(name = "oauth2")
+    @Bulkhead(name = "oauth2")
     TokenResponseDTO getToken(@RequestBody TokenRequestDTO request);
 
     /**
@@ -73,6 +76,7 @@ public interface OAuth2Client {
     )
     @CircuitBreaker(name = "oauth2", fallbackMethod = "tokenFallback")
     @Retry(name = "oauth2")
+    @Bulkhead(name = "oauth2")
     TokenResponseDTO getToken(
         @RequestBody TokenRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -95,6 +99,8 @@ public interface OAuth2Client {
     )
     @CircuitBreaker(name = "oauth2", fallbackMethod = "introspectFallback")
     @Retry(name = "oauth2")
+    @Bulkhead(name = "oauth2")
+    @Idempotent
     IntrospectResponseDTO introspect(@RequestBody IntrospectRequestDTO request);
 
     /**
@@ -112,6 +118,8 @@ public interface OAuth2Client {
     )
     @CircuitBreaker(name = "oauth2", fallbackMethod = "introspectFallback")
     @Retry(name = "oauth2")
+    @Bulkhead(name = "oauth2")
+    @Idempotent
     IntrospectResponseDTO introspect(
         @RequestBody IntrospectRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -133,6 +141,8 @@ public interface OAuth2Client {
     )
     @CircuitBreaker(name = "oauth2", fallbackMethod = "revokeFallback")
     @Retry(name = "oauth2")
+    @Bulkhead(name = "oauth2")
+    @Idempotent
     void revoke(@RequestBody RevokeRequestDTO request);
 
     /**
@@ -149,6 +159,8 @@ public interface OAuth2Client {
     )
     @CircuitBreaker(name = "oauth2", fallbackMethod = "revokeFallback")
     @Retry(name = "oauth2")
+    @Bulkhead(name = "oauth2")
+    @Idempotent
     void revoke(
         @RequestBody RevokeRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -2,6 +2,7 @@ package com.conexaoauthlib.feign.oauth2;
 
 import com.conexaoauthlib.feign.config.FeignClientInterceptor;
 import com.conexaoauthlib.feign.error.OAuth2ErrorDecoder;
+import com.conexaoauthlib.feign.logging.LoggingProperties;
 import feign.Logger;
 import feign.codec.ErrorDecoder;
 import org.springframework.context.annotation.Bean;
@@ -42,10 +43,11 @@ public class OAuth2ClientConfiguration {
     /**
      * Nível de logging para debug de requisições.
      *
-     * @return Logger.Level BASIC
+     * @param properties Propriedades de log
+     * @return Logger.Level configurado em conexao-auth.logging (padrão BASIC)
      */
     @Bean
-    public Logger.Level oauth2FeignLoggerLevel() {
-        return Logger.Level.BASIC;
+    public Logger.Level oauth2FeignLoggerLevel(LoggingProperties properties) {
+        return properties.levelFor("oauth2");
     }
 }
@@ -4,6 +4,10 @@ import com.conexaoauthlib.dto.common.PageResponseDTO;
 import com.conexaoauthlib.dto.role.*;
 import com.conexaoauthlib.dto.scope.ScopeAssignRequestDTO;
 import com.conexaoauthlib.exception.CircuitBreakerOpenException;
+import com.conexaoauthlib.resilience.Hedged;
+import com.conexaoauthlib.resilience.IdempotencyKey;
+import com.conexaoauthlib.resilience.Idempotent;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -11,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface Feign Client para operações de Role.
@@ -94,6 +99,8 @@ public interface RoleClient {
     )
     @CircuitBreaker(name = "role", fallbackMethod = "createFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
+    @IdempotencyKey
     RoleResponseDTO create(
         @RequestBody RoleCreateRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -110,11 +117,32 @@ public interface RoleClient {
     @GetMapping(value = "/api/roles")
     @CircuitBreaker(name = "role", fallbackMethod = "listFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
     PageResponseDTO<RoleResponseDTO> list(
         @ModelAttribute RoleFilterDTO filter,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
     );
 
+    /**
+     * Lista os roles da página como Stream, decodificando cada elemento à medida
+     * que o Stream é consumido. A resposta fica aberta até o Stream ser
+     * esgotado ou fechado.
+     *
+     * @param filter Parâmetros de filtro e paginação
+     * @param xTenantId Header de contexto (opcional)
+     * @return Stream com os roles da página
+     * @throws CircuitBreakerOpenException se o circuit breaker estiver aberto
+     * @see com.conexaoauthlib.feign.codec.StreamingDecoder
+     */
+    @GetMapping(value = "/api/roles")
+    @CircuitBreaker(name = "role", fallbackMethod = "streamFallback")
+    @Retry(name = "role")
+    @Bulkhead(name = "role")
+    Stream<RoleResponseDTO> stream(
+        @ModelAttribute RoleFilterDTO filter,
+        @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
+    );
+
     /**
      * Busca role pelo ID.
      *
@@ -126,6 +154,8 @@ public interface RoleClient {
     @GetMapping(value = "/api/roles/{id}")
     @CircuitBreaker(name = "role", fallbackMethod = "getFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
+    @Hedged
     RoleResponseDTO getById(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -147,6 +177,8 @@ public interface RoleClient {
     )
     @CircuitBreaker(name = "role", fallbackMethod = "updateStatusFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
+    @Idempotent
     RoleResponseDTO updateStatus(
         @PathVariable("id") String id,
         @RequestBody RoleStatusDTO request,
@@ -169,6 +201,8 @@ public interface RoleClient {
     )
     @CircuitBreaker(name = "role", fallbackMethod = "assignScopesFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
+    @IdempotencyKey
     RoleResponseDTO assignScopes(
         @PathVariable("id") String id,
         @RequestBody ScopeAssignRequestDTO request,
@@ -187,6 +221,7 @@ public interface RoleClient {
     @DeleteMapping(value = "/api/roles/{id}/scopes")
     @CircuitBreaker(name = "role", fallbackMethod = "removeScopesFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
     RoleResponseDTO removeScopes(
         @PathVariable("id") String id,
         @RequestParam("scope_ids") List<String> scopeIds,
@@ -203,6 +238,7 @@ public interface RoleClient {
     @DeleteMapping(value = "/api/roles/{id}")
     @CircuitBreaker(name = "role", fallbackMethod = "deleteFallback")
     @Retry(name = "role")
+    @Bulkhead(name = "role")
     void delete(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -222,6 +258,12 @@ public interface RoleClient {
             "Role service unavailable - unable to list roles", t);
     }
 
+    default Stream<RoleResponseDTO> streamFallback(RoleFilterDTO filter,
+                                                    String xTenantId, Throwable t) {
+        throw new CircuitBreakerOpenException(
+            "Role service unavailable - unable to stream roles", t);
+    }
+
     default RoleResponseDTO getFallback(String id, String xTenantId, Throwable t) {
         throw new CircuitBreakerOpenException(
             "Role service unavailable - unable to get role", t);
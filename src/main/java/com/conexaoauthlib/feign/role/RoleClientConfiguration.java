@@ -1,9 +1,14 @@
 package com.conexaoauthlib.feign.role;
 
+import com.conexaoauthlib.feign.codec.StreamingCapability;
 import com.conexaoauthlib.feign.config.FeignClientInterceptor;
 import com.conexaoauthlib.feign.error.RoleErrorDecoder;
+import com.conexaoauthlib.feign.logging.LoggingProperties;
 import feign.Logger;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -42,10 +47,22 @@ public class RoleClientConfiguration {
     /**
      * Nível de logging para debug de requisições.
      *
-     * @return Logger.Level BASIC
+     * @param properties Propriedades de log
+     * @return Logger.Level configurado em conexao-auth.logging (padrão BASIC)
      */
     @Bean
-    public Logger.Level roleFeignLoggerLevel() {
-        return Logger.Level.BASIC;
+    public Logger.Level roleFeignLoggerLevel(LoggingProperties properties) {
+        return properties.levelFor("role");
+    }
+
+    /**
+     * Habilita o método {@code stream(...)}, decodificado elemento a elemento.
+     *
+     * @param messageConverters Conversores HTTP da aplicação, fonte do ObjectMapper
+     * @return FeignBuilderCustomizer com {@link StreamingCapability}
+     */
+    @Bean
+    public FeignBuilderCustomizer roleStreamingCustomizer(ObjectFactory<HttpMessageConverters> messageConverters) {
+        return StreamingCapability.customizer(messageConverters);
     }
 }
@@ -4,6 +4,9 @@ import com.conexaoauthlib.dto.scope.ScopeCreateRequestDTO;
 import com.conexaoauthlib.dto.scope.ScopeFilterDTO;
 import com.conexaoauthlib.dto.scope.ScopeResponseDTO;
 import com.conexaoauthlib.exception.CircuitBreakerOpenException;
+import com.conexaoauthlib.resilience.Hedged;
+import com.conexaoauthlib.resilience.IdempotencyKey;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -11,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface Feign Client para operações de Scope.
@@ -89,6 +93,8 @@ public interface ScopeClient {
     )
     @CircuitBreaker(name = "scope", fallbackMethod = "createFallback")
     @Retry(name = "scope")
+    @Bulkhead(name = "scope")
+    @IdempotencyKey
     ScopeResponseDTO create(
         @RequestBody ScopeCreateRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -105,11 +111,32 @@ public interface ScopeClient {
     @GetMapping(value = "/api/scopes")
     @CircuitBreaker(name = "scope", fallbackMethod = "listFallback")
     @Retry(name = "scope")
+    @Bulkhead(name = "scope")
     List<ScopeResponseDTO> list(
         @ModelAttribute ScopeFilterDTO filter,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
     );
 
+    /**
+     * Lista todos os scopes como Stream, decodificando cada elemento à medida
+     * que o Stream é consumido. A resposta fica aberta até o Stream ser
+     * esgotado ou fechado.
+     *
+     * @param filter Parâmetros de filtro (opcional, pode ser null)
+     * @param xTenantId Header de contexto (opcional)
+     * @return Stream com todos os scopes
+     * @throws CircuitBreakerOpenException se o circuit breaker estiver aberto
+     * @see com.conexaoauthlib.feign.codec.StreamingDecoder
+     */
+    @GetMapping(value = "/api/scopes")
+    @CircuitBreaker(name = "scope", fallbackMethod = "streamFallback")
+    @Retry(name = "scope")
+    @Bulkhead(name = "scope")
+    Stream<ScopeResponseDTO> stream(
+        @ModelAttribute ScopeFilterDTO filter,
+        @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
+    );
+
     /**
      * Busca scope pelo ID.
      *
@@ -121,6 +148,8 @@ public interface ScopeClient {
     @GetMapping(value = "/api/scopes/{id}")
     @CircuitBreaker(name = "scope", fallbackMethod = "getFallback")
     @Retry(name = "scope")
+    @Bulkhead(name = "scope")
+    @Hedged
     ScopeResponseDTO getById(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -142,6 +171,7 @@ public interface ScopeClient {
     )
     @CircuitBreaker(name = "scope", fallbackMethod = "updateFallback")
     @Retry(name = "scope")
+    @Bulkhead(name = "scope")
     ScopeResponseDTO update(
         @PathVariable("id") String id,
         @RequestBody ScopeCreateRequestDTO request,
@@ -158,6 +188,7 @@ public interface ScopeClient {
     @DeleteMapping(value = "/api/scopes/{id}")
     @CircuitBreaker(name = "scope", fallbackMethod = "deleteFallback")
     @Retry(name = "scope")
+    @Bulkhead(name = "scope")
     void delete(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -177,6 +208,12 @@ public interface ScopeClient {
             "Scope service unavailable - unable to list scopes", t);
     }
 
+    default Stream<ScopeResponseDTO> streamFallback(ScopeFilterDTO filter,
+                                                     String xTenantId, Throwable t) {
+        throw new CircuitBreakerOpenException(
+            "Scope service unavailable - unable to stream scopes", t);
+    }
+
     default ScopeResponseDTO getFallback(String id, String xTenantId, Throwable t) {
         throw new CircuitBreakerOpenException(
             "Scope service unavailable - unable to get scope", t);
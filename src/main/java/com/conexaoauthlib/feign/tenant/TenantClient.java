@@ -7,6 +7,10 @@ import com.conexaoauthlib.dto.tenant.TenantProductAddRequestDTO;
 import com.conexaoauthlib.dto.tenant.TenantResponseDTO;
 import com.conexaoauthlib.dto.tenant.TenantStatusDTO;
 import com.conexaoauthlib.exception.CircuitBreakerOpenException;
+import com.conexaoauthlib.resilience.Hedged;
+import com.conexaoauthlib.resilience.IdempotencyKey;
+import com.conexaoauthlib.resilience.Idempotent;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -14,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface Feign Client para operações de Tenant.
@@ -89,6 +94,8 @@ public interface TenantClient {
     )
     @CircuitBreaker(name = "tenant", fallbackMethod = "createFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
+    @IdempotencyKey
     TenantResponseDTO create(
         @RequestBody TenantCreateRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -105,11 +112,32 @@ public interface TenantClient {
     @GetMapping(value = "/api/tenants")
     @CircuitBreaker(name = "tenant", fallbackMethod = "listFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
     PageResponseDTO<TenantResponseDTO> list(
         @ModelAttribute TenantFilterDTO filter,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
     );
 
+    /**
+     * Lista os tenants da página como Stream, decodificando cada elemento à medida
+     * que o Stream é consumido. A resposta fica aberta até o Stream ser
+     * esgotado ou fechado.
+     *
+     * @param filter Parâmetros de filtro e paginação
+     * @param xTenantId Header de contexto (opcional)
+     * @return Stream com os tenants da página
+     * @throws CircuitBreakerOpenException se o circuit breaker estiver aberto
+     * @see com.conexaoauthlib.feign.codec.StreamingDecoder
+     */
+    @GetMapping(value = "/api/tenants")
+    @CircuitBreaker(name = "tenant", fallbackMethod = "streamFallback")
+    @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
+    Stream<TenantResponseDTO> stream(
+        @ModelAttribute TenantFilterDTO filter,
+        @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
+    );
+
     /**
      * Busca tenant pelo ID.
      *
@@ -121,6 +149,8 @@ public interface TenantClient {
     @GetMapping(value = "/api/tenants/{id}")
     @CircuitBreaker(name = "tenant", fallbackMethod = "getFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
+    @Hedged
     TenantResponseDTO getById(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -137,6 +167,8 @@ public interface TenantClient {
     @GetMapping(value = "/api/tenants/by-document/{document}")
     @CircuitBreaker(name = "tenant", fallbackMethod = "getByDocumentFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
+    @Hedged
     TenantResponseDTO getByDocument(
         @PathVariable("document") String document,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -154,6 +186,8 @@ public interface TenantClient {
     @PatchMapping(value = "/api/tenants/{id}/status")
     @CircuitBreaker(name = "tenant", fallbackMethod = "updateStatusFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
+    @Idempotent
     TenantResponseDTO updateStatus(
         @PathVariable("id") String id,
         @RequestBody TenantStatusDTO request,
@@ -176,6 +210,8 @@ public interface TenantClient {
     )
     @CircuitBreaker(name = "tenant", fallbackMethod = "addProductsFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
+    @IdempotencyKey
     TenantResponseDTO addProducts(
         @PathVariable("id") String id,
         @RequestBody TenantProductAddRequestDTO request,
@@ -194,6 +230,7 @@ public interface TenantClient {
     @DeleteMapping(value = "/api/tenants/{id}/products")
     @CircuitBreaker(name = "tenant", fallbackMethod = "removeProductsFallback")
     @Retry(name = "tenant")
+    @Bulkhead(name = "tenant")
     TenantResponseDTO removeProducts(
         @PathVariable("id") String id,
         @RequestParam("codes") List<String> productCodes,
@@ -214,6 +251,12 @@ public interface TenantClient {
             "Tenant service unavailable - unable to list tenants", t);
     }
 
+    default Stream<TenantResponseDTO> streamFallback(TenantFilterDTO filter,
+                                                      String xTenantId, Throwable t) {
+        throw new CircuitBreakerOpenException(
+            "Tenant service unavailable - unable to stream tenants", t);
+    }
+
     default TenantResponseDTO getFallback(String id, String xTenantId, Throwable t) {
         throw new CircuitBreakerOpenException(
             "Tenant service unavailable - unable to get tenant", t);
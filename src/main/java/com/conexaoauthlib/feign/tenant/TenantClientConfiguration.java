@@ -1,9 +1,14 @@
 package com.conexaoauthlib.feign.tenant;
 
+import com.conexaoauthlib.feign.codec.StreamingCapability;
 import com.conexaoauthlib.feign.config.FeignClientInterceptor;
 import com.conexaoauthlib.feign.error.TenantErrorDecoder;
+import com.conexaoauthlib.feign.logging.LoggingProperties;
 import feign.Logger;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -42,10 +47,22 @@ public class TenantClientConfiguration {
     /**
      * Nível de logging para debug de requisições.
      *
-     * @return Logger.Level BASIC
+     * @param properties Propriedades de log
+     * @return Logger.Level configurado em conexao-auth.logging (padrão BASIC)
      */
     @Bean
-    public Logger.Level tenantFeignLoggerLevel() {
-        return Logger.Level.BASIC;
+    public Logger.Level tenantFeignLoggerLevel(LoggingProperties properties) {
+        return properties.levelFor("tenant");
+    }
+
+    /**
+     * Habilita o método {@code stream(...)}, decodificado elemento a elemento.
+     *
+     * @param messageConverters Conversores HTTP da aplicação, fonte do ObjectMapper
+     * @return FeignBuilderCustomizer com {@link StreamingCapability}
+     */
+    @Bean
+    public FeignBuilderCustomizer tenantStreamingCustomizer(ObjectFactory<HttpMessageConverters> messageConverters) {
+        return StreamingCapability.customizer(messageConverters);
     }
 }
@@ -0,0 +1,243 @@
+package com.conexaoauthlib.feign.transport;
+
+import com.conexaoauthlib.exception.DeadlineExceededException;
+import com.conexaoauthlib.resilience.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transporte HTTP dos Feign Clients baseado em {@link java.net.http.HttpClient}.
+ *
+ * <p>Substitui o cliente padrão do Feign ({@code HttpURLConnection}). Um único
+ * {@link HttpClient} é mantido por base URL (esquema, host e porta) e opções
+ * de conexão (connect timeout e redirecionamentos), e compartilhado por todos
+ * os Feign Clients que apontam para ela com as mesmas opções, reaproveitando
+ * conexões via keep-alive e multiplexando requisições quando o servidor
+ * suporta HTTP/2.</p>
+ *
+ * <p>O número de requisições simultâneas, e portanto de conexões HTTP/1.1,
+ * é limitado por cliente Feign ({@code oauth2}, {@code user}, ...). Uma
+ * requisição ocupa sua vaga até que o corpo da resposta seja fechado.</p>
+ *
+ * <p>O connect timeout e o read timeout vêm de {@link Request.Options};
+ * o read timeout é aplicado como timeout da requisição. Com um
+ * {@link Deadline} na thread chamadora, a espera por vaga e o timeout da
+ * requisição são reduzidos ao tempo restante do prazo, e a requisição que
+ * o esgota termina com {@link DeadlineExceededException}.</p>
+ *
+ * <p>O tempo de keep-alive das conexões ociosas é uma configuração global
+ * do HttpClient da JDK, lida uma única vez, e deve ser definido como flag
+ * da JVM (padrão da JDK: 30 segundos):</p>
+ * <pre>{@code
+ * -Djdk.httpclient.keepalive.timeout=30 -Djdk.httpclient.keepalive.timeout.h2=30
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see TransportConfiguration
+ */
+public class HttpTransportClient implements Client {
+
+    /**
+     * Headers controlados pelo próprio HttpClient e rejeitados em HttpRequest.
+     */
+    private static final Set<String> RESTRICTED_HEADERS =
+        Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final TransportProperties properties;
+    private final Map<ClientKey, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param properties Propriedades de transporte
+     */
+    public HttpTransportClient(TransportProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        URI uri = URI.create(request.url());
+        HttpClient httpClient = clients.computeIfAbsent(
+            new ClientKey(authority(uri), options.connectTimeoutMillis(), options.isFollowRedirects()),
+            this::newHttpClient);
+        Semaphore pool = pools.computeIfAbsent(clientName(request), this::newPool);
+
+        Deadline deadline = Deadline.current();
+        long remainingMillis = deadline != null ? Math.max(1, deadline.remainingMillis()) : Long.MAX_VALUE;
+        long readTimeoutMillis = Math.min(options.readTimeoutMillis(), remainingMillis);
+
+        acquire(pool, request, Math.min(options.connectTimeoutMillis(), remainingMillis), deadline);
+        boolean released = false;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(
+                toHttpRequest(uri, request, readTimeoutMillis), HttpResponse.BodyHandlers.ofInputStream());
+            released = true;
+            return toResponse(request, response, pool);
+        } catch (HttpTimeoutException e) {
+            if (deadline != null && readTimeoutMillis == remainingMillis) {
+                DeadlineExceededException exceeded = deadline.exceeded(clientName(request));
+                exceeded.addSuppressed(e);
+                throw exceeded;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Requisição interrompida: " + request.url(), e);
+        } finally {
+            if (!released) {
+                pool.release();
+            }
+        }
+    }
+
+    /**
+     * @param clientName Nome do Feign Client
+     * @return Vagas livres no pool do cliente, ou o limite configurado se ainda não utilizado
+     */
+    public int getAvailableConnections(String clientName) {
+        Semaphore pool = pools.get(clientName);
+        return pool != null ? pool.availablePermits() : properties.maxConnectionsFor(clientName);
+    }
+
+    private HttpClient newHttpClient(ClientKey key) {
+        return HttpClient.newBuilder()
+            .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(key.connectTimeoutMillis()))
+            .followRedirects(key.followRedirects()
+                ? HttpClient.Redirect.NORMAL
+                : HttpClient.Redirect.NEVER)
+            .build();
+    }
+
+    private Semaphore newPool(String clientName) {
+        return new Semaphore(properties.maxConnectionsFor(clientName), true);
+    }
+
+    private void acquire(Semaphore pool, Request request, long timeoutMillis, Deadline deadline)
+            throws IOException {
+        try {
+            if (!pool.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                if (deadline != null && deadline.isExpired()) {
+                    throw deadline.exceeded(clientName(request));
+                }
+                throw new IOException("Pool de conexões esgotado para o cliente '"
+                    + clientName(request) + "'");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Requisição interrompida: " + request.url(), e);
+        }
+    }
+
+    private static HttpRequest toHttpRequest(URI uri, Request request, long timeoutMillis) {
+        byte[] body = request.body();
+        HttpRequest.BodyPublisher publisher = body != null && body.length > 0
+            ? HttpRequest.BodyPublishers.ofByteArray(body)
+            : HttpRequest.BodyPublishers.noBody();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+            .method(request.httpMethod().name(), publisher)
+            .timeout(Duration.ofMillis(timeoutMillis));
+
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            if (RESTRICTED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Response toResponse(Request request, HttpResponse<InputStream> response, Semaphore pool) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                headers.put(name, values);
+            }
+        });
+
+        Integer length = response.headers().firstValueAsLong("content-length")
+            .stream()
+            .filter(value -> value <= Integer.MAX_VALUE)
+            .mapToObj(value -> (int) value)
+            .findFirst()
+            .orElse(null);
+
+        return Response.builder()
+            .status(response.statusCode())
+            .reason("")
+            .headers(headers)
+            .request(request)
+            .protocolVersion(response.version() == HttpClient.Version.HTTP_2
+                ? Request.ProtocolVersion.HTTP_2
+                : Request.ProtocolVersion.HTTP_1_1)
+            .body(new ReleasingInputStream(response.body(), pool), length)
+            .build();
+    }
+
+    private static String authority(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static String clientName(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return "default";
+    }
+
+    /**
+     * Base URL e opções fixadas na criação do HttpClient.
+     */
+    private record ClientKey(String authority, int connectTimeoutMillis, boolean followRedirects) {
+    }
+
+    /**
+     * Corpo da resposta que devolve a vaga do pool ao ser fechado.
+     */
+    private static final class ReleasingInputStream extends FilterInputStream {
+        private final Semaphore pool;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingInputStream(InputStream delegate, Semaphore pool) {
+            super(delegate);
+            this.pool = pool;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    pool.release();
+                }
+            }
+        }
+    }
+}
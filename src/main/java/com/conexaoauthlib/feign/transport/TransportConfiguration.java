@@ -0,0 +1,54 @@
+package com.conexaoauthlib.feign.transport;
+
+import feign.Client;
+import feign.Request;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuração do transporte HTTP compartilhado pelos Feign Clients.
+ *
+ * <p>Os beans definidos aqui pertencem ao contexto principal e são herdados
+ * pelos contextos de cada Feign Client, de modo que os seis clientes usam
+ * o mesmo {@link HttpTransportClient} e os timeouts definidos em
+ * {@code conexao-auth.default}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+public class TransportConfiguration {
+
+    /**
+     * Timeouts de conexão e leitura aplicados a todos os Feign Clients.
+     *
+     * @param connectTimeout conexao-auth.default.connect-timeout em milissegundos
+     * @param readTimeout conexao-auth.default.read-timeout em milissegundos
+     * @return Request.Options configurado
+     */
+    @Bean
+    @ConditionalOnMissingBean(Request.Options.class)
+    public Request.Options feignRequestOptions(
+            @Value("${conexao-auth.default.connect-timeout:5000}") long connectTimeout,
+            @Value("${conexao-auth.default.read-timeout:10000}") long readTimeout) {
+        return new Request.Options(connectTimeout, TimeUnit.MILLISECONDS, readTimeout, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * Transporte HTTP baseado em java.net.http.HttpClient.
+     *
+     * @param properties Propriedades de transporte
+     * @return HttpTransportClient configurado
+     */
+    @Bean
+    @ConditionalOnMissingBean(Client.class)
+    @ConditionalOnProperty(prefix = "conexao-auth.transport", name = "enabled", matchIfMissing = true)
+    public Client feignClient(TransportProperties properties) {
+        return new HttpTransportClient(properties);
+    }
+}
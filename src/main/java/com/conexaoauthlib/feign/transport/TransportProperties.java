@@ -0,0 +1,82 @@
+package com.conexaoauthlib.feign.transport;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Propriedades de configuração do transporte HTTP dos Feign Clients.
+ * Carregadas de application.yml com prefixo "conexao-auth.transport".
+ *
+ * <p>O keep-alive das conexões ociosas não é uma propriedade da biblioteca:
+ * é configurado na JVM com {@code -Djdk.httpclient.keepalive.timeout} e
+ * {@code -Djdk.httpclient.keepalive.timeout.h2} (em segundos).</p>
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   transport:
+ *     http2: true
+ *     max-connections: 50
+ *     clients:
+ *       oauth2:
+ *         max-connections: 20
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.transport")
+public class TransportProperties {
+
+    /**
+     * Habilita o transporte baseado em java.net.http.HttpClient.
+     * Valor padrão: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Negocia HTTP/2 com o servidor (com fallback para HTTP/1.1).
+     * Valor padrão: true
+     */
+    private boolean http2 = true;
+
+    /**
+     * Número máximo de requisições simultâneas por Feign Client.
+     * Valor padrão: 50
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Limites específicos por cliente (oauth2, tenant, client, user, role, scope).
+     */
+    private Map<String, ClientProperties> clients = new HashMap<>();
+
+    /**
+     * Retorna o limite de requisições simultâneas do cliente informado.
+     *
+     * @param clientName Nome do Feign Client
+     * @return Limite específico do cliente ou o limite padrão
+     */
+    public int maxConnectionsFor(String clientName) {
+        ClientProperties client = clients.get(clientName);
+        if (client != null && client.getMaxConnections() != null) {
+            return client.getMaxConnections();
+        }
+        return maxConnections;
+    }
+
+    @Data
+    public static class ClientProperties {
+        /**
+         * Número máximo de requisições simultâneas do cliente.
+         * Valor padrão: conexao-auth.transport.max-connections
+         */
+        private Integer maxConnections;
+    }
+}
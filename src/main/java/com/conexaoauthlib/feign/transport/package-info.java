@@ -0,0 +1,37 @@
+/**
+ * Módulo de Transporte HTTP.
+ *
+ * <p>Este módulo fornece o transporte utilizado por todos os Feign Clients
+ * da biblioteca, baseado em {@code java.net.http.HttpClient}, com pool de
+ * conexões compartilhado por base URL, suporte a HTTP/2 e aplicação dos
+ * timeouts configurados em {@code conexao-auth.default}.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>HttpTransportClient - Implementação de feign.Client sobre java.net.http.HttpClient</li>
+ *   <li>TransportConfiguration - Beans de transporte e timeouts herdados pelos Feign Clients</li>
+ *   <li>TransportProperties - Propriedades configuráveis via application.yml</li>
+ * </ul>
+ *
+ * <h3>Configuração:</h3>
+ * <pre>{@code
+ * conexao-auth:
+ *   default:
+ *     connect-timeout: 5000
+ *     read-timeout: 10000
+ *   transport:
+ *     http2: true
+ *     max-connections: 50
+ *     clients:
+ *       oauth2:
+ *         max-connections: 20
+ * }</pre>
+ *
+ * <p>O keep-alive de conexões ociosas é definido por flags da JVM:
+ * {@code -Djdk.httpclient.keepalive.timeout=30 -Djdk.httpclient.keepalive.timeout.h2=30}.</p>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.feign.transport.HttpTransportClient
+ * @see com.conexaoauthlib.feign.transport.TransportConfiguration
+ */
+package com.conexaoauthlib.feign.transport;
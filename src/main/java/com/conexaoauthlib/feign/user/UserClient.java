@@ -9,12 +9,18 @@ import com.conexaoauthlib.dto.user.UserResponseDTO;
 import com.conexaoauthlib.dto.user.UserStatusDTO;
 import com.conexaoauthlib.dto.user.UserUpdateRequestDTO;
 import com.conexaoauthlib.exception.CircuitBreakerOpenException;
+import com.conexaoauthlib.resilience.Hedged;
+import com.conexaoauthlib.resilience.IdempotencyKey;
+import com.conexaoauthlib.resilience.Idempotent;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.stream.Stream;
+
 /**
  * Interface Feign Client para operações de Usuário.
  *
@@ -109,6 +115,8 @@ public interface UserClient {
     )
     @CircuitBreaker(name = "user", fallbackMethod = "createFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
+    @IdempotencyKey
     UserResponseDTO create(
         @RequestBody UserCreateRequestDTO request,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -125,11 +133,32 @@ public interface UserClient {
     @GetMapping(value = "/api/users")
     @CircuitBreaker(name = "user", fallbackMethod = "listFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
     PageResponseDTO<UserResponseDTO> list(
         @ModelAttribute UserFilterDTO filter,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
     );
 
+    /**
+     * Lista os usuários da página como Stream, decodificando cada elemento à medida
+     * que o Stream é consumido. A resposta fica aberta até o Stream ser
+     * esgotado ou fechado.
+     *
+     * @param filter Parâmetros de filtro e paginação
+     * @param xTenantId Header de contexto (opcional)
+     * @return Stream com os usuários da página
+     * @throws CircuitBreakerOpenException se o circuit breaker estiver aberto
+     * @see com.conexaoauthlib.feign.codec.StreamingDecoder
+     */
+    @GetMapping(value = "/api/users")
+    @CircuitBreaker(name = "user", fallbackMethod = "streamFallback")
+    @Retry(name = "user")
+    @Bulkhead(name = "user")
+    Stream<UserResponseDTO> stream(
+        @ModelAttribute UserFilterDTO filter,
+        @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
+    );
+
     /**
      * Busca usuário pelo ID.
      *
@@ -141,6 +170,8 @@ public interface UserClient {
     @GetMapping(value = "/api/users/{id}")
     @CircuitBreaker(name = "user", fallbackMethod = "getFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
+    @Hedged
     UserResponseDTO getById(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -165,6 +196,8 @@ public interface UserClient {
     )
     @CircuitBreaker(name = "user", fallbackMethod = "updateFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
+    @Idempotent
     UserResponseDTO update(
         @PathVariable("id") String id,
         @RequestBody UserUpdateRequestDTO request,
@@ -187,6 +220,8 @@ public interface UserClient {
     )
     @CircuitBreaker(name = "user", fallbackMethod = "updateStatusFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
+    @Idempotent
     UserResponseDTO updateStatus(
         @PathVariable("id") String id,
         @RequestBody UserStatusDTO request,
@@ -211,6 +246,7 @@ public interface UserClient {
     )
     @CircuitBreaker(name = "user", fallbackMethod = "changePasswordFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
     void changePassword(
         @PathVariable("id") String id,
         @RequestBody UserPasswordRequestDTO request,
@@ -230,6 +266,7 @@ public interface UserClient {
     @DeleteMapping(value = "/api/users/{id}")
     @CircuitBreaker(name = "user", fallbackMethod = "deactivateFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
     void deactivate(
         @PathVariable("id") String id,
         @RequestHeader(value = "X-Tenant-Id", required = false) String xTenantId
@@ -251,6 +288,8 @@ public interface UserClient {
     )
     @CircuitBreaker(name = "user", fallbackMethod = "assignRolesFallback")
     @Retry(name = "user")
+    @Bulkhead(name = "user")
+    @IdempotencyKey
     UserResponseDTO assignRoles(
         @PathVariable("id") String id,
         @RequestBody RoleAssignRequestDTO request,
@@ -271,6 +310,12 @@ public interface UserClient {
             "User service unavailable - unable to list users", t);
     }
 
+    default Stream<UserResponseDTO> streamFallback(UserFilterDTO filter,
+                                                    String xTenantId, Throwable t) {
+        throw new CircuitBreakerOpenException(
+            "User service unavailable - unable to stream users", t);
+    }
+
     default UserResponseDTO getFallback(String id, String xTenantId, Throwable t) {
         throw new CircuitBreakerOpenException(
             "User service unavailable - unable to get user", t);
@@ -1,15 +1,21 @@
 package com.conexaoauthlib.fluent.client;
 
+import com.conexaoauthlib.cache.EntityCaches;
+import com.conexaoauthlib.concurrent.AsyncExecutor;
+import com.conexaoauthlib.concurrent.PageIterator;
 import com.conexaoauthlib.dto.client.ClientCreateRequestDTO;
 import com.conexaoauthlib.dto.client.ClientFilterDTO;
 import com.conexaoauthlib.dto.client.ClientResponseDTO;
 import com.conexaoauthlib.dto.client.ClientSecretResponseDTO;
 import com.conexaoauthlib.dto.client.ClientStatusDTO;
 import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.resilience.Deadline;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Entry point fluente para operações de Client OAuth2.
@@ -69,6 +75,7 @@ public final class ClientClient {
         private Integer accessTokenValiditySeconds;
         private Integer refreshTokenValiditySeconds;
         private String contextTenantId;
+        private Duration deadline;
 
         /**
          * Define o clientId público do client.
@@ -193,6 +200,19 @@ public final class ClientClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientCreateRequestBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa o registro do client.
          *
@@ -212,7 +232,7 @@ public final class ClientClient {
 
             com.conexaoauthlib.feign.client.ClientClient feignClient =
                 ClientClientFactory.createClientClient();
-            return feignClient.create(request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.create(request, contextTenantId));
         }
 
         /**
@@ -221,7 +241,7 @@ public final class ClientClient {
          * @return CompletableFuture com ClientResponseDTO
          */
         public CompletableFuture<ClientResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("client", this::execute);
         }
     }
 
@@ -248,6 +268,8 @@ public final class ClientClient {
         private Integer size = 20;
         private String sort = "created_at,desc";
         private String contextTenantId;
+        private Duration deadline;
+        private int parallelism = 1;
 
         /**
          * Filtra pelo tenantId.
@@ -337,25 +359,102 @@ public final class ClientClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientListRequestBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Busca as páginas em paralelo em {@link #iterator()} e {@link #stream()}:
+         * a primeira página informa o total de páginas e as demais são buscadas
+         * com até {@code parallelism} chamadas simultâneas, limitadas pelo
+         * Bulkhead e pelo CircuitBreaker do cliente, e entregues em ordem.
+         *
+         * @param parallelism Máximo de páginas buscadas simultaneamente
+         * @return this builder
+         */
+        public ClientListRequestBuilder parallel(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Executa a listagem com os filtros configurados.
          *
          * @return PageResponseDTO com lista de clients
          */
         public PageResponseDTO<ClientResponseDTO> execute() {
-            ClientFilterDTO filter = ClientFilterDTO.builder()
+            return fetch(page);
+        }
+
+        /**
+         * Percorre todos os clients que atendem aos filtros, a partir da
+         * página configurada. A próxima página é buscada em segundo plano
+         * enquanto a atual é consumida; o prazo, se definido, vale por página.
+         *
+         * @return Iterator preguiçoso sobre todas as páginas
+         */
+        public PageIterator<ClientResponseDTO> iterator() {
+            int firstPage = page != null ? page : 0;
+            return parallelism > 1
+                ? PageIterator.parallel("client", firstPage, this::fetch, parallelism)
+                : new PageIterator<>("client", firstPage, this::fetch);
+        }
+
+        /**
+         * Percorre todos os clients que atendem aos filtros como Stream.
+         * Feche o Stream para cancelar a busca antecipada se ele não for
+         * consumido até o fim.
+         *
+         * @return Stream preguiçoso sobre todas as páginas
+         * @see #iterator()
+         */
+        public Stream<ClientResponseDTO> stream() {
+            return iterator().stream();
+        }
+
+        /**
+         * Busca a página configurada decodificando os clients à medida que o
+         * Stream é consumido, sem carregar o conteúdo inteiro em memória. A
+         * resposta fica aberta até o Stream ser esgotado ou fechado; o prazo,
+         * se definido, vale até o início da leitura.
+         *
+         * @return Stream com os clients da página
+         */
+        public Stream<ClientResponseDTO> streamPage() {
+            ClientFilterDTO filter = filter(page);
+
+            com.conexaoauthlib.feign.client.ClientClient feignClient =
+                ClientClientFactory.createClientClient();
+            return Deadline.call(deadline, () -> feignClient.stream(filter, contextTenantId));
+        }
+
+        private PageResponseDTO<ClientResponseDTO> fetch(Integer pageNumber) {
+            ClientFilterDTO filter = filter(pageNumber);
+
+            com.conexaoauthlib.feign.client.ClientClient feignClient =
+                ClientClientFactory.createClientClient();
+            return Deadline.call(deadline, () -> feignClient.list(filter, contextTenantId));
+        }
+
+        private ClientFilterDTO filter(Integer pageNumber) {
+            return ClientFilterDTO.builder()
                 .tenantId(tenantId)
                 .status(status)
                 .clientId(clientId)
                 .name(name)
-                .page(page)
+                .page(pageNumber)
                 .size(size)
                 .sort(sort)
                 .build();
-
-            com.conexaoauthlib.feign.client.ClientClient feignClient =
-                ClientClientFactory.createClientClient();
-            return feignClient.list(filter, contextTenantId);
         }
     }
 
@@ -388,6 +487,7 @@ public final class ClientClient {
         private final String id;
         private final boolean byClientId;
         private String contextTenantId;
+        private Duration deadline;
 
         ClientGetBuilder(String id, boolean byClientId) {
             this.id = id;
@@ -405,8 +505,22 @@ public final class ClientClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientGetBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a busca do client.
+         * Servida pelo {@link EntityCaches} quando habilitado.
          *
          * @return ClientResponseDTO com dados do client
          */
@@ -415,9 +529,11 @@ public final class ClientClient {
                 ClientClientFactory.createClientClient();
 
             if (byClientId) {
-                return feignClient.getByClientId(id, contextTenantId);
+                return EntityCaches.getDefault().clients().getByOrLoad(EntityCaches.CLIENT_ID, contextTenantId, id,
+                    () -> Deadline.call(deadline, () -> feignClient.getByClientId(id, contextTenantId)));
             }
-            return feignClient.getById(id, contextTenantId);
+            return EntityCaches.getDefault().clients().getOrLoad(contextTenantId, id,
+                () -> Deadline.call(deadline, () -> feignClient.getById(id, contextTenantId)));
         }
 
         /**
@@ -430,6 +546,7 @@ public final class ClientClient {
             return ClientClient.updateStatus(id)
                 .status(status)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -441,6 +558,7 @@ public final class ClientClient {
         public ClientSecretResponseDTO rotateSecret() {
             return ClientClient.rotateSecret(id)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -450,6 +568,7 @@ public final class ClientClient {
         public void delete() {
             ClientClient.delete(id)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
     }
@@ -472,6 +591,7 @@ public final class ClientClient {
     public static final class ClientSecretRotateBuilder {
         private final String clientId;
         private String contextTenantId;
+        private Duration deadline;
 
         ClientSecretRotateBuilder(String clientId) {
             this.clientId = clientId;
@@ -488,6 +608,19 @@ public final class ClientClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientSecretRotateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a rotação de segredo.
          *
@@ -496,7 +629,8 @@ public final class ClientClient {
         public ClientSecretResponseDTO execute() {
             com.conexaoauthlib.feign.client.ClientClient feignClient =
                 ClientClientFactory.createClientClient();
-            return feignClient.regenerateSecret(clientId, contextTenantId);
+            return EntityCaches.getDefault().clients().invalidating(clientId,
+                () -> Deadline.call(deadline, () -> feignClient.regenerateSecret(clientId, contextTenantId)));
         }
     }
 
@@ -519,6 +653,7 @@ public final class ClientClient {
         private final String clientId;
         private String status;
         private String contextTenantId;
+        private Duration deadline;
 
         ClientStatusUpdateBuilder(String clientId) {
             this.clientId = clientId;
@@ -546,6 +681,19 @@ public final class ClientClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientStatusUpdateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a atualização de status.
          *
@@ -558,7 +706,8 @@ public final class ClientClient {
 
             com.conexaoauthlib.feign.client.ClientClient feignClient =
                 ClientClientFactory.createClientClient();
-            return feignClient.updateStatus(clientId, request, contextTenantId);
+            return EntityCaches.getDefault().clients().invalidating(clientId,
+                () -> Deadline.call(deadline, () -> feignClient.updateStatus(clientId, request, contextTenantId)));
         }
     }
 
@@ -580,6 +729,7 @@ public final class ClientClient {
     public static final class ClientDeleteBuilder {
         private final String clientId;
         private String contextTenantId;
+        private Duration deadline;
 
         ClientDeleteBuilder(String clientId) {
             this.clientId = clientId;
@@ -596,13 +746,29 @@ public final class ClientClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientDeleteBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a remoção do client.
          */
         public void execute() {
             com.conexaoauthlib.feign.client.ClientClient feignClient =
                 ClientClientFactory.createClientClient();
-            feignClient.delete(clientId, contextTenantId);
+            EntityCaches.getDefault().clients().invalidating(clientId, () -> {
+                Deadline.run(deadline, () -> feignClient.delete(clientId, contextTenantId));
+                return null;
+            });
         }
     }
 }
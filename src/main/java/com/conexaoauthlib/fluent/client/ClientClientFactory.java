@@ -1,9 +1,12 @@
 package com.conexaoauthlib.fluent.client;
 
 import com.conexaoauthlib.feign.client.ClientClient;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
 import org.springframework.cloud.openfeign.FeignClientBuilder;
 import org.springframework.context.ApplicationContext;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Factory para criação de instâncias de ClientClient.
  *
@@ -39,7 +42,10 @@ import org.springframework.context.ApplicationContext;
  */
 public final class ClientClientFactory {
 
-    private static ApplicationContext applicationContext;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile ApplicationContext applicationContext;
+    private static volatile ClientClient client;
 
     /**
      * Injeta o ApplicationContext (chamado automaticamente pelo Spring).
@@ -50,15 +56,24 @@ public final class ClientClientFactory {
      * @param context ApplicationContext do Spring
      */
     public static void setApplicationContext(ApplicationContext context) {
-        ClientClientFactory.applicationContext = context;
+        LOCK.lock();
+        try {
+            ClientClientFactory.applicationContext = context;
+            ClientClientFactory.client = null;
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     /**
-     * Cria uma nova instância de ClientClient.
+     * Retorna a instância compartilhada de ClientClient.
+     *
+     * <p>O proxy Feign é construído uma única vez, na primeira chamada, e
+     * reutilizado por todas as operações fluentes. A instância é thread-safe.</p>
      *
      * <p>O cliente criado inclui todas as configurações de:</p>
      * <ul>
-     *   <li>Resiliência (CircuitBreaker, Retry)</li>
+     *   <li>Resiliência (CircuitBreaker, Retry, Bulkhead, TimeLimiter)</li>
      *   <li>Interceptores de autenticação</li>
      *   <li>Tratamento de erros</li>
      *   <li>Serialização JSON</li>
@@ -68,6 +83,23 @@ public final class ClientClientFactory {
      * @throws IllegalStateException se o ApplicationContext não estiver configurado
      */
     public static ClientClient createClientClient() {
+        ClientClient instance = client;
+        if (instance == null) {
+            LOCK.lock();
+            try {
+                instance = client;
+                if (instance == null) {
+                    instance = buildClientClient();
+                    client = instance;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    private static ClientClient buildClientClient() {
         if (applicationContext == null) {
             throw new IllegalStateException(
                 "ApplicationContext não configurado. " +
@@ -76,6 +108,7 @@ public final class ClientClientFactory {
         }
 
         FeignClientBuilder builder = new FeignClientBuilder(applicationContext);
-        return builder.forType(ClientClient.class, "client").build();
+        ClientClient feignClient = builder.forType(ClientClient.class, "client").build();
+        return ResilienceDecorators.getDefault().decorate(ClientClient.class, feignClient, "client");
     }
 }
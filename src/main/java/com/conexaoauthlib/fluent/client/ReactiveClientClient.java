@@ -0,0 +1,153 @@
+package com.conexaoauthlib.fluent.client;
+
+import com.conexaoauthlib.dto.client.ClientCreateRequestDTO;
+import com.conexaoauthlib.dto.client.ClientFilterDTO;
+import com.conexaoauthlib.dto.client.ClientResponseDTO;
+import com.conexaoauthlib.dto.client.ClientSecretResponseDTO;
+import com.conexaoauthlib.dto.client.ClientStatusDTO;
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.reactive.ReactiveHttpClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Entry point reativo para operações de Client OAuth2.
+ *
+ * <p>Equivalente não bloqueante de {@link ClientClient}. A listagem é exposta
+ * como {@link Flux} de clients que busca a próxima página somente quando
+ * os itens da página atual foram consumidos.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Mono<ClientResponseDTO> client = ReactiveClientClient
+ *     .getByClientId("my-service", "tenant-123");
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ClientClient
+ */
+public final class ReactiveClientClient {
+
+    private static final String CLIENT = "client";
+    private static final TypeReference<PageResponseDTO<ClientResponseDTO>> PAGE = new TypeReference<>() { };
+
+    private ReactiveClientClient() {
+        // Utility class - não instanciar
+    }
+
+    /**
+     * Registra um client.
+     *
+     * @param request Dados do client
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o client criado
+     */
+    public static Mono<ClientResponseDTO> register(ClientCreateRequestDTO request, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/clients")
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(ClientResponseDTO.class));
+    }
+
+    /**
+     * Lista clients de todas as páginas a partir da página do filtro.
+     *
+     * @param filter Filtros e tamanho de página
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Flux de clients, paginado sob demanda
+     */
+    public static Flux<ClientResponseDTO> list(ClientFilterDTO filter, String contextTenantId) {
+        return ReactiveHttpClient.paginate(
+            page -> listPage(filter.toBuilder().page(page).build(), contextTenantId),
+            filter.getPage() != null ? filter.getPage() : 0);
+    }
+
+    /**
+     * Busca uma única página de clients.
+     *
+     * @param filter Filtros e paginação
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a página
+     */
+    public static Mono<PageResponseDTO<ClientResponseDTO>> listPage(ClientFilterDTO filter,
+                                                                   String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/clients")
+            .queryParams(filter.toQueryParams())
+            .tenant(contextTenantId)
+            .retrieve(PAGE));
+    }
+
+    /**
+     * Busca client pelo ID interno.
+     *
+     * @param id ID interno do client
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o client
+     */
+    public static Mono<ClientResponseDTO> getById(String id, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/clients/{id}", id)
+            .tenant(contextTenantId)
+            .retrieve(ClientResponseDTO.class));
+    }
+
+    /**
+     * Busca client pelo clientId OAuth2.
+     *
+     * @param clientId clientId OAuth2
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o client
+     */
+    public static Mono<ClientResponseDTO> getByClientId(String clientId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/clients/by-clientId/{clientId}", clientId)
+            .tenant(contextTenantId)
+            .retrieve(ClientResponseDTO.class));
+    }
+
+    /**
+     * Gera um novo secret para o client.
+     *
+     * @param id ID do client
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o novo secret
+     */
+    public static Mono<ClientSecretResponseDTO> rotateSecret(String id, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/clients/{id}/regenerate-secret", id)
+            .tenant(contextTenantId)
+            .retrieve(ClientSecretResponseDTO.class));
+    }
+
+    /**
+     * Atualiza o status do client.
+     *
+     * @param id ID do client
+     * @param request Novo status e motivo
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o client atualizado
+     */
+    public static Mono<ClientResponseDTO> updateStatus(String id, ClientStatusDTO request,
+                                                       String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "PATCH", "/api/clients/{id}/status", id)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(ClientResponseDTO.class));
+    }
+
+    /**
+     * Remove o client.
+     *
+     * @param id ID do client
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono vazio concluído após a remoção
+     */
+    public static Mono<Void> delete(String id, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "DELETE", "/api/clients/{id}", id)
+            .tenant(contextTenantId)
+            .retrieveEmpty());
+    }
+
+    private static ReactiveHttpClient http() {
+        return ReactiveHttpClient.getDefault();
+    }
+}
@@ -1,13 +1,22 @@
 package com.conexaoauthlib.fluent.oauth2;
 
+import com.conexaoauthlib.cache.IntrospectionCache;
+import com.conexaoauthlib.cache.TokenCache;
+import com.conexaoauthlib.concurrent.AsyncExecutor;
+import com.conexaoauthlib.concurrent.SingleFlight;
 import com.conexaoauthlib.dto.oauth2.IntrospectRequestDTO;
 import com.conexaoauthlib.dto.oauth2.IntrospectResponseDTO;
 import com.conexaoauthlib.dto.oauth2.RevokeRequestDTO;
 import com.conexaoauthlib.dto.oauth2.TokenRequestDTO;
 import com.conexaoauthlib.dto.oauth2.TokenResponseDTO;
+import com.conexaoauthlib.exception.DeadlineExceededException;
 import com.conexaoauthlib.feign.oauth2.OAuth2Client;
+import com.conexaoauthlib.jwt.JwtValidator;
+import com.conexaoauthlib.resilience.Deadline;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Entry point fluente para operações OAuth2.
@@ -45,6 +54,12 @@ import java.util.concurrent.CompletableFuture;
  */
 public final class AuthClient {
 
+    /**
+     * Requisições de token em andamento. Chamadas concorrentes com o mesmo
+     * grant, cliente, escopo e tenant compartilham uma única requisição.
+     */
+    private static final SingleFlight<GrantKey, TokenResponseDTO> TOKEN_REQUESTS = new SingleFlight<>();
+
     private AuthClient() {
         // Utility class - não instanciar
     }
@@ -70,6 +85,8 @@ public final class AuthClient {
         private final String clientSecret;
         private String scope;
         private String tenantId;
+        private boolean useCache = true;
+        private Duration deadline;
 
         ClientCredentialsBuilder(String clientId, String clientSecret) {
             this.clientId = clientId;
@@ -98,25 +115,68 @@ public final class AuthClient {
             return this;
         }
 
+        /**
+         * Ignora o token em cache e força uma nova requisição.
+         * O token obtido substitui o anterior no cache.
+         *
+         * @return this builder
+         */
+        public ClientCredentialsBuilder noCache() {
+            this.useCache = false;
+            return this;
+        }
+
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ClientCredentialsBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a requisição e obtém o token.
          *
+         * <p>Tokens válidos são servidos pelo {@link TokenCache} até
+         * {@code expires_in} menos a margem de segurança configurada.</p>
+         *
          * @return TokenResponseDTO com access token
          */
         public TokenResponseDTO execute() {
-            TokenRequestDTO request = TokenRequestDTO.builder()
-                .grantType("client_credentials")
-                .clientId(clientId)
-                .clientSecret(clientSecret)
-                .scope(scope)
-                .build();
-
-            OAuth2Client client = OAuth2ClientFactory.createOAuth2Client();
-
-            if (tenantId != null) {
-                return client.getToken(request, tenantId);
+            TokenCache tokenCache = TokenCache.getDefault();
+            if (useCache) {
+                TokenResponseDTO cached = tokenCache.get(clientId, clientSecret, scope, tenantId);
+                if (cached != null) {
+                    return cached;
+                }
             }
-            return client.getToken(request);
+
+            GrantKey key = new GrantKey("client_credentials", clientId, clientSecret, scope, tenantId, null,
+                !useCache);
+            return coalesce(key, deadline, () -> {
+                if (useCache) {
+                    TokenResponseDTO cached = tokenCache.get(clientId, clientSecret, scope, tenantId);
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+
+                TokenRequestDTO request = TokenRequestDTO.builder()
+                    .grantType("client_credentials")
+                    .clientId(clientId)
+                    .clientSecret(clientSecret)
+                    .scope(scope)
+                    .build();
+
+                TokenResponseDTO token = requestToken(request, tenantId);
+                tokenCache.put(clientId, clientSecret, scope, tenantId, token);
+                return token;
+            });
         }
 
         /**
@@ -125,7 +185,7 @@ public final class AuthClient {
          * @return CompletableFuture com TokenResponseDTO
          */
         public CompletableFuture<TokenResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("oauth2", this::execute);
         }
     }
 
@@ -152,6 +212,7 @@ public final class AuthClient {
         private String clientSecret;
         private String scope;
         private String tenantId;
+        private Duration deadline;
 
         PasswordBuilder(String username, String password) {
             this.username = username;
@@ -194,6 +255,19 @@ public final class AuthClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public PasswordBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a requisição e obtém o token.
          *
@@ -212,9 +286,9 @@ public final class AuthClient {
             OAuth2Client client = OAuth2ClientFactory.createOAuth2Client();
 
             if (tenantId != null) {
-                return client.getToken(request, tenantId);
+                return Deadline.call(deadline, () -> client.getToken(request, tenantId));
             }
-            return client.getToken(request);
+            return Deadline.call(deadline, () -> client.getToken(request));
         }
 
         /**
@@ -223,7 +297,7 @@ public final class AuthClient {
          * @return CompletableFuture com TokenResponseDTO
          */
         public CompletableFuture<TokenResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("oauth2", this::execute);
         }
     }
 
@@ -248,6 +322,7 @@ public final class AuthClient {
         private String clientSecret;
         private String scope;
         private String tenantId;
+        private Duration deadline;
 
         RefreshTokenBuilder(String refreshToken) {
             this.refreshToken = refreshToken;
@@ -289,26 +364,41 @@ public final class AuthClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RefreshTokenBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a requisição e obtém novo token.
          *
+         * <p>Chamadas concorrentes com o mesmo refresh token compartilham
+         * uma única requisição ao servidor.</p>
+         *
          * @return TokenResponseDTO com novo access token
          */
         public TokenResponseDTO execute() {
-            TokenRequestDTO request = TokenRequestDTO.builder()
-                .grantType("refresh_token")
-                .clientId(clientId)
-                .clientSecret(clientSecret)
-                .refreshToken(refreshToken)
-                .scope(scope)
-                .build();
-
-            OAuth2Client client = OAuth2ClientFactory.createOAuth2Client();
-
-            if (tenantId != null) {
-                return client.getToken(request, tenantId);
-            }
-            return client.getToken(request);
+            GrantKey key = new GrantKey("refresh_token", clientId, clientSecret, scope, tenantId, refreshToken,
+                false);
+            return coalesce(key, deadline, () -> {
+                TokenRequestDTO request = TokenRequestDTO.builder()
+                    .grantType("refresh_token")
+                    .clientId(clientId)
+                    .clientSecret(clientSecret)
+                    .refreshToken(refreshToken)
+                    .scope(scope)
+                    .build();
+
+                return requestToken(request, tenantId);
+            });
         }
 
         /**
@@ -317,7 +407,7 @@ public final class AuthClient {
          * @return CompletableFuture com TokenResponseDTO
          */
         public CompletableFuture<TokenResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("oauth2", this::execute);
         }
     }
 
@@ -339,6 +429,9 @@ public final class AuthClient {
     public static final class IntrospectBuilder {
         private final String token;
         private String tenantId;
+        private boolean useCache = true;
+        private boolean offline;
+        private Duration deadline;
 
         IntrospectBuilder(String token) {
             this.token = token;
@@ -355,18 +448,74 @@ public final class AuthClient {
             return this;
         }
 
+        /**
+         * Ignora a resposta em cache e força uma nova introspecção.
+         * A resposta obtida substitui a anterior no cache.
+         *
+         * @return this builder
+         */
+        public IntrospectBuilder noCache() {
+            this.useCache = false;
+            return this;
+        }
+
+        /**
+         * Valida o token localmente (assinatura, exp, nbf, iss e aud)
+         * usando o JWKS em cache, sem chamar o endpoint de introspecção.
+         * Requer {@code conexao-auth.jwt.jwks-uri} configurado.
+         *
+         * @return this builder
+         */
+        public IntrospectBuilder offline() {
+            this.offline = true;
+            return this;
+        }
+
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public IntrospectBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a introspecção.
          *
+         * <p>Respostas são servidas pelo {@link IntrospectionCache} até o
+         * claim {@code exp} (limitado pelo TTL máximo), ou por um TTL curto
+         * quando o token está inativo. No modo {@link #offline()}, o token
+         * é validado localmente pelo {@link JwtValidator}.</p>
+         *
          * @return IntrospectResponseDTO com status e claims do token
          */
         public IntrospectResponseDTO execute() {
+            if (offline) {
+                return JwtValidator.getDefault().validate(token);
+            }
+
+            IntrospectionCache introspectionCache = IntrospectionCache.getDefault();
+            if (useCache) {
+                IntrospectResponseDTO cached = introspectionCache.get(token, tenantId);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+
             IntrospectRequestDTO request = IntrospectRequestDTO.builder()
                 .token(token)
                 .build();
 
             OAuth2Client client = OAuth2ClientFactory.createOAuth2Client();
-            return client.introspect(request, tenantId);
+            IntrospectResponseDTO response = Deadline.call(deadline, () -> client.introspect(request, tenantId));
+
+            introspectionCache.put(token, tenantId, response);
+            return response;
         }
 
         /**
@@ -375,7 +524,7 @@ public final class AuthClient {
          * @return CompletableFuture com IntrospectResponseDTO
          */
         public CompletableFuture<IntrospectResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("oauth2", this::execute);
         }
     }
 
@@ -397,6 +546,7 @@ public final class AuthClient {
     public static final class RevokeBuilder {
         private final String token;
         private String tenantId;
+        private Duration deadline;
 
         RevokeBuilder(String token) {
             this.token = token;
@@ -413,8 +563,24 @@ public final class AuthClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RevokeBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a revogação.
+         *
+         * <p>O token é removido dos caches locais de introspecção e de
+         * tokens deste processo.</p>
          */
         public void execute() {
             RevokeRequestDTO request = RevokeRequestDTO.builder()
@@ -422,7 +588,12 @@ public final class AuthClient {
                 .build();
 
             OAuth2Client client = OAuth2ClientFactory.createOAuth2Client();
-            client.revoke(request, tenantId);
+            try {
+                Deadline.run(deadline, () -> client.revoke(request, tenantId));
+            } finally {
+                IntrospectionCache.getDefault().invalidate(token);
+                TokenCache.getDefault().invalidateAccessToken(token);
+            }
         }
 
         /**
@@ -431,7 +602,56 @@ public final class AuthClient {
          * @return CompletableFuture void
          */
         public CompletableFuture<Void> executeAsync() {
-            return CompletableFuture.runAsync(this::execute);
+            return AsyncExecutor.getDefault().run("oauth2", this::execute);
         }
     }
+
+    // ==================== Internals ====================
+
+    /**
+     * Executa a requisição de token ou aguarda uma idêntica em andamento,
+     * cada chamador limitado ao próprio prazo. A requisição roda com o prazo
+     * de quem a iniciou; se ela falhar por esse prazo, os demais chamadores
+     * não herdam a falha e refazem a requisição com o seu.
+     */
+    private static TokenResponseDTO coalesce(GrantKey key, Duration deadline, Supplier<TokenResponseDTO> call) {
+        return Deadline.call(deadline, () -> {
+            while (true) {
+                Deadline own = Deadline.current();
+                boolean[] led = new boolean[1];
+                Supplier<TokenResponseDTO> leader = () -> {
+                    led[0] = true;
+                    return call.get();
+                };
+                try {
+                    return own == null
+                        ? TOKEN_REQUESTS.execute(key, leader)
+                        : TOKEN_REQUESTS.execute(key, leader, Duration.ofNanos(own.remainingNanos()),
+                            () -> own.exceeded("oauth2"));
+                } catch (DeadlineExceededException e) {
+                    if (led[0] || (own != null && own.isExpired())) {
+                        throw e;
+                    }
+                    // Prazo de outro chamador: refaz a requisição com o próprio prazo
+                }
+            }
+        });
+    }
+
+    private static TokenResponseDTO requestToken(TokenRequestDTO request, String tenantId) {
+        OAuth2Client client = OAuth2ClientFactory.createOAuth2Client();
+
+        if (tenantId != null) {
+            return client.getToken(request, tenantId);
+        }
+        return client.getToken(request);
+    }
+
+    /**
+     * Identifica requisições de token idênticas para coalescência.
+     * Requisições que ignoram o cache não aguardam as que o consultam.
+     */
+    private record GrantKey(String grantType, String clientId, String clientSecret,
+                            String scope, String tenantId, String refreshToken, boolean noCache) {
+    }
 }
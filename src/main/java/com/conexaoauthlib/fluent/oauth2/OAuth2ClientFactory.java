@@ -1,9 +1,12 @@
 package com.conexaoauthlib.fluent.oauth2;
 
 import com.conexaoauthlib.feign.oauth2.OAuth2Client;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
 import org.springframework.cloud.openfeign.FeignClientBuilder;
 import org.springframework.context.ApplicationContext;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Factory para criação de instâncias de OAuth2Client.
  * Gerencia o ciclo de vida dos clientes Feign.
@@ -38,7 +41,10 @@ import org.springframework.context.ApplicationContext;
  */
 public final class OAuth2ClientFactory {
 
-    private static ApplicationContext applicationContext;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile ApplicationContext applicationContext;
+    private static volatile OAuth2Client client;
 
     /**
      * Injeta o ApplicationContext (chamado automaticamente pelo Spring).
@@ -49,15 +55,24 @@ public final class OAuth2ClientFactory {
      * @param context ApplicationContext do Spring
      */
     public static void setApplicationContext(ApplicationContext context) {
-        OAuth2ClientFactory.applicationContext = context;
+        LOCK.lock();
+        try {
+            OAuth2ClientFactory.applicationContext = context;
+            OAuth2ClientFactory.client = null;
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     /**
-     * Cria uma nova instância de OAuth2Client.
+     * Retorna a instância compartilhada de OAuth2Client.
+     *
+     * <p>O proxy Feign é construído uma única vez, na primeira chamada, e
+     * reutilizado por todas as operações fluentes. A instância é thread-safe.</p>
      *
      * <p>O cliente criado inclui todas as configurações de:</p>
      * <ul>
-     *   <li>Resiliência (CircuitBreaker, Retry)</li>
+     *   <li>Resiliência (CircuitBreaker, Retry, Bulkhead, TimeLimiter)</li>
      *   <li>Interceptores de autenticação</li>
      *   <li>Tratamento de erros</li>
      *   <li>Serialização JSON</li>
@@ -67,6 +82,23 @@ public final class OAuth2ClientFactory {
      * @throws IllegalStateException se o ApplicationContext não estiver configurado
      */
     public static OAuth2Client createOAuth2Client() {
+        OAuth2Client instance = client;
+        if (instance == null) {
+            LOCK.lock();
+            try {
+                instance = client;
+                if (instance == null) {
+                    instance = buildOAuth2Client();
+                    client = instance;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    private static OAuth2Client buildOAuth2Client() {
         if (applicationContext == null) {
             throw new IllegalStateException(
                 "ApplicationContext não configurado. " +
@@ -75,6 +107,7 @@ public final class OAuth2ClientFactory {
         }
 
         FeignClientBuilder builder = new FeignClientBuilder(applicationContext);
-        return builder.forType(OAuth2Client.class, "oauth2").build();
+        OAuth2Client feignClient = builder.forType(OAuth2Client.class, "oauth2").build();
+        return ResilienceDecorators.getDefault().decorate(OAuth2Client.class, feignClient, "oauth2");
     }
 }
@@ -0,0 +1,152 @@
+package com.conexaoauthlib.fluent.oauth2;
+
+import com.conexaoauthlib.cache.IntrospectionCache;
+import com.conexaoauthlib.cache.TokenCache;
+import com.conexaoauthlib.dto.oauth2.IntrospectRequestDTO;
+import com.conexaoauthlib.dto.oauth2.IntrospectResponseDTO;
+import com.conexaoauthlib.dto.oauth2.RevokeRequestDTO;
+import com.conexaoauthlib.dto.oauth2.TokenRequestDTO;
+import com.conexaoauthlib.dto.oauth2.TokenResponseDTO;
+import com.conexaoauthlib.reactive.ReactiveHttpClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Entry point reativo para operações OAuth2.
+ *
+ * <p>Equivalente não bloqueante de {@link AuthClient}: as requisições são
+ * executadas sobre o {@link ReactiveHttpClient} e só começam na assinatura
+ * do {@link Mono}. Os caches de token e de introspecção são compartilhados
+ * com a API bloqueante.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Mono<String> accessToken = ReactiveAuthClient
+ *     .clientCredentials("client-id", "secret", "read write", "tenant-123")
+ *     .map(TokenResponseDTO::getAccessToken);
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see AuthClient
+ */
+public final class ReactiveAuthClient {
+
+    private static final String CLIENT = "oauth2";
+
+    private ReactiveAuthClient() {
+        // Utility class - não instanciar
+    }
+
+    // ==================== Token ====================
+
+    /**
+     * Obtém token via Client Credentials Grant, servindo tokens válidos
+     * do {@link TokenCache}.
+     *
+     * @param clientId ID do cliente
+     * @param clientSecret Segredo do cliente
+     * @param scope Escopos separados por espaço (opcional)
+     * @param tenantId ID do tenant (opcional)
+     * @return Mono com TokenResponseDTO
+     */
+    public static Mono<TokenResponseDTO> clientCredentials(String clientId, String clientSecret,
+                                                           String scope, String tenantId) {
+        return Mono.defer(() -> {
+            TokenCache tokenCache = TokenCache.getDefault();
+            TokenResponseDTO cached = tokenCache.get(clientId, clientSecret, scope, tenantId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            TokenRequestDTO request = TokenRequestDTO.builder()
+                .grantType("client_credentials")
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .scope(scope)
+                .build();
+            return token(request, tenantId)
+                .doOnNext(token -> tokenCache.put(clientId, clientSecret, scope, tenantId, token));
+        });
+    }
+
+    /**
+     * Renova um token via Refresh Token Grant.
+     *
+     * @param refreshToken Refresh token
+     * @param clientId ID do cliente
+     * @param clientSecret Segredo do cliente
+     * @param tenantId ID do tenant (opcional)
+     * @return Mono com o novo TokenResponseDTO
+     */
+    public static Mono<TokenResponseDTO> refreshToken(String refreshToken, String clientId,
+                                                      String clientSecret, String tenantId) {
+        return token(TokenRequestDTO.builder()
+            .grantType("refresh_token")
+            .refreshToken(refreshToken)
+            .clientId(clientId)
+            .clientSecret(clientSecret)
+            .build(), tenantId);
+    }
+
+    /**
+     * Executa uma requisição de token com qualquer grant suportado.
+     *
+     * @param request Requisição de token
+     * @param tenantId ID do tenant (opcional)
+     * @return Mono com TokenResponseDTO
+     */
+    public static Mono<TokenResponseDTO> token(TokenRequestDTO request, String tenantId) {
+        return Mono.defer(() -> ReactiveHttpClient.getDefault()
+            .request(CLIENT, "POST", "/token")
+            .form(request)
+            .tenant(tenantId)
+            .retrieve(TokenResponseDTO.class));
+    }
+
+    // ==================== Introspect ====================
+
+    /**
+     * Introspecta um token, servindo respostas do {@link IntrospectionCache}.
+     *
+     * @param token Token a ser verificado
+     * @param tenantId ID do tenant (opcional)
+     * @return Mono com IntrospectResponseDTO
+     */
+    public static Mono<IntrospectResponseDTO> introspect(String token, String tenantId) {
+        return Mono.defer(() -> {
+            IntrospectionCache introspectionCache = IntrospectionCache.getDefault();
+            IntrospectResponseDTO cached = introspectionCache.get(token, tenantId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return ReactiveHttpClient.getDefault()
+                .request(CLIENT, "POST", "/introspect")
+                .form(IntrospectRequestDTO.builder().token(token).build())
+                .tenant(tenantId)
+                .retrieve(IntrospectResponseDTO.class)
+                .doOnNext(response -> introspectionCache.put(token, tenantId, response));
+        });
+    }
+
+    // ==================== Revoke ====================
+
+    /**
+     * Revoga um token e o remove dos caches locais.
+     *
+     * @param token Token a ser revogado
+     * @param tenantId ID do tenant (opcional)
+     * @return Mono vazio concluído após a revogação
+     */
+    public static Mono<Void> revoke(String token, String tenantId) {
+        return Mono.defer(() -> ReactiveHttpClient.getDefault()
+                .request(CLIENT, "POST", "/revoke")
+                .form(RevokeRequestDTO.builder().token(token).build())
+                .tenant(tenantId)
+                .retrieveEmpty())
+            .doFinally(signal -> {
+                IntrospectionCache.getDefault().invalidate(token);
+                TokenCache.getDefault().invalidateAccessToken(token);
+            });
+    }
+}
@@ -0,0 +1,455 @@
+package com.conexaoauthlib.fluent.oauth2;
+
+import com.conexaoauthlib.concurrent.SingleFlight;
+import com.conexaoauthlib.dto.oauth2.TokenResponseDTO;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Gerenciador de tokens com renovação proativa em background.
+ *
+ * <p>Tokens registrados são renovados antes de expirar, após uma fração
+ * configurável de sua validade ({@code expires_in}). Um jitter aleatório
+ * é subtraído do instante de renovação para que múltiplas instâncias da
+ * aplicação não renovem seus tokens no mesmo momento.</p>
+ *
+ * <p>A renovação utiliza o grant {@code refresh_token} quando o token atual
+ * possui refresh token e recorre ao {@code client_credentials} caso contrário
+ * ou em caso de falha. Enquanto houver um token válido, {@link ManagedToken#getToken()}
+ * nunca bloqueia aguardando o servidor. Um token é considerado expirado uma
+ * margem de segurança ({@code refresh-skew}) antes do seu {@code expires_in},
+ * para que não expire em trânsito.</p>
+ *
+ * <p>Renovações concorrentes do mesmo token são coalescidas e a chamada ao
+ * servidor não é feita sob bloqueio. Falhas sucessivas são repetidas em
+ * background com backoff exponencial limitado e jitter; sem token válido,
+ * as chamadas a {@link ManagedToken#getToken()} falham imediatamente com o
+ * último erro até a próxima tentativa.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * TokenManager.ManagedToken billing = TokenManager.getDefault()
+ *     .register("billing", "client-id", "secret", "read write", "tenant-123");
+ *
+ * // No caminho da requisição
+ * String accessToken = billing.getAccessToken();
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see AuthClient
+ * @see TokenManagerProperties
+ */
+public final class TokenManager implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(TokenManager.class.getName());
+
+    /**
+     * Fração padrão da validade após a qual o token é renovado.
+     */
+    public static final double DEFAULT_REFRESH_RATIO = 0.75;
+
+    /**
+     * Fração padrão da validade usada como jitter máximo.
+     */
+    public static final double DEFAULT_JITTER_RATIO = 0.10;
+
+    /**
+     * Margem padrão antes do {@code expires_in} a partir da qual o token é
+     * considerado expirado.
+     */
+    public static final Duration DEFAULT_REFRESH_SKEW = Duration.ofSeconds(30);
+
+    /**
+     * Espera padrão antes da primeira nova tentativa após uma falha.
+     */
+    public static final Duration DEFAULT_INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+
+    /**
+     * Espera máxima padrão entre novas tentativas.
+     */
+    public static final Duration DEFAULT_MAX_RETRY_DELAY = Duration.ofMinutes(5);
+
+    private static final long MIN_DELAY_MILLIS = 1_000;
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
+    private static volatile TokenManager defaultInstance;
+
+    private final double refreshRatio;
+    private final double jitterRatio;
+    private final long refreshSkewMillis;
+    private final long initialRetryDelayMillis;
+    private final long maxRetryDelayMillis;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<String, ManagedToken> tokens = new ConcurrentHashMap<>();
+    private final SingleFlight<String, Snapshot> refreshes = new SingleFlight<>();
+
+    /**
+     * Construtor com valores padrão.
+     */
+    public TokenManager() {
+        this(DEFAULT_REFRESH_RATIO, DEFAULT_JITTER_RATIO);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @param refreshRatio Fração da validade após a qual o token é renovado (0-1)
+     * @param jitterRatio Fração da validade usada como jitter máximo (0-1)
+     */
+    public TokenManager(double refreshRatio, double jitterRatio) {
+        this(refreshRatio, jitterRatio, DEFAULT_REFRESH_SKEW, DEFAULT_INITIAL_RETRY_DELAY, DEFAULT_MAX_RETRY_DELAY);
+    }
+
+    /**
+     * Construtor a partir das propriedades de configuração.
+     *
+     * @param properties Propriedades do gerenciador de tokens
+     */
+    public TokenManager(TokenManagerProperties properties) {
+        this(properties.getRefreshRatio(), properties.getJitterRatio(), properties.getRefreshSkew(),
+            properties.getInitialRetryDelay(), properties.getMaxRetryDelay());
+    }
+
+    /**
+     * Construtor.
+     *
+     * @param refreshRatio Fração da validade após a qual o token é renovado (0-1)
+     * @param jitterRatio Fração da validade usada como jitter máximo (0-1)
+     * @param refreshSkew Margem antes do {@code expires_in} a partir da qual o token é considerado expirado
+     * @param initialRetryDelay Espera antes da primeira nova tentativa após uma falha
+     * @param maxRetryDelay Espera máxima entre novas tentativas
+     */
+    public TokenManager(double refreshRatio, double jitterRatio, Duration refreshSkew,
+                        Duration initialRetryDelay, Duration maxRetryDelay) {
+        if (refreshRatio <= 0 || refreshRatio >= 1) {
+            throw new IllegalArgumentException("refreshRatio deve estar entre 0 e 1");
+        }
+        if (jitterRatio < 0 || jitterRatio >= refreshRatio) {
+            throw new IllegalArgumentException("jitterRatio deve estar entre 0 e refreshRatio");
+        }
+        if (refreshSkew.isNegative()) {
+            throw new IllegalArgumentException("refreshSkew não pode ser negativo");
+        }
+        if (initialRetryDelay.isNegative() || initialRetryDelay.isZero()
+                || maxRetryDelay.compareTo(initialRetryDelay) < 0) {
+            throw new IllegalArgumentException(
+                "initialRetryDelay deve ser positivo e maxRetryDelay não pode ser menor que ele");
+        }
+        this.refreshRatio = refreshRatio;
+        this.jitterRatio = jitterRatio;
+        this.refreshSkewMillis = refreshSkew.toMillis();
+        this.initialRetryDelayMillis = initialRetryDelay.toMillis();
+        this.maxRetryDelayMillis = maxRetryDelay.toMillis();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "conexaoauth-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a na primeira chamada.
+     *
+     * @return TokenManager padrão
+     */
+    public static TokenManager getDefault() {
+        TokenManager instance = defaultInstance;
+        if (instance == null) {
+            synchronized (TokenManager.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new TokenManager();
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param tokenManager Nova instância
+     */
+    public static void setDefault(TokenManager tokenManager) {
+        synchronized (TokenManager.class) {
+            TokenManager.defaultInstance = tokenManager;
+        }
+    }
+
+    /**
+     * Registra credenciais cujo token será mantido válido em background.
+     * O primeiro token é obtido na primeira chamada a {@link ManagedToken#getToken()}.
+     *
+     * @param name Nome único do registro
+     * @param clientId ID do cliente
+     * @param clientSecret Segredo do cliente
+     * @param scope Escopos separados por espaço (opcional)
+     * @param tenantId ID do tenant (opcional)
+     * @return ManagedToken registrado
+     * @throws IllegalStateException se o nome já estiver registrado
+     */
+    public ManagedToken register(String name, String clientId, String clientSecret,
+                                 String scope, String tenantId) {
+        ManagedToken token = new ManagedToken(name, clientId, clientSecret, scope, tenantId);
+        if (tokens.putIfAbsent(name, token) != null) {
+            throw new IllegalStateException("Token já registrado: " + name);
+        }
+        return token;
+    }
+
+    /**
+     * Retorna um token registrado.
+     *
+     * @param name Nome do registro
+     * @return ManagedToken ou null se não registrado
+     */
+    public ManagedToken get(String name) {
+        return tokens.get(name);
+    }
+
+    /**
+     * Remove um registro e cancela sua renovação.
+     *
+     * @param name Nome do registro
+     */
+    public void unregister(String name) {
+        ManagedToken token = tokens.remove(name);
+        if (token != null) {
+            token.cancel();
+        }
+    }
+
+    /**
+     * Cancela todas as renovações e encerra o agendador. Chamado pelo Spring
+     * no encerramento do contexto; se esta for a instância compartilhada, a
+     * próxima chamada a {@link #getDefault()} cria uma nova.
+     */
+    @Override
+    public void close() {
+        synchronized (TokenManager.class) {
+            if (defaultInstance == this) {
+                defaultInstance = null;
+            }
+        }
+        tokens.values().forEach(ManagedToken::cancel);
+        tokens.clear();
+        scheduler.shutdownNow();
+    }
+
+    private long refreshDelayMillis(long lifetimeMillis) {
+        long jitter = (long) (lifetimeMillis * jitterRatio * ThreadLocalRandom.current().nextDouble());
+        return Math.max(MIN_DELAY_MILLIS, (long) (lifetimeMillis * refreshRatio) - jitter);
+    }
+
+    /**
+     * Espera antes da próxima tentativa: cresce exponencialmente a cada falha
+     * até {@code maxRetryDelay}, sem ultrapassar um quarto da validade
+     * restante do token atual, com jitter sobre a metade superior.
+     */
+    private long retryDelayMillis(int failures, long remainingMillis) {
+        int exponent = Math.min(Math.max(0, failures - 1), MAX_BACKOFF_EXPONENT);
+        long base = Math.min(maxRetryDelayMillis, initialRetryDelayMillis << exponent);
+        if (remainingMillis > 0) {
+            base = Math.min(base, Math.max(initialRetryDelayMillis, remainingMillis / 4));
+        }
+        return base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    /**
+     * Token mantido válido pelo {@link TokenManager}.
+     */
+    public final class ManagedToken {
+        private final String name;
+        private final String clientId;
+        private final String clientSecret;
+        private final String scope;
+        private final String tenantId;
+
+        private final ReentrantLock scheduleLock = new ReentrantLock();
+        private volatile Snapshot current;
+        private volatile boolean cancelled;
+        private volatile int failures;
+        private volatile long retryAt;
+        private volatile RuntimeException lastFailure;
+        private ScheduledFuture<?> nextRefresh;
+
+        ManagedToken(String name, String clientId, String clientSecret, String scope, String tenantId) {
+            this.name = name;
+            this.clientId = clientId;
+            this.clientSecret = clientSecret;
+            this.scope = scope;
+            this.tenantId = tenantId;
+        }
+
+        /**
+         * @return Nome do registro
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Retorna o access token atual.
+         *
+         * @return Access token válido
+         */
+        public String getAccessToken() {
+            return getToken().getAccessToken();
+        }
+
+        /**
+         * Retorna o token atual. Só bloqueia quando não há token válido,
+         * isto é, na primeira chamada ou após falhas sucessivas de renovação.
+         * Após uma falha, sem token válido, relança o último erro até a
+         * próxima tentativa agendada.
+         *
+         * @return TokenResponseDTO válido
+         */
+        public TokenResponseDTO getToken() {
+            Snapshot snapshot = current;
+            if (snapshot != null && !snapshot.isExpired()) {
+                return snapshot.token;
+            }
+            RuntimeException failure = lastFailure;
+            if (failure != null && retryAt - System.nanoTime() > 0) {
+                throw failure;
+            }
+            return refreshes.execute(name, () -> {
+                Snapshot latest = current;
+                return latest != null && !latest.isExpired() ? latest : refresh(latest);
+            }).token;
+        }
+
+        private void refreshInBackground() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                refreshes.execute(name, () -> refresh(current));
+            } catch (RuntimeException e) {
+                // Registrado e reagendado por refresh()
+            }
+        }
+
+        /**
+         * Obtém um novo token. Executado por uma única thread por vez
+         * ({@link SingleFlight}), sem bloqueio durante a chamada ao servidor.
+         */
+        private Snapshot refresh(Snapshot previous) {
+            try {
+                Snapshot snapshot = new Snapshot(requestToken(previous), refreshSkewMillis, refreshRatio);
+                current = snapshot;
+                failures = 0;
+                lastFailure = null;
+                if (snapshot.lifetimeMillis > 0) {
+                    schedule(refreshDelayMillis(snapshot.lifetimeMillis));
+                }
+                return snapshot;
+            } catch (RuntimeException e) {
+                int attempt = failures + 1;
+                failures = attempt;
+                long delay = retryDelayMillis(attempt, previous != null ? previous.remainingMillis() : 0);
+                retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+                lastFailure = e;
+                LOGGER.warning("Token refresh failed for '" + name + "' (attempt " + attempt
+                    + ", next in " + delay + "ms): " + e.getMessage());
+                schedule(delay);
+                throw e;
+            }
+        }
+
+        private TokenResponseDTO requestToken(Snapshot previous) {
+            if (previous != null && previous.token.getRefreshToken() != null) {
+                try {
+                    return AuthClient.refreshToken(previous.token.getRefreshToken())
+                        .clientCredentials(clientId, clientSecret)
+                        .scope(scope)
+                        .tenantId(tenantId)
+                        .execute();
+                } catch (RuntimeException e) {
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.fine("Refresh token grant failed for '" + name
+                            + "', falling back to client_credentials: " + e.getMessage());
+                    }
+                }
+            }
+
+            return AuthClient.clientCredentials(clientId, clientSecret)
+                .scope(scope)
+                .tenantId(tenantId)
+                .noCache()
+                .execute();
+        }
+
+        private void schedule(long delayMillis) {
+            scheduleLock.lock();
+            try {
+                if (cancelled || scheduler.isShutdown()) {
+                    return;
+                }
+                if (nextRefresh != null) {
+                    nextRefresh.cancel(false);
+                }
+                nextRefresh = scheduler.schedule(this::refreshInBackground, delayMillis, TimeUnit.MILLISECONDS);
+            } finally {
+                scheduleLock.unlock();
+            }
+        }
+
+        private void cancel() {
+            scheduleLock.lock();
+            try {
+                cancelled = true;
+                if (nextRefresh != null) {
+                    nextRefresh.cancel(false);
+                }
+            } finally {
+                scheduleLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Token e instante de expiração, publicados atomicamente.
+     *
+     * <p>O token deixa de ser usado {@code refreshSkew} antes de expirar,
+     * margem limitada à parcela da validade após a renovação proativa para
+     * que tokens curtos continuem utilizáveis.</p>
+     */
+    private static final class Snapshot {
+        private final TokenResponseDTO token;
+        private final long lifetimeMillis;
+        private final long expiresAt;
+        private final long usableUntil;
+
+        Snapshot(TokenResponseDTO token, long refreshSkewMillis, double refreshRatio) {
+            this.token = token;
+            this.lifetimeMillis = token.getExpiresIn() != null
+                ? TimeUnit.SECONDS.toMillis(token.getExpiresIn())
+                : 0;
+            long skewMillis = Math.min(refreshSkewMillis, (long) (lifetimeMillis * (1 - refreshRatio)));
+            this.expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lifetimeMillis);
+            this.usableUntil = expiresAt - TimeUnit.MILLISECONDS.toNanos(skewMillis);
+        }
+
+        boolean isExpired() {
+            return lifetimeMillis > 0 && usableUntil - System.nanoTime() <= 0;
+        }
+
+        long remainingMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(Math.max(0, expiresAt - System.nanoTime()));
+        }
+    }
+}
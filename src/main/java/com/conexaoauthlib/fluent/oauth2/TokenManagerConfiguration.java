@@ -0,0 +1,31 @@
+package com.conexaoauthlib.fluent.oauth2;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do {@link TokenManager} compartilhado.
+ *
+ * <p>Cria o gerenciador a partir de {@link TokenManagerProperties}, o
+ * registra como instância padrão e o encerra com o contexto Spring,
+ * cancelando as renovações agendadas.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+public class TokenManagerConfiguration {
+
+    /**
+     * Gerenciador de tokens da API fluente.
+     *
+     * @param properties Propriedades do gerenciador de tokens
+     * @return TokenManager configurado
+     */
+    @Bean(destroyMethod = "close")
+    public TokenManager tokenManager(TokenManagerProperties properties) {
+        TokenManager tokenManager = new TokenManager(properties);
+        TokenManager.setDefault(tokenManager);
+        return tokenManager;
+    }
+}
@@ -0,0 +1,63 @@
+package com.conexaoauthlib.fluent.oauth2;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do {@link TokenManager}.
+ * Carregadas de application.yml com prefixo "conexao-auth.token-manager".
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   token-manager:
+ *     refresh-ratio: 0.75
+ *     jitter-ratio: 0.10
+ *     refresh-skew: 30s
+ *     initial-retry-delay: 1s
+ *     max-retry-delay: 5m
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.token-manager")
+public class TokenManagerProperties {
+
+    /**
+     * Fração da validade após a qual o token é renovado em background (0-1).
+     * Valor padrão: 0.75
+     */
+    private double refreshRatio = TokenManager.DEFAULT_REFRESH_RATIO;
+
+    /**
+     * Fração da validade usada como jitter máximo da renovação.
+     * Valor padrão: 0.10
+     */
+    private double jitterRatio = TokenManager.DEFAULT_JITTER_RATIO;
+
+    /**
+     * Margem antes do expires_in a partir da qual o token não é mais
+     * entregue e uma renovação bloqueante é feita.
+     * Valor padrão: 30 segundos
+     */
+    private Duration refreshSkew = TokenManager.DEFAULT_REFRESH_SKEW;
+
+    /**
+     * Espera antes da primeira nova tentativa após uma falha de renovação;
+     * dobra a cada falha seguida.
+     * Valor padrão: 1 segundo
+     */
+    private Duration initialRetryDelay = TokenManager.DEFAULT_INITIAL_RETRY_DELAY;
+
+    /**
+     * Espera máxima entre novas tentativas de renovação.
+     * Valor padrão: 5 minutos
+     */
+    private Duration maxRetryDelay = TokenManager.DEFAULT_MAX_RETRY_DELAY;
+}
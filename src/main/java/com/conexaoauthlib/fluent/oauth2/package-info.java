@@ -12,6 +12,7 @@
  *   <li>Refresh Token - Renovação de tokens</li>
  *   <li>Introspect - Verificação de validade de tokens</li>
  *   <li>Revoke - Revogação de tokens</li>
+ *   <li>TokenManager - Renovação proativa de tokens em background</li>
  * </ul>
  *
  * <h3>Exemplo de uso:</h3>
@@ -47,6 +48,8 @@
  * @since 1.0.0
  * @see com.conexaoauthlib.fluent.oauth2.AuthClient
  * @see com.conexaoauthlib.fluent.oauth2.OAuth2ClientFactory
+ * @see com.conexaoauthlib.fluent.oauth2.TokenManager
+ * @see com.conexaoauthlib.fluent.oauth2.TokenManagerProperties
  */
 @NonNullApi
 package com.conexaoauthlib.fluent.oauth2;
@@ -0,0 +1,160 @@
+package com.conexaoauthlib.fluent.role;
+
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.dto.role.RoleCreateRequestDTO;
+import com.conexaoauthlib.dto.role.RoleFilterDTO;
+import com.conexaoauthlib.dto.role.RoleResponseDTO;
+import com.conexaoauthlib.dto.role.RoleStatusDTO;
+import com.conexaoauthlib.dto.scope.ScopeAssignRequestDTO;
+import com.conexaoauthlib.reactive.ReactiveHttpClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Entry point reativo para operações de Role.
+ *
+ * <p>Equivalente não bloqueante de {@link RoleClient}. A listagem é exposta
+ * como {@link Flux} de roles que busca a próxima página somente quando
+ * os itens da página atual foram consumidos.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Flux<RoleResponseDTO> roles = ReactiveRoleClient.list(
+ *     RoleFilterDTO.builder().includeScopes(true).build(), "tenant-123");
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see RoleClient
+ */
+public final class ReactiveRoleClient {
+
+    private static final String CLIENT = "role";
+    private static final TypeReference<PageResponseDTO<RoleResponseDTO>> PAGE = new TypeReference<>() { };
+
+    private ReactiveRoleClient() {
+        // Utility class - não instanciar
+    }
+
+    /**
+     * Cria uma role.
+     *
+     * @param request Dados da role
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a role criada
+     */
+    public static Mono<RoleResponseDTO> create(RoleCreateRequestDTO request, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/roles")
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(RoleResponseDTO.class));
+    }
+
+    /**
+     * Lista roles de todas as páginas a partir da página do filtro.
+     *
+     * @param filter Filtros e tamanho de página
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Flux de roles, paginado sob demanda
+     */
+    public static Flux<RoleResponseDTO> list(RoleFilterDTO filter, String contextTenantId) {
+        return ReactiveHttpClient.paginate(
+            page -> listPage(filter.toBuilder().page(page).build(), contextTenantId),
+            filter.getPage() != null ? filter.getPage() : 0);
+    }
+
+    /**
+     * Busca uma única página de roles.
+     *
+     * @param filter Filtros e paginação
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a página
+     */
+    public static Mono<PageResponseDTO<RoleResponseDTO>> listPage(RoleFilterDTO filter, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/roles")
+            .queryParams(filter.toQueryParams())
+            .tenant(contextTenantId)
+            .retrieve(PAGE));
+    }
+
+    /**
+     * Busca role por ID.
+     *
+     * @param roleId ID da role
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a role
+     */
+    public static Mono<RoleResponseDTO> get(String roleId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/roles/{id}", roleId)
+            .tenant(contextTenantId)
+            .retrieve(RoleResponseDTO.class));
+    }
+
+    /**
+     * Atualiza o status da role.
+     *
+     * @param roleId ID da role
+     * @param request Novo status e motivo
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a role atualizada
+     */
+    public static Mono<RoleResponseDTO> updateStatus(String roleId, RoleStatusDTO request,
+                                                     String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "PATCH", "/api/roles/{id}/status", roleId)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(RoleResponseDTO.class));
+    }
+
+    /**
+     * Atribui scopes à role.
+     *
+     * @param roleId ID da role
+     * @param scopeIds IDs dos scopes
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a role atualizada
+     */
+    public static Mono<RoleResponseDTO> assignScopes(String roleId, List<String> scopeIds,
+                                                     String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/roles/{id}/scopes", roleId)
+            .json(ScopeAssignRequestDTO.builder().scopeIds(scopeIds).build())
+            .tenant(contextTenantId)
+            .retrieve(RoleResponseDTO.class));
+    }
+
+    /**
+     * Remove scopes da role.
+     *
+     * @param roleId ID da role
+     * @param scopeIds IDs dos scopes
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a role atualizada
+     */
+    public static Mono<RoleResponseDTO> removeScopes(String roleId, List<String> scopeIds,
+                                                     String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "DELETE", "/api/roles/{id}/scopes", roleId)
+            .queryParam("scope_ids", scopeIds)
+            .tenant(contextTenantId)
+            .retrieve(RoleResponseDTO.class));
+    }
+
+    /**
+     * Desativa (remove) a role.
+     *
+     * @param roleId ID da role
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono vazio concluído após a remoção
+     */
+    public static Mono<Void> deactivate(String roleId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "DELETE", "/api/roles/{id}", roleId)
+            .tenant(contextTenantId)
+            .retrieveEmpty());
+    }
+
+    private static ReactiveHttpClient http() {
+        return ReactiveHttpClient.getDefault();
+    }
+}
@@ -1,15 +1,20 @@
 package com.conexaoauthlib.fluent.role;
 
+import com.conexaoauthlib.concurrent.AsyncExecutor;
+import com.conexaoauthlib.concurrent.PageIterator;
 import com.conexaoauthlib.dto.common.PageResponseDTO;
 import com.conexaoauthlib.dto.role.RoleCreateRequestDTO;
 import com.conexaoauthlib.dto.role.RoleFilterDTO;
 import com.conexaoauthlib.dto.role.RoleResponseDTO;
 import com.conexaoauthlib.dto.role.RoleStatusDTO;
 import com.conexaoauthlib.dto.scope.ScopeAssignRequestDTO;
+import com.conexaoauthlib.resilience.Deadline;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Entry point fluente para operações de Role.
@@ -63,6 +68,7 @@ public final class RoleClient {
         private String tenantId;
         private final List<String> scopeIds = new ArrayList<>();
         private String contextTenantId;
+        private Duration deadline;
 
         /**
          * Define o nome da role.
@@ -130,6 +136,19 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleCreateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a criação da role.
          *
@@ -145,7 +164,7 @@ public final class RoleClient {
 
             com.conexaoauthlib.feign.role.RoleClient feignClient =
                 RoleClientFactory.createRoleClient();
-            return feignClient.create(request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.create(request, contextTenantId));
         }
 
         /**
@@ -154,7 +173,7 @@ public final class RoleClient {
          * @return CompletableFuture com RoleResponseDTO
          */
         public CompletableFuture<RoleResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("role", this::execute);
         }
     }
 
@@ -181,6 +200,8 @@ public final class RoleClient {
         private Integer size = 20;
         private String sort = "name,asc";
         private String contextTenantId;
+        private Duration deadline;
+        private int parallelism = 1;
 
         /**
          * Filtra pelo nome da role.
@@ -270,25 +291,102 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleListBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Busca as páginas em paralelo em {@link #iterator()} e {@link #stream()}:
+         * a primeira página informa o total de páginas e as demais são buscadas
+         * com até {@code parallelism} chamadas simultâneas, limitadas pelo
+         * Bulkhead e pelo CircuitBreaker do cliente, e entregues em ordem.
+         *
+         * @param parallelism Máximo de páginas buscadas simultaneamente
+         * @return this builder
+         */
+        public RoleListBuilder parallel(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Executa a listagem com os filtros configurados.
          *
          * @return PageResponseDTO com lista de roles
          */
         public PageResponseDTO<RoleResponseDTO> execute() {
-            RoleFilterDTO filter = RoleFilterDTO.builder()
+            return fetch(page);
+        }
+
+        /**
+         * Percorre todos os roles que atendem aos filtros, a partir da
+         * página configurada. A próxima página é buscada em segundo plano
+         * enquanto a atual é consumida; o prazo, se definido, vale por página.
+         *
+         * @return Iterator preguiçoso sobre todas as páginas
+         */
+        public PageIterator<RoleResponseDTO> iterator() {
+            int firstPage = page != null ? page : 0;
+            return parallelism > 1
+                ? PageIterator.parallel("role", firstPage, this::fetch, parallelism)
+                : new PageIterator<>("role", firstPage, this::fetch);
+        }
+
+        /**
+         * Percorre todos os roles que atendem aos filtros como Stream.
+         * Feche o Stream para cancelar a busca antecipada se ele não for
+         * consumido até o fim.
+         *
+         * @return Stream preguiçoso sobre todas as páginas
+         * @see #iterator()
+         */
+        public Stream<RoleResponseDTO> stream() {
+            return iterator().stream();
+        }
+
+        /**
+         * Busca a página configurada decodificando os roles à medida que o
+         * Stream é consumido, sem carregar o conteúdo inteiro em memória. A
+         * resposta fica aberta até o Stream ser esgotado ou fechado; o prazo,
+         * se definido, vale até o início da leitura.
+         *
+         * @return Stream com os roles da página
+         */
+        public Stream<RoleResponseDTO> streamPage() {
+            RoleFilterDTO filter = filter(page);
+
+            com.conexaoauthlib.feign.role.RoleClient feignClient =
+                RoleClientFactory.createRoleClient();
+            return Deadline.call(deadline, () -> feignClient.stream(filter, contextTenantId));
+        }
+
+        private PageResponseDTO<RoleResponseDTO> fetch(Integer pageNumber) {
+            RoleFilterDTO filter = filter(pageNumber);
+
+            com.conexaoauthlib.feign.role.RoleClient feignClient =
+                RoleClientFactory.createRoleClient();
+            return Deadline.call(deadline, () -> feignClient.list(filter, contextTenantId));
+        }
+
+        private RoleFilterDTO filter(Integer pageNumber) {
+            return RoleFilterDTO.builder()
                 .name(name)
                 .status(status)
                 .tenantId(tenantId)
                 .includeScopes(includeScopes)
-                .page(page)
+                .page(pageNumber)
                 .size(size)
                 .sort(sort)
                 .build();
-
-            com.conexaoauthlib.feign.role.RoleClient feignClient =
-                RoleClientFactory.createRoleClient();
-            return feignClient.list(filter, contextTenantId);
         }
     }
 
@@ -310,6 +408,7 @@ public final class RoleClient {
     public static final class RoleGetBuilder {
         private final String roleId;
         private String contextTenantId;
+        private Duration deadline;
 
         RoleGetBuilder(String roleId) {
             this.roleId = roleId;
@@ -326,6 +425,19 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleGetBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a busca da role.
          *
@@ -334,7 +446,7 @@ public final class RoleClient {
         public RoleResponseDTO execute() {
             com.conexaoauthlib.feign.role.RoleClient feignClient =
                 RoleClientFactory.createRoleClient();
-            return feignClient.getById(roleId, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.getById(roleId, contextTenantId));
         }
 
         /**
@@ -347,6 +459,7 @@ public final class RoleClient {
             return RoleClient.assignScopes(roleId)
                 .scopeIds(scopeIds)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -360,6 +473,7 @@ public final class RoleClient {
             return RoleClient.removeScopes(roleId)
                 .scopeIds(scopeIds)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -373,6 +487,7 @@ public final class RoleClient {
             return RoleClient.updateStatus(roleId)
                 .status(status)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -382,6 +497,7 @@ public final class RoleClient {
         public void deactivate() {
             RoleClient.deactivate(roleId)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
     }
@@ -405,6 +521,7 @@ public final class RoleClient {
         private final String roleId;
         private final List<String> scopeIds = new ArrayList<>();
         private String contextTenantId;
+        private Duration deadline;
 
         RoleScopeAssignBuilder(String roleId) {
             this.roleId = roleId;
@@ -443,6 +560,19 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleScopeAssignBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a atribuição de scopes.
          *
@@ -455,7 +585,7 @@ public final class RoleClient {
 
             com.conexaoauthlib.feign.role.RoleClient feignClient =
                 RoleClientFactory.createRoleClient();
-            return feignClient.assignScopes(roleId, request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.assignScopes(roleId, request, contextTenantId));
         }
     }
 
@@ -478,6 +608,7 @@ public final class RoleClient {
         private final String roleId;
         private final List<String> scopeIds = new ArrayList<>();
         private String contextTenantId;
+        private Duration deadline;
 
         RoleScopeRemoveBuilder(String roleId) {
             this.roleId = roleId;
@@ -516,6 +647,19 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleScopeRemoveBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a remoção de scopes.
          *
@@ -524,7 +668,7 @@ public final class RoleClient {
         public RoleResponseDTO execute() {
             com.conexaoauthlib.feign.role.RoleClient feignClient =
                 RoleClientFactory.createRoleClient();
-            return feignClient.removeScopes(roleId, scopeIds, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.removeScopes(roleId, scopeIds, contextTenantId));
         }
     }
 
@@ -548,6 +692,7 @@ public final class RoleClient {
         private String status;
         private String reason;
         private String contextTenantId;
+        private Duration deadline;
 
         RoleStatusUpdateBuilder(String roleId) {
             this.roleId = roleId;
@@ -586,6 +731,19 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleStatusUpdateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a atualização de status.
          *
@@ -599,7 +757,7 @@ public final class RoleClient {
 
             com.conexaoauthlib.feign.role.RoleClient feignClient =
                 RoleClientFactory.createRoleClient();
-            return feignClient.updateStatus(roleId, request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.updateStatus(roleId, request, contextTenantId));
         }
     }
 
@@ -621,6 +779,7 @@ public final class RoleClient {
     public static final class RoleDeactivateBuilder {
         private final String roleId;
         private String contextTenantId;
+        private Duration deadline;
 
         RoleDeactivateBuilder(String roleId) {
             this.roleId = roleId;
@@ -637,13 +796,26 @@ public final class RoleClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public RoleDeactivateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a desativação da role.
          */
         public void execute() {
             com.conexaoauthlib.feign.role.RoleClient feignClient =
                 RoleClientFactory.createRoleClient();
-            feignClient.delete(roleId, contextTenantId);
+            Deadline.run(deadline, () -> feignClient.delete(roleId, contextTenantId));
         }
     }
 }
@@ -1,9 +1,12 @@
 package com.conexaoauthlib.fluent.role;
 
 import com.conexaoauthlib.feign.role.RoleClient;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
 import org.springframework.cloud.openfeign.FeignClientBuilder;
 import org.springframework.context.ApplicationContext;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Factory para criação de instâncias de RoleClient.
  *
@@ -39,7 +42,10 @@ import org.springframework.context.ApplicationContext;
  */
 public final class RoleClientFactory {
 
-    private static ApplicationContext applicationContext;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile ApplicationContext applicationContext;
+    private static volatile RoleClient client;
 
     /**
      * Injeta o ApplicationContext (chamado automaticamente pelo Spring).
@@ -50,15 +56,24 @@ public final class RoleClientFactory {
      * @param context ApplicationContext do Spring
      */
     public static void setApplicationContext(ApplicationContext context) {
-        RoleClientFactory.applicationContext = context;
+        LOCK.lock();
+        try {
+            RoleClientFactory.applicationContext = context;
+            RoleClientFactory.client = null;
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     /**
-     * Cria uma nova instância de RoleClient.
+     * Retorna a instância compartilhada de RoleClient.
+     *
+     * <p>O proxy Feign é construído uma única vez, na primeira chamada, e
+     * reutilizado por todas as operações fluentes. A instância é thread-safe.</p>
      *
      * <p>O cliente criado inclui todas as configurações de:</p>
      * <ul>
-     *   <li>Resiliência (CircuitBreaker, Retry)</li>
+     *   <li>Resiliência (CircuitBreaker, Retry, Bulkhead, TimeLimiter)</li>
      *   <li>Interceptores de autenticação</li>
      *   <li>Tratamento de erros</li>
      *   <li>Serialização JSON</li>
@@ -68,6 +83,23 @@ public final class RoleClientFactory {
      * @throws IllegalStateException se o ApplicationContext não estiver configurado
      */
     public static RoleClient createRoleClient() {
+        RoleClient instance = client;
+        if (instance == null) {
+            LOCK.lock();
+            try {
+                instance = client;
+                if (instance == null) {
+                    instance = buildRoleClient();
+                    client = instance;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    private static RoleClient buildRoleClient() {
         if (applicationContext == null) {
             throw new IllegalStateException(
                 "ApplicationContext não configurado. " +
@@ -76,6 +108,7 @@ public final class RoleClientFactory {
         }
 
         FeignClientBuilder builder = new FeignClientBuilder(applicationContext);
-        return builder.forType(RoleClient.class, "role").build();
+        RoleClient feignClient = builder.forType(RoleClient.class, "role").build();
+        return ResilienceDecorators.getDefault().decorate(RoleClient.class, feignClient, "role");
     }
 }
@@ -0,0 +1,111 @@
+package com.conexaoauthlib.fluent.scope;
+
+import com.conexaoauthlib.dto.scope.ScopeCreateRequestDTO;
+import com.conexaoauthlib.dto.scope.ScopeFilterDTO;
+import com.conexaoauthlib.dto.scope.ScopeResponseDTO;
+import com.conexaoauthlib.reactive.ReactiveHttpClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Entry point reativo para operações de Scope.
+ *
+ * <p>Equivalente não bloqueante de {@link ScopeClient}.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Flux<ScopeResponseDTO> scopes = ReactiveScopeClient.list(
+ *     ScopeFilterDTO.builder().resource("users").build(), null);
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ScopeClient
+ */
+public final class ReactiveScopeClient {
+
+    private static final String CLIENT = "scope";
+    private static final TypeReference<List<ScopeResponseDTO>> LIST = new TypeReference<>() { };
+
+    private ReactiveScopeClient() {
+        // Utility class - não instanciar
+    }
+
+    /**
+     * Cria um scope.
+     *
+     * @param request Dados do scope
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o scope criado
+     */
+    public static Mono<ScopeResponseDTO> create(ScopeCreateRequestDTO request, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/scopes")
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(ScopeResponseDTO.class));
+    }
+
+    /**
+     * Lista scopes. O endpoint não é paginado.
+     *
+     * @param filter Filtros
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Flux de scopes
+     */
+    public static Flux<ScopeResponseDTO> list(ScopeFilterDTO filter, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/scopes")
+                .queryParams(filter.toQueryParams())
+                .tenant(contextTenantId)
+                .retrieve(LIST))
+            .flatMapIterable(scopes -> scopes);
+    }
+
+    /**
+     * Busca scope por ID.
+     *
+     * @param scopeId ID do scope
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o scope
+     */
+    public static Mono<ScopeResponseDTO> get(String scopeId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/scopes/{id}", scopeId)
+            .tenant(contextTenantId)
+            .retrieve(ScopeResponseDTO.class));
+    }
+
+    /**
+     * Atualiza o scope.
+     *
+     * @param scopeId ID do scope
+     * @param request Novos dados do scope
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o scope atualizado
+     */
+    public static Mono<ScopeResponseDTO> update(String scopeId, ScopeCreateRequestDTO request,
+                                                String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "PUT", "/api/scopes/{id}", scopeId)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(ScopeResponseDTO.class));
+    }
+
+    /**
+     * Remove o scope.
+     *
+     * @param scopeId ID do scope
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono vazio concluído após a remoção
+     */
+    public static Mono<Void> delete(String scopeId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "DELETE", "/api/scopes/{id}", scopeId)
+            .tenant(contextTenantId)
+            .retrieveEmpty());
+    }
+
+    private static ReactiveHttpClient http() {
+        return ReactiveHttpClient.getDefault();
+    }
+}
@@ -3,9 +3,12 @@ package com.conexaoauthlib.fluent.scope;
 import com.conexaoauthlib.dto.scope.ScopeCreateRequestDTO;
 import com.conexaoauthlib.dto.scope.ScopeFilterDTO;
 import com.conexaoauthlib.dto.scope.ScopeResponseDTO;
+import com.conexaoauthlib.resilience.Deadline;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Entry point fluente para operações de Scope.
@@ -57,6 +60,7 @@ public final class ScopeClient {
         private String resource;
         private String action;
         private String contextTenantId;
+        private Duration deadline;
 
         /**
          * Define o nome do scope (formato: resource:action).
@@ -113,6 +117,19 @@ public final class ScopeClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ScopeCreateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a criação do scope.
          *
@@ -137,7 +154,7 @@ public final class ScopeClient {
 
             com.conexaoauthlib.feign.scope.ScopeClient feignClient =
                 ScopeClientFactory.createScopeClient();
-            return feignClient.create(request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.create(request, contextTenantId));
         }
     }
 
@@ -160,6 +177,7 @@ public final class ScopeClient {
         private String action;
         private String name;
         private String contextTenantId;
+        private Duration deadline;
 
         /**
          * Filtra pelo recurso do scope.
@@ -205,6 +223,19 @@ public final class ScopeClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ScopeListBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a listagem com os filtros configurados.
          *
@@ -219,7 +250,27 @@ public final class ScopeClient {
 
             com.conexaoauthlib.feign.scope.ScopeClient feignClient =
                 ScopeClientFactory.createScopeClient();
-            return feignClient.list(filter, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.list(filter, contextTenantId));
+        }
+
+        /**
+         * Executa a listagem decodificando os scopes à medida que o Stream é
+         * consumido, sem carregar a resposta inteira em memória. A resposta
+         * fica aberta até o Stream ser esgotado ou fechado; o prazo, se
+         * definido, vale até o início da leitura.
+         *
+         * @return Stream com scopes
+         */
+        public Stream<ScopeResponseDTO> stream() {
+            ScopeFilterDTO filter = ScopeFilterDTO.builder()
+                .resource(resource)
+                .action(action)
+                .name(name)
+                .build();
+
+            com.conexaoauthlib.feign.scope.ScopeClient feignClient =
+                ScopeClientFactory.createScopeClient();
+            return Deadline.call(deadline, () -> feignClient.stream(filter, contextTenantId));
         }
 
         /**
@@ -252,6 +303,7 @@ public final class ScopeClient {
     public static final class ScopeGetBuilder {
         private final String scopeId;
         private String contextTenantId;
+        private Duration deadline;
 
         ScopeGetBuilder(String scopeId) {
             this.scopeId = scopeId;
@@ -268,6 +320,19 @@ public final class ScopeClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public ScopeGetBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a busca do scope.
          *
@@ -276,7 +341,7 @@ public final class ScopeClient {
         public ScopeResponseDTO execute() {
             com.conexaoauthlib.feign.scope.ScopeClient feignClient =
                 ScopeClientFactory.createScopeClient();
-            return feignClient.getById(scopeId, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.getById(scopeId, contextTenantId));
         }
 
         /**
@@ -298,7 +363,7 @@ public final class ScopeClient {
                 .action(current.getAction())
                 .build();
 
-            return feignClient.update(scopeId, request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.update(scopeId, request, contextTenantId));
         }
 
         /**
@@ -307,7 +372,7 @@ public final class ScopeClient {
         public void delete() {
             com.conexaoauthlib.feign.scope.ScopeClient feignClient =
                 ScopeClientFactory.createScopeClient();
-            feignClient.delete(scopeId, contextTenantId);
+            Deadline.run(deadline, () -> feignClient.delete(scopeId, contextTenantId));
         }
     }
 }
@@ -1,9 +1,12 @@
 package com.conexaoauthlib.fluent.scope;
 
 import com.conexaoauthlib.feign.scope.ScopeClient;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
 import org.springframework.cloud.openfeign.FeignClientBuilder;
 import org.springframework.context.ApplicationContext;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Factory para criação de instâncias de ScopeClient.
  *
@@ -40,7 +43,10 @@ import org.springframework.context.ApplicationContext;
  */
 public final class ScopeClientFactory {
 
-    private static ApplicationContext applicationContext;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile ApplicationContext applicationContext;
+    private static volatile ScopeClient client;
 
     /**
      * Injeta o ApplicationContext (chamado automaticamente pelo Spring).
@@ -51,15 +57,24 @@ public final class ScopeClientFactory {
      * @param context ApplicationContext do Spring
      */
     public static void setApplicationContext(ApplicationContext context) {
-        ScopeClientFactory.applicationContext = context;
+        LOCK.lock();
+        try {
+            ScopeClientFactory.applicationContext = context;
+            ScopeClientFactory.client = null;
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     /**
-     * Cria uma nova instância de ScopeClient.
+     * Retorna a instância compartilhada de ScopeClient.
+     *
+     * <p>O proxy Feign é construído uma única vez, na primeira chamada, e
+     * reutilizado por todas as operações fluentes. A instância é thread-safe.</p>
      *
      * <p>O cliente criado inclui todas as configurações de:</p>
      * <ul>
-     *   <li>Resiliência (CircuitBreaker, Retry)</li>
+     *   <li>Resiliência (CircuitBreaker, Retry, Bulkhead, TimeLimiter)</li>
      *   <li>Interceptores de autenticação</li>
      *   <li>Tratamento de erros</li>
      *   <li>Serialização JSON</li>
@@ -69,6 +84,23 @@ public final class ScopeClientFactory {
      * @throws IllegalStateException se o ApplicationContext não estiver configurado
      */
     public static ScopeClient createScopeClient() {
+        ScopeClient instance = client;
+        if (instance == null) {
+            LOCK.lock();
+            try {
+                instance = client;
+                if (instance == null) {
+                    instance = buildScopeClient();
+                    client = instance;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    private static ScopeClient buildScopeClient() {
         if (applicationContext == null) {
             throw new IllegalStateException(
                 "ApplicationContext não configurado. " +
@@ -77,6 +109,7 @@ public final class ScopeClientFactory {
         }
 
         FeignClientBuilder builder = new FeignClientBuilder(applicationContext);
-        return builder.forType(ScopeClient.class, "scope").build();
+        ScopeClient feignClient = builder.forType(ScopeClient.class, "scope").build();
+        return ResilienceDecorators.getDefault().decorate(ScopeClient.class, feignClient, "scope");
     }
 }
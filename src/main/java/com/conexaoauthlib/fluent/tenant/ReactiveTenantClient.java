@@ -0,0 +1,161 @@
+package com.conexaoauthlib.fluent.tenant;
+
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.dto.tenant.TenantCreateRequestDTO;
+import com.conexaoauthlib.dto.tenant.TenantFilterDTO;
+import com.conexaoauthlib.dto.tenant.TenantProductAddRequestDTO;
+import com.conexaoauthlib.dto.tenant.TenantResponseDTO;
+import com.conexaoauthlib.dto.tenant.TenantStatusDTO;
+import com.conexaoauthlib.reactive.ReactiveHttpClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Entry point reativo para operações de Tenant.
+ *
+ * <p>Equivalente não bloqueante de {@link TenantClient}. A listagem é exposta
+ * como {@link Flux} de tenants que busca a próxima página somente quando
+ * os itens da página atual foram consumidos.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Mono<TenantResponseDTO> tenant = ReactiveTenantClient
+ *     .findByDocument("12345678000100", null);
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see TenantClient
+ */
+public final class ReactiveTenantClient {
+
+    private static final String CLIENT = "tenant";
+    private static final TypeReference<PageResponseDTO<TenantResponseDTO>> PAGE = new TypeReference<>() { };
+
+    private ReactiveTenantClient() {
+        // Utility class - não instanciar
+    }
+
+    /**
+     * Cria um tenant.
+     *
+     * @param request Dados do tenant
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o tenant criado
+     */
+    public static Mono<TenantResponseDTO> create(TenantCreateRequestDTO request, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/tenants")
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(TenantResponseDTO.class));
+    }
+
+    /**
+     * Lista tenants de todas as páginas a partir da página do filtro.
+     *
+     * @param filter Filtros e tamanho de página
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Flux de tenants, paginado sob demanda
+     */
+    public static Flux<TenantResponseDTO> list(TenantFilterDTO filter, String contextTenantId) {
+        return ReactiveHttpClient.paginate(
+            page -> listPage(filter.toBuilder().page(page).build(), contextTenantId),
+            filter.getPage() != null ? filter.getPage() : 0);
+    }
+
+    /**
+     * Busca uma única página de tenants.
+     *
+     * @param filter Filtros e paginação
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a página
+     */
+    public static Mono<PageResponseDTO<TenantResponseDTO>> listPage(TenantFilterDTO filter,
+                                                                   String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/tenants")
+            .queryParams(filter.toQueryParams())
+            .tenant(contextTenantId)
+            .retrieve(PAGE));
+    }
+
+    /**
+     * Busca tenant por ID.
+     *
+     * @param tenantId ID do tenant
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o tenant
+     */
+    public static Mono<TenantResponseDTO> get(String tenantId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/tenants/{id}", tenantId)
+            .tenant(contextTenantId)
+            .retrieve(TenantResponseDTO.class));
+    }
+
+    /**
+     * Busca tenant por documento (CPF/CNPJ).
+     *
+     * @param document Número do documento
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o tenant
+     */
+    public static Mono<TenantResponseDTO> findByDocument(String document, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/tenants/by-document/{document}", document)
+            .tenant(contextTenantId)
+            .retrieve(TenantResponseDTO.class));
+    }
+
+    /**
+     * Atualiza o status do tenant.
+     *
+     * @param tenantId ID do tenant
+     * @param request Novo status e motivo
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o tenant atualizado
+     */
+    public static Mono<TenantResponseDTO> updateStatus(String tenantId, TenantStatusDTO request,
+                                                       String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "PATCH", "/api/tenants/{id}/status", tenantId)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(TenantResponseDTO.class));
+    }
+
+    /**
+     * Adiciona produtos ao tenant.
+     *
+     * @param tenantId ID do tenant
+     * @param productCodes Códigos dos produtos
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o tenant atualizado
+     */
+    public static Mono<TenantResponseDTO> addProducts(String tenantId, List<String> productCodes,
+                                                      String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/tenants/{id}/products", tenantId)
+            .json(TenantProductAddRequestDTO.builder().productCodes(productCodes).build())
+            .tenant(contextTenantId)
+            .retrieve(TenantResponseDTO.class));
+    }
+
+    /**
+     * Remove produtos do tenant.
+     *
+     * @param tenantId ID do tenant
+     * @param productCodes Códigos dos produtos
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o tenant atualizado
+     */
+    public static Mono<TenantResponseDTO> removeProducts(String tenantId, List<String> productCodes,
+                                                         String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "DELETE", "/api/tenants/{id}/products", tenantId)
+            .queryParam("codes", productCodes)
+            .tenant(contextTenantId)
+            .retrieve(TenantResponseDTO.class));
+    }
+
+    private static ReactiveHttpClient http() {
+        return ReactiveHttpClient.getDefault();
+    }
+}
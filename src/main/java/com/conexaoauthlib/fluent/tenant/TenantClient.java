@@ -1,15 +1,24 @@
 package com.conexaoauthlib.fluent.tenant;
 
+import com.conexaoauthlib.cache.EntitlementIndex;
+import com.conexaoauthlib.cache.EntityCaches;
+import com.conexaoauthlib.concurrent.AsyncExecutor;
+import com.conexaoauthlib.concurrent.PageIterator;
 import com.conexaoauthlib.dto.common.PageResponseDTO;
 import com.conexaoauthlib.dto.tenant.TenantCreateRequestDTO;
 import com.conexaoauthlib.dto.tenant.TenantFilterDTO;
 import com.conexaoauthlib.dto.tenant.TenantProductAddRequestDTO;
 import com.conexaoauthlib.dto.tenant.TenantResponseDTO;
 import com.conexaoauthlib.dto.tenant.TenantStatusDTO;
+import com.conexaoauthlib.exception.ResourceNotFoundException;
+import com.conexaoauthlib.resilience.Deadline;
+import com.conexaoauthlib.resilience.LastKnownGood;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Entry point fluente para operações de Tenant.
@@ -52,6 +61,59 @@ public final class TenantClient {
         // Utility class - não instanciar
     }
 
+    // ==================== Entitlements ====================
+
+    /**
+     * Verifica se o tenant tem o produto ativo agora, pelo
+     * {@link EntitlementIndex} local. Um tenant ainda não indexado é
+     * buscado nesta chamada; um tenant indexado há mais que o intervalo de
+     * atualização é buscado novamente em segundo plano, e a resposta usa o
+     * índice atual. Um tenant removido no servidor sai do índice.
+     *
+     * @param tenantId ID do tenant
+     * @param productCode Código do produto
+     * @return true se o produto está ativo e não vencido
+     */
+    public static boolean hasActiveProduct(String tenantId, String productCode) {
+        EntitlementIndex index = EntitlementIndex.getDefault();
+        if (!index.isEnabled() || !index.contains(tenantId)) {
+            return EntitlementIndex.isActive(fetch(tenantId), productCode);
+        }
+        if (index.beginRefresh(tenantId)) {
+            AsyncExecutor.getDefault().supply("tenant", () -> fetch(tenantId))
+                .whenComplete((tenant, error) -> {
+                    if (error != null && (error instanceof ResourceNotFoundException
+                            || error.getCause() instanceof ResourceNotFoundException)) {
+                        index.remove(tenantId);
+                    } else {
+                        index.endRefresh(tenantId);
+                    }
+                });
+        }
+        return index.hasActiveProduct(tenantId, productCode);
+    }
+
+    /**
+     * Busca o tenant no servidor, sem o cache de entidades, e atualiza o
+     * índice de produtos ativos.
+     */
+    private static TenantResponseDTO fetch(String tenantId) {
+        com.conexaoauthlib.feign.tenant.TenantClient feignClient =
+            TenantClientFactory.createTenantClient();
+        return indexed(feignClient.getById(tenantId, null));
+    }
+
+    /**
+     * Atualiza o índice de produtos ativos com um tenant retornado pelo
+     * servidor. Respostas obsoletas ({@link LastKnownGood}) são ignoradas.
+     */
+    private static TenantResponseDTO indexed(TenantResponseDTO tenant) {
+        if (!LastKnownGood.isStale()) {
+            EntitlementIndex.getDefault().update(tenant);
+        }
+        return tenant;
+    }
+
     // ==================== Create ====================
 
     /**
@@ -71,6 +133,7 @@ public final class TenantClient {
         private String documentNumber;
         private final List<String> products = new ArrayList<>();
         private String tenantId;
+        private Duration deadline;
 
         /**
          * Define o nome do tenant.
@@ -128,6 +191,19 @@ public final class TenantClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public TenantCreateRequestBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a criação do tenant.
          *
@@ -142,7 +218,7 @@ public final class TenantClient {
 
             com.conexaoauthlib.feign.tenant.TenantClient feignClient =
                 TenantClientFactory.createTenantClient();
-            return feignClient.create(request, tenantId);
+            return Deadline.call(deadline, () -> indexed(feignClient.create(request, tenantId)));
         }
 
         /**
@@ -153,9 +229,16 @@ public final class TenantClient {
          * deve ser criado e já associado a produtos de assinatura em uma
          * única operação atômica.</p>
          *
+         * <p>O prazo definido em {@link #deadline(Duration)} vale para o
+         * conjunto das chamadas.</p>
+         *
          * @return TenantResponseDTO com tenant e produtos
          */
         public TenantResponseDTO executeWithProducts() {
+            return Deadline.call(deadline, this::createWithProducts);
+        }
+
+        private TenantResponseDTO createWithProducts() {
             // Cria o tenant
             TenantResponseDTO tenant = execute();
 
@@ -178,7 +261,7 @@ public final class TenantClient {
                 }
 
                 // Retorna tenant atualizado com produtos
-                return feignClient.getById(tenant.getId(), tenantId);
+                return indexed(feignClient.getById(tenant.getId(), tenantId));
             }
 
             return tenant;
@@ -190,7 +273,7 @@ public final class TenantClient {
          * @return CompletableFuture com TenantResponseDTO
          */
         public CompletableFuture<TenantResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("tenant", this::execute);
         }
     }
 
@@ -216,6 +299,8 @@ public final class TenantClient {
         private Integer size = 20;
         private String sort = "created_at,desc";
         private String tenantId;
+        private Duration deadline;
+        private int parallelism = 1;
 
         /**
          * Filtra pelo nome do tenant.
@@ -294,24 +379,101 @@ public final class TenantClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public TenantListRequestBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Busca as páginas em paralelo em {@link #iterator()} e {@link #stream()}:
+         * a primeira página informa o total de páginas e as demais são buscadas
+         * com até {@code parallelism} chamadas simultâneas, limitadas pelo
+         * Bulkhead e pelo CircuitBreaker do cliente, e entregues em ordem.
+         *
+         * @param parallelism Máximo de páginas buscadas simultaneamente
+         * @return this builder
+         */
+        public TenantListRequestBuilder parallel(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Executa a listagem com os filtros configurados.
          *
          * @return PageResponseDTO com lista de tenants
          */
         public PageResponseDTO<TenantResponseDTO> execute() {
-            TenantFilterDTO filter = TenantFilterDTO.builder()
+            return fetch(page);
+        }
+
+        /**
+         * Percorre todos os tenants que atendem aos filtros, a partir da
+         * página configurada. A próxima página é buscada em segundo plano
+         * enquanto a atual é consumida; o prazo, se definido, vale por página.
+         *
+         * @return Iterator preguiçoso sobre todas as páginas
+         */
+        public PageIterator<TenantResponseDTO> iterator() {
+            int firstPage = page != null ? page : 0;
+            return parallelism > 1
+                ? PageIterator.parallel("tenant", firstPage, this::fetch, parallelism)
+                : new PageIterator<>("tenant", firstPage, this::fetch);
+        }
+
+        /**
+         * Percorre todos os tenants que atendem aos filtros como Stream.
+         * Feche o Stream para cancelar a busca antecipada se ele não for
+         * consumido até o fim.
+         *
+         * @return Stream preguiçoso sobre todas as páginas
+         * @see #iterator()
+         */
+        public Stream<TenantResponseDTO> stream() {
+            return iterator().stream();
+        }
+
+        /**
+         * Busca a página configurada decodificando os tenants à medida que o
+         * Stream é consumido, sem carregar o conteúdo inteiro em memória. A
+         * resposta fica aberta até o Stream ser esgotado ou fechado; o prazo,
+         * se definido, vale até o início da leitura.
+         *
+         * @return Stream com os tenants da página
+         */
+        public Stream<TenantResponseDTO> streamPage() {
+            TenantFilterDTO filter = filter(page);
+
+            com.conexaoauthlib.feign.tenant.TenantClient feignClient =
+                TenantClientFactory.createTenantClient();
+            return Deadline.call(deadline, () -> feignClient.stream(filter, tenantId));
+        }
+
+        private PageResponseDTO<TenantResponseDTO> fetch(Integer pageNumber) {
+            TenantFilterDTO filter = filter(pageNumber);
+
+            com.conexaoauthlib.feign.tenant.TenantClient feignClient =
+                TenantClientFactory.createTenantClient();
+            return Deadline.call(deadline, () -> feignClient.list(filter, tenantId));
+        }
+
+        private TenantFilterDTO filter(Integer pageNumber) {
+            return TenantFilterDTO.builder()
                 .name(name)
                 .status(status)
                 .documentNumber(documentNumber)
-                .page(page)
+                .page(pageNumber)
                 .size(size)
                 .sort(sort)
                 .build();
-
-            com.conexaoauthlib.feign.tenant.TenantClient feignClient =
-                TenantClientFactory.createTenantClient();
-            return feignClient.list(filter, tenantId);
         }
     }
 
@@ -333,6 +495,7 @@ public final class TenantClient {
     public static final class TenantGetBuilder {
         private final String tenantId;
         private String contextTenantId;
+        private Duration deadline;
 
         TenantGetBuilder(String tenantId) {
             this.tenantId = tenantId;
@@ -349,15 +512,30 @@ public final class TenantClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public TenantGetBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a busca do tenant por ID.
+         * Servida pelo {@link EntityCaches} quando habilitado.
          *
          * @return TenantResponseDTO com dados do tenant
          */
         public TenantResponseDTO execute() {
             com.conexaoauthlib.feign.tenant.TenantClient feignClient =
                 TenantClientFactory.createTenantClient();
-            return feignClient.getById(tenantId, contextTenantId);
+            return EntityCaches.getDefault().tenants().getOrLoad(contextTenantId, tenantId,
+                () -> Deadline.call(deadline, () -> indexed(feignClient.getById(tenantId, contextTenantId))));
         }
 
         /**
@@ -374,7 +552,8 @@ public final class TenantClient {
                 .productCodes(productCodes)
                 .build();
 
-            return feignClient.addProducts(tenantId, request, contextTenantId);
+            return EntityCaches.getDefault().tenants().invalidating(tenantId,
+                () -> Deadline.call(deadline, () -> indexed(feignClient.addProducts(tenantId, request, contextTenantId))));
         }
 
         /**
@@ -386,7 +565,9 @@ public final class TenantClient {
         public TenantResponseDTO removeProducts(List<String> productCodes) {
             com.conexaoauthlib.feign.tenant.TenantClient feignClient =
                 TenantClientFactory.createTenantClient();
-            return feignClient.removeProducts(tenantId, productCodes, contextTenantId);
+            return EntityCaches.getDefault().tenants().invalidating(tenantId,
+                () -> Deadline.call(deadline,
+                    () -> indexed(feignClient.removeProducts(tenantId, productCodes, contextTenantId))));
         }
     }
 
@@ -408,6 +589,7 @@ public final class TenantClient {
     public static final class TenantFindBuilder {
         private final String document;
         private String tenantId;
+        private Duration deadline;
 
         TenantFindBuilder(String document) {
             this.document = document;
@@ -424,15 +606,30 @@ public final class TenantClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public TenantFindBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a busca do tenant por documento.
+         * Servida pelo {@link EntityCaches} quando habilitado.
          *
          * @return TenantResponseDTO com dados do tenant
          */
         public TenantResponseDTO execute() {
             com.conexaoauthlib.feign.tenant.TenantClient feignClient =
                 TenantClientFactory.createTenantClient();
-            return feignClient.getByDocument(document, tenantId);
+            return EntityCaches.getDefault().tenants().getByOrLoad(EntityCaches.DOCUMENT, tenantId, document,
+                () -> Deadline.call(deadline, () -> indexed(feignClient.getByDocument(document, tenantId))));
         }
     }
 
@@ -456,6 +653,7 @@ public final class TenantClient {
         private String status;
         private String reason;
         private String contextTenantId;
+        private Duration deadline;
 
         TenantStatusUpdateBuilder(String tenantId) {
             this.tenantId = tenantId;
@@ -494,6 +692,19 @@ public final class TenantClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public TenantStatusUpdateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a atualização de status.
          *
@@ -507,7 +718,8 @@ public final class TenantClient {
 
             com.conexaoauthlib.feign.tenant.TenantClient feignClient =
                 TenantClientFactory.createTenantClient();
-            return feignClient.updateStatus(tenantId, request, contextTenantId);
+            return EntityCaches.getDefault().tenants().invalidating(tenantId,
+                () -> Deadline.call(deadline, () -> indexed(feignClient.updateStatus(tenantId, request, contextTenantId))));
         }
     }
 }
@@ -1,9 +1,12 @@
 package com.conexaoauthlib.fluent.tenant;
 
 import com.conexaoauthlib.feign.tenant.TenantClient;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
 import org.springframework.cloud.openfeign.FeignClientBuilder;
 import org.springframework.context.ApplicationContext;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Factory para criação de instâncias de TenantClient.
  *
@@ -39,7 +42,10 @@ import org.springframework.context.ApplicationContext;
  */
 public final class TenantClientFactory {
 
-    private static ApplicationContext applicationContext;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile ApplicationContext applicationContext;
+    private static volatile TenantClient client;
 
     /**
      * Injeta o ApplicationContext (chamado automaticamente pelo Spring).
@@ -50,15 +56,24 @@ public final class TenantClientFactory {
      * @param context ApplicationContext do Spring
      */
     public static void setApplicationContext(ApplicationContext context) {
-        TenantClientFactory.applicationContext = context;
+        LOCK.lock();
+        try {
+            TenantClientFactory.applicationContext = context;
+            TenantClientFactory.client = null;
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     /**
-     * Cria uma nova instância de TenantClient.
+     * Retorna a instância compartilhada de TenantClient.
+     *
+     * <p>O proxy Feign é construído uma única vez, na primeira chamada, e
+     * reutilizado por todas as operações fluentes. A instância é thread-safe.</p>
      *
      * <p>O cliente criado inclui todas as configurações de:</p>
      * <ul>
-     *   <li>Resiliência (CircuitBreaker, Retry)</li>
+     *   <li>Resiliência (CircuitBreaker, Retry, Bulkhead, TimeLimiter)</li>
      *   <li>Interceptores de autenticação</li>
      *   <li>Tratamento de erros</li>
      *   <li>Serialização JSON</li>
@@ -68,6 +83,23 @@ public final class TenantClientFactory {
      * @throws IllegalStateException se o ApplicationContext não estiver configurado
      */
     public static TenantClient createTenantClient() {
+        TenantClient instance = client;
+        if (instance == null) {
+            LOCK.lock();
+            try {
+                instance = client;
+                if (instance == null) {
+                    instance = buildTenantClient();
+                    client = instance;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    private static TenantClient buildTenantClient() {
         if (applicationContext == null) {
             throw new IllegalStateException(
                 "ApplicationContext não configurado. " +
@@ -76,6 +108,7 @@ public final class TenantClientFactory {
         }
 
         FeignClientBuilder builder = new FeignClientBuilder(applicationContext);
-        return builder.forType(TenantClient.class, "tenant").build();
+        TenantClient feignClient = builder.forType(TenantClient.class, "tenant").build();
+        return ResilienceDecorators.getDefault().decorate(TenantClient.class, feignClient, "tenant");
     }
 }
@@ -0,0 +1,159 @@
+package com.conexaoauthlib.fluent.user;
+
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.dto.user.UserCreateRequestDTO;
+import com.conexaoauthlib.dto.user.UserFilterDTO;
+import com.conexaoauthlib.dto.user.UserPasswordRequestDTO;
+import com.conexaoauthlib.dto.user.UserResponseDTO;
+import com.conexaoauthlib.dto.user.UserStatusDTO;
+import com.conexaoauthlib.dto.user.UserUpdateRequestDTO;
+import com.conexaoauthlib.reactive.ReactiveHttpClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Entry point reativo para operações de Usuário.
+ *
+ * <p>Equivalente não bloqueante de {@link UserClient}. A listagem é exposta
+ * como {@link Flux} de usuários que busca a próxima página somente quando
+ * os itens da página atual foram consumidos.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Flux<UserResponseDTO> active = ReactiveUserClient.list(
+ *     UserFilterDTO.builder().status("ACTIVE").build(), "tenant-123");
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see UserClient
+ */
+public final class ReactiveUserClient {
+
+    private static final String CLIENT = "user";
+    private static final TypeReference<PageResponseDTO<UserResponseDTO>> PAGE = new TypeReference<>() { };
+
+    private ReactiveUserClient() {
+        // Utility class - não instanciar
+    }
+
+    /**
+     * Cria um usuário.
+     *
+     * @param request Dados do usuário
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o usuário criado
+     */
+    public static Mono<UserResponseDTO> register(UserCreateRequestDTO request, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/users")
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(UserResponseDTO.class));
+    }
+
+    /**
+     * Lista usuários de todas as páginas a partir da página do filtro.
+     *
+     * @param filter Filtros e tamanho de página
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Flux de usuários, paginado sob demanda
+     */
+    public static Flux<UserResponseDTO> list(UserFilterDTO filter, String contextTenantId) {
+        return ReactiveHttpClient.paginate(
+            page -> listPage(filter.toBuilder().page(page).build(), contextTenantId),
+            filter.getPage() != null ? filter.getPage() : 0);
+    }
+
+    /**
+     * Busca uma única página de usuários.
+     *
+     * @param filter Filtros e paginação
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com a página
+     */
+    public static Mono<PageResponseDTO<UserResponseDTO>> listPage(UserFilterDTO filter, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/users")
+            .queryParams(filter.toQueryParams())
+            .tenant(contextTenantId)
+            .retrieve(PAGE));
+    }
+
+    /**
+     * Busca usuário por ID.
+     *
+     * @param userId ID do usuário
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o usuário
+     */
+    public static Mono<UserResponseDTO> get(String userId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "GET", "/api/users/{id}", userId)
+            .tenant(contextTenantId)
+            .retrieve(UserResponseDTO.class));
+    }
+
+    /**
+     * Atualiza dados parciais do usuário.
+     *
+     * @param userId ID do usuário
+     * @param request Campos a atualizar
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o usuário atualizado
+     */
+    public static Mono<UserResponseDTO> update(String userId, UserUpdateRequestDTO request,
+                                               String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "PATCH", "/api/users/{id}", userId)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(UserResponseDTO.class));
+    }
+
+    /**
+     * Altera a senha do usuário.
+     *
+     * @param userId ID do usuário
+     * @param request Senha atual e nova senha
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono vazio concluído após a alteração
+     */
+    public static Mono<Void> changePassword(String userId, UserPasswordRequestDTO request,
+                                            String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "POST", "/api/users/{id}/password", userId)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieveEmpty());
+    }
+
+    /**
+     * Atualiza o status do usuário.
+     *
+     * @param userId ID do usuário
+     * @param request Novo status e motivo
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono com o usuário atualizado
+     */
+    public static Mono<UserResponseDTO> updateStatus(String userId, UserStatusDTO request,
+                                                     String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "PATCH", "/api/users/{id}/status", userId)
+            .json(request)
+            .tenant(contextTenantId)
+            .retrieve(UserResponseDTO.class));
+    }
+
+    /**
+     * Desativa o usuário.
+     *
+     * @param userId ID do usuário
+     * @param contextTenantId Tenant de contexto (opcional)
+     * @return Mono vazio concluído após a desativação
+     */
+    public static Mono<Void> deactivate(String userId, String contextTenantId) {
+        return Mono.defer(() -> http().request(CLIENT, "DELETE", "/api/users/{id}", userId)
+            .tenant(contextTenantId)
+            .retrieveEmpty());
+    }
+
+    private static ReactiveHttpClient http() {
+        return ReactiveHttpClient.getDefault();
+    }
+}
@@ -1,5 +1,8 @@
 package com.conexaoauthlib.fluent.user;
 
+import com.conexaoauthlib.cache.EntityCaches;
+import com.conexaoauthlib.concurrent.AsyncExecutor;
+import com.conexaoauthlib.concurrent.PageIterator;
 import com.conexaoauthlib.dto.common.PageResponseDTO;
 import com.conexaoauthlib.dto.role.RoleAssignRequestDTO;
 import com.conexaoauthlib.dto.user.UserCreateRequestDTO;
@@ -8,9 +11,12 @@ import com.conexaoauthlib.dto.user.UserPasswordRequestDTO;
 import com.conexaoauthlib.dto.user.UserResponseDTO;
 import com.conexaoauthlib.dto.user.UserStatusDTO;
 import com.conexaoauthlib.dto.user.UserUpdateRequestDTO;
+import com.conexaoauthlib.resilience.Deadline;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Entry point fluente para operações de Usuário.
@@ -63,6 +69,7 @@ public final class UserClient {
         private String password;
         private String tenantId;
         private String contextTenantId;
+        private Duration deadline;
 
         /**
          * Define o nome do usuário.
@@ -119,6 +126,19 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public UserCreateRequestBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa o registro do usuário.
          *
@@ -134,7 +154,7 @@ public final class UserClient {
 
             com.conexaoauthlib.feign.user.UserClient feignClient =
                 UserClientFactory.createUserClient();
-            return feignClient.create(request, contextTenantId);
+            return Deadline.call(deadline, () -> feignClient.create(request, contextTenantId));
         }
 
         /**
@@ -143,7 +163,7 @@ public final class UserClient {
          * @return CompletableFuture com UserResponseDTO
          */
         public CompletableFuture<UserResponseDTO> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute);
+            return AsyncExecutor.getDefault().supply("user", this::execute);
         }
     }
 
@@ -171,6 +191,8 @@ public final class UserClient {
         private Integer size = 20;
         private String sort = "created_at,desc";
         private String contextTenantId;
+        private Duration deadline;
+        private int parallelism = 1;
 
         /**
          * Filtra pelo nome do usuário.
@@ -271,26 +293,103 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public UserListRequestBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Busca as páginas em paralelo em {@link #iterator()} e {@link #stream()}:
+         * a primeira página informa o total de páginas e as demais são buscadas
+         * com até {@code parallelism} chamadas simultâneas, limitadas pelo
+         * Bulkhead e pelo CircuitBreaker do cliente, e entregues em ordem.
+         *
+         * @param parallelism Máximo de páginas buscadas simultaneamente
+         * @return this builder
+         */
+        public UserListRequestBuilder parallel(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Executa a listagem com os filtros configurados.
          *
          * @return PageResponseDTO com lista de usuários
          */
         public PageResponseDTO<UserResponseDTO> execute() {
-            UserFilterDTO filter = UserFilterDTO.builder()
+            return fetch(page);
+        }
+
+        /**
+         * Percorre todos os usuários que atendem aos filtros, a partir da
+         * página configurada. A próxima página é buscada em segundo plano
+         * enquanto a atual é consumida; o prazo, se definido, vale por página.
+         *
+         * @return Iterator preguiçoso sobre todas as páginas
+         */
+        public PageIterator<UserResponseDTO> iterator() {
+            int firstPage = page != null ? page : 0;
+            return parallelism > 1
+                ? PageIterator.parallel("user", firstPage, this::fetch, parallelism)
+                : new PageIterator<>("user", firstPage, this::fetch);
+        }
+
+        /**
+         * Percorre todos os usuários que atendem aos filtros como Stream.
+         * Feche o Stream para cancelar a busca antecipada se ele não for
+         * consumido até o fim.
+         *
+         * @return Stream preguiçoso sobre todas as páginas
+         * @see #iterator()
+         */
+        public Stream<UserResponseDTO> stream() {
+            return iterator().stream();
+        }
+
+        /**
+         * Busca a página configurada decodificando os usuários à medida que o
+         * Stream é consumido, sem carregar o conteúdo inteiro em memória. A
+         * resposta fica aberta até o Stream ser esgotado ou fechado; o prazo,
+         * se definido, vale até o início da leitura.
+         *
+         * @return Stream com os usuários da página
+         */
+        public Stream<UserResponseDTO> streamPage() {
+            UserFilterDTO filter = filter(page);
+
+            com.conexaoauthlib.feign.user.UserClient feignClient =
+                UserClientFactory.createUserClient();
+            return Deadline.call(deadline, () -> feignClient.stream(filter, contextTenantId));
+        }
+
+        private PageResponseDTO<UserResponseDTO> fetch(Integer pageNumber) {
+            UserFilterDTO filter = filter(pageNumber);
+
+            com.conexaoauthlib.feign.user.UserClient feignClient =
+                UserClientFactory.createUserClient();
+            return Deadline.call(deadline, () -> feignClient.list(filter, contextTenantId));
+        }
+
+        private UserFilterDTO filter(Integer pageNumber) {
+            return UserFilterDTO.builder()
                 .name(name)
                 .email(email)
                 .status(status)
                 .roleId(roleId)
                 .tenantId(tenantId)
-                .page(page)
+                .page(pageNumber)
                 .size(size)
                 .sort(sort)
                 .build();
-
-            com.conexaoauthlib.feign.user.UserClient feignClient =
-                UserClientFactory.createUserClient();
-            return feignClient.list(filter, contextTenantId);
         }
     }
 
@@ -312,6 +411,7 @@ public final class UserClient {
     public static final class UserGetBuilder {
         private final String userId;
         private String contextTenantId;
+        private Duration deadline;
 
         UserGetBuilder(String userId) {
             this.userId = userId;
@@ -328,15 +428,30 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public UserGetBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a busca do usuário.
+         * Servida pelo {@link EntityCaches} quando habilitado.
          *
          * @return UserResponseDTO com dados do usuário
          */
         public UserResponseDTO execute() {
             com.conexaoauthlib.feign.user.UserClient feignClient =
                 UserClientFactory.createUserClient();
-            return feignClient.getById(userId, contextTenantId);
+            return EntityCaches.getDefault().users().getOrLoad(contextTenantId, userId,
+                () -> Deadline.call(deadline, () -> feignClient.getById(userId, contextTenantId)));
         }
 
         /**
@@ -351,6 +466,7 @@ public final class UserClient {
                 .name(name)
                 .email(email)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -364,6 +480,7 @@ public final class UserClient {
             return UserClient.updateStatus(userId)
                 .status(status)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -378,6 +495,7 @@ public final class UserClient {
                 .currentPassword(currentPassword)
                 .newPassword(newPassword)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
 
@@ -395,7 +513,8 @@ public final class UserClient {
                 .roleIds(roleIds)
                 .build();
 
-            return feignClient.assignRoles(userId, request, contextTenantId);
+            return EntityCaches.getDefault().users().invalidating(userId,
+                () -> Deadline.call(deadline, () -> feignClient.assignRoles(userId, request, contextTenantId)));
         }
 
         /**
@@ -404,6 +523,7 @@ public final class UserClient {
         public void deactivate() {
             UserClient.deactivate(userId)
                 .tenant(contextTenantId)
+                .deadline(deadline)
                 .execute();
         }
     }
@@ -428,6 +548,7 @@ public final class UserClient {
         private String name;
         private String email;
         private String contextTenantId;
+        private Duration deadline;
 
         UserUpdateBuilder(String userId) {
             this.userId = userId;
@@ -466,6 +587,19 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public UserUpdateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a atualização parcial.
          *
@@ -479,7 +613,8 @@ public final class UserClient {
 
             com.conexaoauthlib.feign.user.UserClient feignClient =
                 UserClientFactory.createUserClient();
-            return feignClient.update(userId, request, contextTenantId);
+            return EntityCaches.getDefault().users().invalidating(userId,
+                () -> Deadline.call(deadline, () -> feignClient.update(userId, request, contextTenantId)));
         }
     }
 
@@ -503,6 +638,7 @@ public final class UserClient {
         private String currentPassword;
         private String newPassword;
         private String contextTenantId;
+        private Duration deadline;
 
         PasswordChangerBuilder(String userId) {
             this.userId = userId;
@@ -541,6 +677,19 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public PasswordChangerBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a mudança de senha.
          */
@@ -552,7 +701,7 @@ public final class UserClient {
 
             com.conexaoauthlib.feign.user.UserClient feignClient =
                 UserClientFactory.createUserClient();
-            feignClient.changePassword(userId, request, contextTenantId);
+            Deadline.run(deadline, () -> feignClient.changePassword(userId, request, contextTenantId));
         }
     }
 
@@ -576,6 +725,7 @@ public final class UserClient {
         private String status;
         private String reason;
         private String contextTenantId;
+        private Duration deadline;
 
         UserStatusUpdateBuilder(String userId) {
             this.userId = userId;
@@ -614,6 +764,19 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public UserStatusUpdateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a atualização de status.
          *
@@ -627,7 +790,8 @@ public final class UserClient {
 
             com.conexaoauthlib.feign.user.UserClient feignClient =
                 UserClientFactory.createUserClient();
-            return feignClient.updateStatus(userId, request, contextTenantId);
+            return EntityCaches.getDefault().users().invalidating(userId,
+                () -> Deadline.call(deadline, () -> feignClient.updateStatus(userId, request, contextTenantId)));
         }
     }
 
@@ -649,6 +813,7 @@ public final class UserClient {
     public static final class UserDeactivateBuilder {
         private final String userId;
         private String contextTenantId;
+        private Duration deadline;
 
         UserDeactivateBuilder(String userId) {
             this.userId = userId;
@@ -665,13 +830,29 @@ public final class UserClient {
             return this;
         }
 
+        /**
+         * Define o prazo total da chamada, compartilhado por todas as
+         * tentativas do Retry. Esgotado o prazo, a chamada falha com
+         * {@link com.conexaoauthlib.exception.DeadlineExceededException}.
+         *
+         * @param deadline Tempo máximo a partir do início da execução
+         * @return this builder
+         */
+        public UserDeactivateBuilder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
         /**
          * Executa a desativação do usuário.
          */
         public void execute() {
             com.conexaoauthlib.feign.user.UserClient feignClient =
                 UserClientFactory.createUserClient();
-            feignClient.deactivate(userId, contextTenantId);
+            EntityCaches.getDefault().users().invalidating(userId, () -> {
+                Deadline.run(deadline, () -> feignClient.deactivate(userId, contextTenantId));
+                return null;
+            });
         }
     }
 }
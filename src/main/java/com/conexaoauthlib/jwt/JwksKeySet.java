@@ -0,0 +1,198 @@
+package com.conexaoauthlib.jwt;
+
+import com.conexaoauthlib.exception.ServerException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * Conjunto de chaves públicas (JWKS) usado na validação local de JWTs.
+ *
+ * <p>As chaves são obtidas do endpoint JWKS na primeira utilização e mantidas
+ * em memória. Quando um {@code kid} desconhecido é encontrado, o conjunto é
+ * recarregado, no máximo uma vez a cada intervalo mínimo configurado, para
+ * acompanhar a rotação de chaves sem permitir que tokens forjados provoquem
+ * requisições ilimitadas ao servidor.</p>
+ *
+ * <p>Suporta chaves RSA e EC (P-256, P-384 e P-521) com uso de assinatura.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see JwtValidator
+ */
+public class JwksKeySet {
+
+    private static final Logger LOGGER = Logger.getLogger(JwksKeySet.class.getName());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    private final URI jwksUri;
+    private final Duration minRefreshInterval;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefresh;
+    private volatile boolean attempted;
+    private volatile boolean loaded;
+
+    /**
+     * Construtor.
+     *
+     * @param jwksUri URI do endpoint JWKS
+     * @param minRefreshInterval Intervalo mínimo entre recargas
+     * @param timeout Timeout de conexão e leitura do endpoint
+     */
+    public JwksKeySet(URI jwksUri, Duration minRefreshInterval, Duration timeout) {
+        this.jwksUri = jwksUri;
+        this.minRefreshInterval = minRefreshInterval;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    /**
+     * Retorna a chave pública associada ao {@code kid}, recarregando o
+     * conjunto quando a chave é desconhecida e o intervalo mínimo permite.
+     *
+     * @param kid Identificador da chave (pode ser null se o JWKS tiver uma única chave)
+     * @return Chave pública ou null se desconhecida
+     * @throws ServerException se o JWKS não puder ser obtido
+     */
+    public PublicKey getKey(String kid) {
+        PublicKey key = lookup(kid);
+        if (key != null) {
+            return key;
+        }
+
+        refreshLock.lock();
+        try {
+            key = lookup(kid);
+            if (key != null) {
+                return key;
+            }
+            if (attempted && System.nanoTime() - lastRefresh < minRefreshInterval.toNanos()) {
+                if (!loaded) {
+                    throw new ServerException("JWKS indisponível: " + jwksUri);
+                }
+                return null;
+            }
+            refresh();
+            return lookup(kid);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * @return Número de chaves carregadas
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    private PublicKey lookup(String kid) {
+        Map<String, PublicKey> current = keys;
+        if (kid == null) {
+            return current.size() == 1 ? current.values().iterator().next() : null;
+        }
+        return current.get(kid);
+    }
+
+    private void refresh() {
+        lastRefresh = System.nanoTime();
+        attempted = true;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .header("Accept", "application/json")
+                .timeout(timeout)
+                .GET()
+                .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new ServerException("Falha ao obter JWKS: HTTP " + response.statusCode());
+            }
+            keys = parse(OBJECT_MAPPER.readTree(response.body()));
+            loaded = true;
+        } catch (IOException e) {
+            throw new ServerException("Falha ao obter JWKS de " + jwksUri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Interrompido ao obter JWKS de " + jwksUri, e);
+        }
+    }
+
+    private Map<String, PublicKey> parse(JsonNode jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            String use = jwk.path("use").asText("sig");
+            if (!"sig".equals(use)) {
+                continue;
+            }
+            String kid = jwk.path("kid").asText("");
+            try {
+                PublicKey key = toPublicKey(jwk);
+                if (key != null) {
+                    parsed.put(kid, key);
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                LOGGER.warning("Ignoring invalid JWK '" + kid + "': " + e.getMessage());
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static PublicKey toPublicKey(JsonNode jwk) throws GeneralSecurityException {
+        return switch (jwk.path("kty").asText()) {
+            case "RSA" -> KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                unsigned(jwk.path("n").asText()),
+                unsigned(jwk.path("e").asText())));
+            case "EC" -> {
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(curveName(jwk.path("crv").asText())));
+                ECPoint point = new ECPoint(
+                    unsigned(jwk.path("x").asText()),
+                    unsigned(jwk.path("y").asText()));
+                yield KeyFactory.getInstance("EC").generatePublic(
+                    new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+            }
+            default -> null;
+        };
+    }
+
+    private static String curveName(String crv) {
+        return switch (crv) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new IllegalArgumentException("Curva não suportada: " + crv);
+        };
+    }
+
+    private static BigInteger unsigned(String base64Url) {
+        return new BigInteger(1, BASE64URL.decode(base64Url));
+    }
+}
@@ -0,0 +1,42 @@
+package com.conexaoauthlib.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+
+/**
+ * Configuração da validação local de JWT.
+ * Ativada apenas quando {@code conexao-auth.jwt.jwks-uri} está definido.
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "conexao-auth.jwt", name = "jwks-uri")
+public class JwtConfiguration {
+
+    /**
+     * Validador de JWT registrado como instância compartilhada da API fluente.
+     *
+     * @param properties Propriedades de JWT
+     * @return JwtValidator configurado
+     */
+    @Bean
+    public JwtValidator jwtValidator(JwtProperties properties) {
+        JwksKeySet keySet = new JwksKeySet(
+            URI.create(properties.getJwksUri()),
+            properties.getMinRefreshInterval(),
+            properties.getTimeout()
+        );
+        JwtValidator validator = new JwtValidator(
+            keySet,
+            properties.getIssuer(),
+            properties.getAudience(),
+            properties.getClockSkew()
+        );
+        JwtValidator.setDefault(validator);
+        return validator;
+    }
+}
@@ -0,0 +1,64 @@
+package com.conexaoauthlib.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de validação local de JWT.
+ * Carregadas de application.yml com prefixo "conexao-auth.jwt".
+ *
+ * <p>Exemplo de configuração em application.yml:</p>
+ * <pre>{@code
+ * conexao-auth:
+ *   jwt:
+ *     jwks-uri: "https://auth.example.com/oauth2/jwks"
+ *     issuer: "https://auth.example.com"
+ *     audience: "my-api"
+ *     clock-skew: 30s
+ *     min-refresh-interval: 30s
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "conexao-auth.jwt")
+public class JwtProperties {
+
+    /**
+     * URI do endpoint JWKS. Se ausente, a validação local fica desabilitada.
+     */
+    private String jwksUri;
+
+    /**
+     * Issuer esperado no claim iss (opcional).
+     */
+    private String issuer;
+
+    /**
+     * Audience esperada no claim aud (opcional).
+     */
+    private String audience;
+
+    /**
+     * Tolerância de relógio para exp e nbf.
+     * Valor padrão: 30s
+     */
+    private Duration clockSkew = Duration.ofSeconds(30);
+
+    /**
+     * Intervalo mínimo entre recargas do JWKS por kid desconhecido.
+     * Valor padrão: 30s
+     */
+    private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Timeout para obtenção do JWKS.
+     * Valor padrão: 5s
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
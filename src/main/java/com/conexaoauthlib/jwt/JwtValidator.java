@@ -0,0 +1,209 @@
+package com.conexaoauthlib.jwt;
+
+import com.conexaoauthlib.dto.oauth2.IntrospectResponseDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Validação local de access tokens JWT assinados.
+ *
+ * <p>Verifica assinatura, {@code exp}, {@code nbf}, {@code iss} e {@code aud}
+ * sem chamar o endpoint de introspecção, usando as chaves de um
+ * {@link JwksKeySet}. O resultado tem o mesmo formato de
+ * {@link IntrospectResponseDTO}: tokens válidos retornam {@code active=true}
+ * com seus claims e tokens inválidos retornam apenas {@code active=false}.</p>
+ *
+ * <p>Algoritmos suportados: RS256, RS384, RS512, ES256, ES384 e ES512.
+ * Tokens com {@code alg=none} ou algoritmos simétricos são rejeitados.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * IntrospectResponseDTO info = AuthClient.introspect(accessToken)
+ *     .offline()
+ *     .execute();
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see JwksKeySet
+ */
+public class JwtValidator {
+
+    private static final Logger LOGGER = Logger.getLogger(JwtValidator.class.getName());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    private static volatile JwtValidator defaultInstance;
+
+    private final JwksKeySet keySet;
+    private final String issuer;
+    private final String audience;
+    private final long clockSkewSeconds;
+
+    /**
+     * Construtor.
+     *
+     * @param keySet Conjunto de chaves públicas
+     * @param issuer Issuer esperado (null desabilita a verificação)
+     * @param audience Audience esperada (null desabilita a verificação)
+     * @param clockSkew Tolerância de relógio para exp e nbf
+     */
+    public JwtValidator(JwksKeySet keySet, String issuer, String audience, Duration clockSkew) {
+        this.keySet = keySet;
+        this.issuer = issuer;
+        this.audience = audience;
+        this.clockSkewSeconds = clockSkew.toSeconds();
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API fluente.
+     *
+     * @return JwtValidator padrão
+     * @throws IllegalStateException se a validação local não estiver configurada
+     */
+    public static JwtValidator getDefault() {
+        JwtValidator instance = defaultInstance;
+        if (instance == null) {
+            throw new IllegalStateException(
+                "Validação local de JWT não configurada. " +
+                "Defina conexao-auth.jwt.jwks-uri para habilitá-la."
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param validator Nova instância
+     */
+    public static void setDefault(JwtValidator validator) {
+        JwtValidator.defaultInstance = validator;
+    }
+
+    /**
+     * Valida o token localmente.
+     *
+     * @param token Access token JWT
+     * @return IntrospectResponseDTO com active=true e claims, ou active=false
+     */
+    public IntrospectResponseDTO validate(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return inactive();
+        }
+
+        try {
+            JsonNode header = OBJECT_MAPPER.readTree(BASE64URL.decode(token.substring(0, firstDot)));
+            String algorithm = signatureAlgorithm(header.path("alg").asText());
+            if (algorithm == null) {
+                return inactive();
+            }
+
+            PublicKey key = keySet.getKey(header.hasNonNull("kid") ? header.get("kid").asText() : null);
+            if (key == null || !verify(algorithm, key, token, secondDot)) {
+                return inactive();
+            }
+
+            ObjectNode claims = (ObjectNode) OBJECT_MAPPER.readTree(
+                BASE64URL.decode(token.substring(firstDot + 1, secondDot)));
+            if (!validClaims(claims)) {
+                return inactive();
+            }
+            return toIntrospectResponse(claims);
+
+        } catch (IOException | IllegalArgumentException | ClassCastException | GeneralSecurityException e) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Rejected malformed JWT: " + e.getMessage());
+            }
+            return inactive();
+        }
+    }
+
+    private boolean verify(String algorithm, PublicKey key, String token, int secondDot)
+            throws GeneralSecurityException {
+        if (algorithm.contains("ECDSA") != "EC".equals(key.getAlgorithm())) {
+            return false;
+        }
+        Signature signature = Signature.getInstance(algorithm);
+        signature.initVerify(key);
+        signature.update(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+        return signature.verify(BASE64URL.decode(token.substring(secondDot + 1)));
+    }
+
+    private boolean validClaims(JsonNode claims) {
+        long now = System.currentTimeMillis() / 1000;
+
+        if (!claims.path("exp").canConvertToLong() || claims.get("exp").asLong() + clockSkewSeconds <= now) {
+            return false;
+        }
+        if (claims.hasNonNull("nbf") && claims.get("nbf").asLong() - clockSkewSeconds > now) {
+            return false;
+        }
+        if (issuer != null && !issuer.equals(claims.path("iss").asText(null))) {
+            return false;
+        }
+        return audience == null || audiences(claims).contains(audience);
+    }
+
+    private IntrospectResponseDTO toIntrospectResponse(ObjectNode claims) {
+        List<String> audiences = audiences(claims);
+        if (claims.path("aud").isArray()) {
+            claims.put("aud", audience != null ? audience : audiences.isEmpty() ? null : audiences.get(0));
+        }
+        if (!claims.has("scopes") && claims.path("scope").isTextual()) {
+            List<String> scopes = List.of(claims.get("scope").asText().trim().split("\\s+"));
+            claims.set("scopes", OBJECT_MAPPER.valueToTree(scopes));
+        }
+
+        IntrospectResponseDTO response = OBJECT_MAPPER.convertValue(claims, IntrospectResponseDTO.class);
+        response.setActive(true);
+        return response;
+    }
+
+    /**
+     * Cria uma resposta inativa. Uma nova instância por rejeição, pois o DTO
+     * é mutável e pertence a quem o recebe.
+     */
+    private static IntrospectResponseDTO inactive() {
+        return IntrospectResponseDTO.builder().active(false).build();
+    }
+
+    private static List<String> audiences(JsonNode claims) {
+        JsonNode aud = claims.path("aud");
+        if (aud.isTextual()) {
+            return List.of(aud.asText());
+        }
+        List<String> audiences = new ArrayList<>();
+        aud.forEach(node -> audiences.add(node.asText()));
+        return audiences;
+    }
+
+    private static String signatureAlgorithm(String alg) {
+        return switch (alg) {
+            case "RS256" -> "SHA256withRSA";
+            case "RS384" -> "SHA384withRSA";
+            case "RS512" -> "SHA512withRSA";
+            case "ES256" -> "SHA256withECDSAinP1363Format";
+            case "ES384" -> "SHA384withECDSAinP1363Format";
+            case "ES512" -> "SHA512withECDSAinP1363Format";
+            default -> null;
+        };
+    }
+}
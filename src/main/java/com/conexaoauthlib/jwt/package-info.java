@@ -0,0 +1,28 @@
+/**
+ * Módulo de validação local de JWT.
+ *
+ * <p>Este módulo valida access tokens JWT assinados sem chamar o endpoint
+ * de introspecção, utilizando as chaves públicas publicadas no endpoint
+ * JWKS do servidor OAuth2.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>JwtValidator - Verificação de assinatura, exp, nbf, iss e aud</li>
+ *   <li>JwksKeySet - Cache do JWKS com recarga limitada por kid desconhecido</li>
+ *   <li>JwtProperties - Propriedades configuráveis via application.yml</li>
+ * </ul>
+ *
+ * <h3>Configuração:</h3>
+ * <pre>{@code
+ * conexao-auth:
+ *   jwt:
+ *     jwks-uri: "https://auth.example.com/oauth2/jwks"
+ *     issuer: "https://auth.example.com"
+ *     audience: "my-api"
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.jwt.JwtValidator
+ * @see com.conexaoauthlib.jwt.JwksKeySet
+ */
+package com.conexaoauthlib.jwt;
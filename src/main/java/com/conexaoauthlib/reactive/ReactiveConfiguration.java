@@ -0,0 +1,74 @@
+package com.conexaoauthlib.reactive;
+
+import com.conexaoauthlib.feign.transport.TransportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração da API reativa.
+ *
+ * <p>Ativada apenas quando reactor-core está no classpath. Reutiliza as
+ * URLs base de {@code conexao-auth.clients}, os timeouts de
+ * {@code conexao-auth.default} e a opção HTTP/2 de
+ * {@code conexao-auth.transport}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+public class ReactiveConfiguration {
+
+    private static final List<String> CLIENTS = List.of("oauth2", "tenant", "client", "user", "role", "scope");
+
+    /**
+     * Transporte não bloqueante da API reativa.
+     *
+     * @param environment Ambiente com as URLs base dos clientes
+     * @param transportProperties Propriedades de transporte
+     * @param objectMapper ObjectMapper da aplicação, se existir
+     * @param connectTimeout conexao-auth.default.connect-timeout em milissegundos
+     * @param readTimeout conexao-auth.default.read-timeout em milissegundos
+     * @return ReactiveHttpClient configurado
+     */
+    @Bean
+    public ReactiveHttpClient reactiveHttpClient(
+            Environment environment,
+            TransportProperties transportProperties,
+            ObjectProvider<ObjectMapper> objectMapper,
+            @Value("${conexao-auth.default.connect-timeout:5000}") long connectTimeout,
+            @Value("${conexao-auth.default.read-timeout:10000}") long readTimeout) {
+        Map<String, String> baseUrls = new HashMap<>();
+        for (String client : CLIENTS) {
+            String baseUrl = environment.getProperty("conexao-auth.clients." + client + ".base-url");
+            if (baseUrl != null) {
+                baseUrls.put(client, baseUrl);
+            }
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(transportProperties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeout))
+            .build();
+
+        ReactiveHttpClient client = new ReactiveHttpClient(
+            httpClient,
+            objectMapper.getIfAvailable(ObjectMapper::new),
+            baseUrls,
+            Duration.ofMillis(readTimeout)
+        );
+        ReactiveHttpClient.setDefault(client);
+        return client;
+    }
+}
@@ -0,0 +1,403 @@
+package com.conexaoauthlib.reactive;
+
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import com.conexaoauthlib.exception.DeadlineExceededException;
+import com.conexaoauthlib.feign.error.ClientErrorDecoder;
+import com.conexaoauthlib.feign.error.OAuth2ErrorDecoder;
+import com.conexaoauthlib.feign.error.RoleErrorDecoder;
+import com.conexaoauthlib.feign.error.ScopeErrorDecoder;
+import com.conexaoauthlib.feign.error.TenantErrorDecoder;
+import com.conexaoauthlib.feign.error.UserErrorDecoder;
+import com.conexaoauthlib.resilience.Deadline;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * Transporte HTTP não bloqueante da API reativa.
+ *
+ * <p>Executa as mesmas requisições dos Feign Clients sobre
+ * {@link HttpClient#sendAsync}, sem ocupar uma thread durante o I/O.
+ * As URLs base são as mesmas de {@code conexao-auth.clients.<nome>.base-url}
+ * e as respostas de erro são convertidas pelos mesmos error decoders
+ * dos Feign Clients, de modo que as exceções são idênticas às da API
+ * bloqueante.</p>
+ *
+ * <p>Cada requisição passa pelo CircuitBreaker, pelo Bulkhead de semáforo e
+ * pelo limite adaptativo do cliente, compartilhados com a API bloqueante
+ * ({@link ReactiveResilience}). Um {@link Deadline} ativo na thread que
+ * monta a requisição limita o timeout dela e a encerra com
+ * {@link com.conexaoauthlib.exception.DeadlineExceededException}. Não há
+ * Retry (nem consumo do orçamento de retries): repetições ficam a cargo do
+ * chamador, por exemplo com {@code Mono.retryWhen}.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Mono<UserResponseDTO> user = ReactiveHttpClient.getDefault()
+ *     .request("user", "GET", "/api/users/{id}", userId)
+ *     .tenant("tenant-123")
+ *     .retrieve(UserResponseDTO.class);
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ReactiveConfiguration
+ */
+public class ReactiveHttpClient {
+
+    private static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private static final Map<String, ErrorDecoder> ERROR_DECODERS = Map.of(
+        "oauth2", new OAuth2ErrorDecoder(),
+        "tenant", new TenantErrorDecoder(),
+        "client", new ClientErrorDecoder(),
+        "user", new UserErrorDecoder(),
+        "role", new RoleErrorDecoder(),
+        "scope", new ScopeErrorDecoder()
+    );
+
+    private static volatile ReactiveHttpClient defaultInstance;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Map<String, String> baseUrls;
+    private final Duration readTimeout;
+
+    /**
+     * Construtor.
+     *
+     * @param httpClient HttpClient da JDK
+     * @param objectMapper ObjectMapper para corpo JSON
+     * @param baseUrls URL base por cliente (oauth2, tenant, client, user, role, scope)
+     * @param readTimeout Timeout de cada requisição
+     */
+    public ReactiveHttpClient(HttpClient httpClient, ObjectMapper objectMapper,
+                              Map<String, String> baseUrls, Duration readTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper.copy()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.baseUrls = Map.copyOf(baseUrls);
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Retorna a instância compartilhada utilizada pela API reativa.
+     *
+     * @return ReactiveHttpClient padrão
+     * @throws IllegalStateException se a API reativa não estiver configurada
+     */
+    public static ReactiveHttpClient getDefault() {
+        ReactiveHttpClient instance = defaultInstance;
+        if (instance == null) {
+            throw new IllegalStateException(
+                "API reativa não configurada. " +
+                "Certifique-se de que a biblioteca está sendo usada em contexto Spring " +
+                "com reactor-core no classpath."
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param client Nova instância
+     */
+    public static void setDefault(ReactiveHttpClient client) {
+        ReactiveHttpClient.defaultInstance = client;
+    }
+
+    /**
+     * Inicia uma requisição.
+     *
+     * @param clientName Nome do cliente (oauth2, tenant, client, user, role, scope)
+     * @param method Método HTTP
+     * @param path Caminho relativo à URL base, com variáveis {@code {nome}}
+     * @param pathVariables Valores das variáveis do caminho, na ordem em que aparecem
+     * @return RequestSpec para configuração
+     */
+    public RequestSpec request(String clientName, String method, String path, Object... pathVariables) {
+        String baseUrl = baseUrls.get(clientName);
+        if (baseUrl == null) {
+            throw new IllegalArgumentException("URL base não configurada para o cliente: " + clientName);
+        }
+        return new RequestSpec(clientName, method, baseUrl + expand(path, pathVariables));
+    }
+
+    /**
+     * Percorre um endpoint paginado como um Flux de itens.
+     *
+     * <p>Cada página só é requisitada depois que todos os itens da página
+     * anterior foram consumidos, respeitando a demanda do assinante; cancelar
+     * o Flux (por exemplo com {@code take(n)}) interrompe a paginação.</p>
+     *
+     * @param fetch Função que busca a página de número informado
+     * @param firstPage Número da primeira página (0-indexed)
+     * @param <T> Tipo dos itens
+     * @return Flux com os itens de todas as páginas
+     */
+    public static <T> Flux<T> paginate(IntFunction<Mono<PageResponseDTO<T>>> fetch, int firstPage) {
+        return fetch.apply(firstPage).flatMapMany(page -> {
+            Flux<T> content = page.getContent() != null ? Flux.fromIterable(page.getContent()) : Flux.empty();
+            if (!hasNext(page, firstPage)) {
+                return content;
+            }
+            return content.concatWith(Flux.defer(() -> paginate(fetch, firstPage + 1)));
+        });
+    }
+
+    private static boolean hasNext(PageResponseDTO<?> page, int pageNumber) {
+        if (page.getContent() == null || page.getContent().isEmpty()) {
+            return false;
+        }
+        if (page.getHasNext() != null) {
+            return page.getHasNext();
+        }
+        if (page.getLast() != null) {
+            return !page.getLast();
+        }
+        return page.getTotalPages() != null && pageNumber + 1 < page.getTotalPages();
+    }
+
+    private static String expand(String path, Object[] pathVariables) {
+        StringBuilder expanded = new StringBuilder(path.length() + 32);
+        int variable = 0;
+        int start = 0;
+        int open;
+        while ((open = path.indexOf('{', start)) >= 0) {
+            int close = path.indexOf('}', open);
+            expanded.append(path, start, open)
+                .append(encode(String.valueOf(pathVariables[variable++])).replace("+", "%20"));
+            start = close + 1;
+        }
+        return expanded.append(path, start, path.length()).toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Requisição em construção.
+     */
+    public final class RequestSpec {
+        private final String clientName;
+        private final String method;
+        private final String url;
+        private final Deadline deadline = Deadline.current();
+        private final StringJoiner query = new StringJoiner("&");
+        private final Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private byte[] body;
+
+        RequestSpec(String clientName, String method, String url) {
+            this.clientName = clientName;
+            this.method = method;
+            this.url = url;
+            header("Accept", "application/json");
+        }
+
+        /**
+         * Define o header X-Tenant-Id (ignorado quando nulo).
+         *
+         * @param tenantId ID do tenant de contexto
+         * @return this spec
+         */
+        public RequestSpec tenant(String tenantId) {
+            if (tenantId != null) {
+                header(TENANT_HEADER, tenantId);
+            }
+            return this;
+        }
+
+        /**
+         * Adiciona um parâmetro de query para cada valor informado.
+         *
+         * @param name Nome do parâmetro
+         * @param values Valores
+         * @return this spec
+         */
+        public RequestSpec queryParam(String name, Collection<?> values) {
+            if (values != null) {
+                values.forEach(value -> query.add(encode(name) + "=" + encode(String.valueOf(value))));
+            }
+            return this;
+        }
+
+        /**
+         * Adiciona parâmetros no formato {@code chave=valor}, como os
+         * produzidos por {@code toQueryParams()} dos DTOs de filtro.
+         *
+         * @param params Parâmetros
+         * @return this spec
+         */
+        public RequestSpec queryParams(List<String> params) {
+            for (String param : params) {
+                int separator = param.indexOf('=');
+                query.add(separator < 0
+                    ? encode(param)
+                    : encode(param.substring(0, separator)) + "=" + encode(param.substring(separator + 1)));
+            }
+            return this;
+        }
+
+        /**
+         * Define o corpo como JSON.
+         *
+         * @param value Objeto serializado com Jackson
+         * @return this spec
+         */
+        public RequestSpec json(Object value) {
+            try {
+                this.body = objectMapper.writeValueAsBytes(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return header("Content-Type", "application/json");
+        }
+
+        /**
+         * Define o corpo como application/x-www-form-urlencoded, usando os
+         * nomes de propriedade JSON do objeto e ignorando valores nulos.
+         *
+         * @param value Objeto a codificar
+         * @return this spec
+         */
+        public RequestSpec form(Object value) {
+            Map<String, Object> fields = objectMapper.convertValue(value, new TypeReference<>() { });
+            StringJoiner form = new StringJoiner("&");
+            fields.forEach((name, field) -> {
+                if (field != null) {
+                    form.add(encode(name) + "=" + encode(String.valueOf(field)));
+                }
+            });
+            this.body = form.toString().getBytes(StandardCharsets.UTF_8);
+            return header("Content-Type", "application/x-www-form-urlencoded");
+        }
+
+        /**
+         * Executa a requisição e desserializa a resposta.
+         *
+         * @param type Tipo da resposta
+         * @param <T> Tipo da resposta
+         * @return Mono com a resposta, ou erro com a exceção do error decoder
+         */
+        public <T> Mono<T> retrieve(Class<T> type) {
+            return retrieve(objectMapper.constructType(type));
+        }
+
+        /**
+         * Executa a requisição e desserializa a resposta de tipo genérico.
+         *
+         * @param type Tipo da resposta
+         * @param <T> Tipo da resposta
+         * @return Mono com a resposta, ou erro com a exceção do error decoder
+         */
+        public <T> Mono<T> retrieve(TypeReference<T> type) {
+            return retrieve(objectMapper.getTypeFactory().constructType(type));
+        }
+
+        /**
+         * Executa a requisição ignorando o corpo da resposta.
+         *
+         * @return Mono vazio concluído ao término da requisição
+         */
+        public Mono<Void> retrieveEmpty() {
+            return exchange().then();
+        }
+
+        private <T> Mono<T> retrieve(JavaType type) {
+            return exchange().handle((response, sink) -> {
+                if (response.body().length == 0) {
+                    return;
+                }
+                try {
+                    sink.next(objectMapper.readValue(response.body(), type));
+                } catch (IOException e) {
+                    sink.error(new UncheckedIOException(e));
+                }
+            });
+        }
+
+        private Mono<HttpResponse<byte[]>> exchange() {
+            return ReactiveResilience.decorate(clientName, Mono.defer(() -> {
+                if (deadline != null && deadline.isExpired()) {
+                    return Mono.error(deadline.exceeded(clientName));
+                }
+                boolean deadlineBound = deadline != null && deadline.remainingMillis() < readTimeout.toMillis();
+                Duration timeout = deadlineBound
+                    ? Duration.ofMillis(Math.max(1, deadline.remainingMillis()))
+                    : readTimeout;
+                return Mono.fromFuture(() -> httpClient.sendAsync(
+                        toHttpRequest(timeout), HttpResponse.BodyHandlers.ofByteArray()))
+                    .onErrorMap(HttpTimeoutException.class, e -> {
+                        if (!deadlineBound) {
+                            return e;
+                        }
+                        DeadlineExceededException exceeded = deadline.exceeded(clientName);
+                        exceeded.addSuppressed(e);
+                        return exceeded;
+                    })
+                    .flatMap(response -> response.statusCode() >= 400
+                        ? Mono.error(decodeError(response))
+                        : Mono.just(response));
+            }));
+        }
+
+        private HttpRequest toHttpRequest(Duration timeout) {
+            String target = query.length() > 0 ? url + "?" + query : url;
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(target))
+                .timeout(timeout)
+                .method(method, body != null
+                    ? HttpRequest.BodyPublishers.ofByteArray(body)
+                    : HttpRequest.BodyPublishers.noBody());
+            headers.forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+            return builder.build();
+        }
+
+        private Exception decodeError(HttpResponse<byte[]> response) {
+            Map<String, Collection<String>> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            responseHeaders.putAll(response.headers().map());
+
+            Response feignResponse = Response.builder()
+                .status(response.statusCode())
+                .reason("")
+                .headers(responseHeaders)
+                .body(response.body())
+                .request(Request.create(Request.HttpMethod.valueOf(method), url, headers, body,
+                    StandardCharsets.UTF_8, null))
+                .build();
+
+            ErrorDecoder decoder = ERROR_DECODERS.getOrDefault(clientName, new ErrorDecoder.Default());
+            return decoder.decode(clientName + "#" + method + " " + url, feignResponse);
+        }
+
+        private RequestSpec header(String name, String value) {
+            headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.conexaoauthlib.reactive;
+
+import com.conexaoauthlib.resilience.AdaptiveConcurrencyLimiter;
+import com.conexaoauthlib.resilience.AdaptiveConcurrencyLimits;
+import com.conexaoauthlib.resilience.ClientBulkheads;
+import com.conexaoauthlib.resilience.ResilienceDecorators;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proteções por cliente aplicadas às requisições da API reativa.
+ *
+ * <p>Usa as mesmas instâncias das cadeias dos Feign Clients: o
+ * CircuitBreaker de {@link ResilienceDecorators}, o Bulkhead de semáforo de
+ * {@link ClientBulkheads} e o limite adaptativo de
+ * {@link AdaptiveConcurrencyLimits}. Chamadas bloqueantes e reativas
+ * disputam, portanto, as mesmas vagas. A espera por uma vaga do Bulkhead
+ * ({@code maxWaitDuration}) ocorre em {@code Schedulers.boundedElastic()},
+ * sem bloquear a thread do assinante.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ReactiveHttpClient
+ */
+final class ReactiveResilience {
+
+    private ReactiveResilience() {
+    }
+
+    /**
+     * Envolve a requisição com CircuitBreaker, Bulkhead e limite
+     * adaptativo, nesta ordem (de fora para dentro).
+     *
+     * @param clientName Nome do cliente
+     * @param call Requisição
+     * @param <T> Tipo da resposta
+     * @return Requisição protegida
+     */
+    static <T> Mono<T> decorate(String clientName, Mono<T> call) {
+        CircuitBreaker circuitBreaker = ResilienceDecorators.getDefault().circuitBreaker(clientName);
+        ClientBulkheads clientBulkheads = ClientBulkheads.getDefault();
+        Bulkhead bulkhead = clientBulkheads.bulkhead(clientName);
+        AdaptiveConcurrencyLimits limits = AdaptiveConcurrencyLimits.getDefault();
+        Mono<T> limited = limits.isEnabled() ? limit(limits.limiter(clientName), call) : call;
+
+        Mono<Boolean> permit = Mono.fromSupplier(bulkhead::tryAcquirePermission);
+        if (!bulkhead.getBulkheadConfig().getMaxWaitDuration().isZero()) {
+            permit = permit.subscribeOn(Schedulers.boundedElastic());
+        }
+        Mono<T> bulkheaded = permit.flatMap(acquired -> {
+            if (!acquired) {
+                clientBulkheads.recordRejected(clientName);
+                return Mono.error(BulkheadFullException.createBulkheadFullException(bulkhead));
+            }
+            return limited.doFinally(signal -> bulkhead.onComplete());
+        });
+
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            long start = System.nanoTime();
+            return bulkheaded
+                .doOnSuccess(value -> circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .doOnError(error -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, error))
+                .doOnCancel(circuitBreaker::releasePermission);
+        });
+    }
+
+    private static <T> Mono<T> limit(AdaptiveConcurrencyLimiter limiter, Mono<T> call) {
+        return Mono.defer(() -> {
+            limiter.acquirePermission();
+            long start = System.nanoTime();
+            return call
+                .doOnSuccess(value -> limiter.release(System.nanoTime() - start, false))
+                .doOnError(error ->
+                    limiter.release(System.nanoTime() - start, AdaptiveConcurrencyLimiter.isDrop(error)))
+                .doOnCancel(() -> limiter.release(System.nanoTime() - start, false));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Módulo Reativo.
+ *
+ * <p>Este módulo fornece o transporte não bloqueante utilizado pelas
+ * variantes reativas da API fluente ({@code ReactiveAuthClient},
+ * {@code ReactiveUserClient}, {@code ReactiveTenantClient},
+ * {@code ReactiveRoleClient}, {@code ReactiveScopeClient} e
+ * {@code ReactiveClientClient}), que retornam {@code Mono} e {@code Flux}.</p>
+ *
+ * <p>Requer {@code io.projectreactor:reactor-core} no classpath da aplicação
+ * (dependência opcional da biblioteca).</p>
+ *
+ * <p>As requisições reativas compartilham com a API bloqueante o
+ * CircuitBreaker, o Bulkhead e o limite adaptativo de cada cliente, e
+ * respeitam o {@code Deadline} da thread que as monta. Não são repetidas
+ * por Retry.</p>
+ *
+ * <h3>Componentes principais:</h3>
+ * <ul>
+ *   <li>ReactiveHttpClient - Requisições sobre HttpClient.sendAsync e paginação sob demanda</li>
+ *   <li>ReactiveConfiguration - Configuração a partir de conexao-auth.clients e conexao-auth.default</li>
+ *   <li>ReactiveResilience - CircuitBreaker, Bulkhead e limite adaptativo das requisições</li>
+ * </ul>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * Flux<UserResponseDTO> users = ReactiveUserClient.list(
+ *     UserFilterDTO.builder().status("ACTIVE").size(50).build(), "tenant-123");
+ *
+ * users.take(10).subscribe(user -> log.info(user.getEmail()));
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see com.conexaoauthlib.reactive.ReactiveHttpClient
+ */
+package com.conexaoauthlib.reactive;
@@ -0,0 +1,247 @@
+package com.conexaoauthlib.resilience;
+
+import com.conexaoauthlib.exception.ConcurrencyLimitExceededException;
+import io.github.resilience4j.core.functions.CheckedFunction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limite adaptativo de chamadas simultâneas de um cliente.
+ *
+ * <p>Segue o algoritmo de gradiente: a cada janela de chamadas (no mínimo
+ * {@value #MIN_WINDOW_SAMPLES}, ou o limite atual), a latência média da
+ * janela é comparada com a latência sem carga (a menor latência observada,
+ * medida novamente de tempos em tempos com o limite reduzido à metade).
+ * Enquanto a latência se mantém dentro da tolerância, o limite cresce
+ * aproximadamente √limite; quando a latência sobe, o limite é
+ * multiplicado pelo gradiente {@code tolerância × sem carga / latência}
+ * (no mínimo 0,5). Falhas por timeout ou I/O marcam a janela, e o limite é
+ * reduzido pelo fator de backoff uma única vez, quando a janela se encerra.
+ * O limite só cresce quando ao menos metade dele está em uso.</p>
+ *
+ * <p>Chamadas acima do limite são rejeitadas imediatamente com
+ * {@link ConcurrencyLimitExceededException}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see AdaptiveConcurrencyLimits
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Número mínimo de amostras por janela de recálculo do limite.
+     */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    /**
+     * A cada quantas janelas a latência sem carga é medida novamente:
+     * durante uma janela o limite cai pela metade, a fila se esvazia e a
+     * menor latência observada passa a ser a nova referência. Assim a
+     * referência acompanha mudanças permanentes de rede ou do servidor
+     * sem ser contaminada por amostras sob carga.
+     */
+    private static final int PROBE_INTERVAL_WINDOWS = 200;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private long noLoadRtt;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private int windowDrops;
+    private int windowsSinceProbe;
+    private boolean probing;
+    private long probeMinRtt;
+
+    /**
+     * Construtor.
+     *
+     * @param name Nome do cliente
+     * @param properties Parâmetros do algoritmo
+     */
+    public AdaptiveConcurrencyLimiter(String name, ResilienceProperties.AdaptiveLimitProperties properties) {
+        this.name = name;
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.rttTolerance = Math.max(1.0, properties.getRttTolerance());
+        this.smoothing = properties.getSmoothing();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, properties.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Envolve uma função para que cada execução ocupe uma vaga do limite
+     * e alimente o algoritmo com a latência observada.
+     *
+     * @param limiter Limite do cliente
+     * @param function Função a proteger
+     * @param <T> Tipo do argumento
+     * @param <R> Tipo do resultado
+     * @return Função limitada
+     */
+    public static <T, R> CheckedFunction<T, R> decorateCheckedFunction(AdaptiveConcurrencyLimiter limiter,
+                                                                     CheckedFunction<T, R> function) {
+        return argument -> {
+            limiter.acquirePermission();
+            long start = System.nanoTime();
+            boolean dropped = false;
+            try {
+                return function.apply(argument);
+            } catch (Throwable t) {
+                dropped = isDrop(t);
+                throw t;
+            } finally {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        };
+    }
+
+    /**
+     * Ocupa uma vaga ou rejeita a chamada.
+     *
+     * @throws ConcurrencyLimitExceededException se o limite foi atingido
+     */
+    public void acquirePermission() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException(
+                    "Limite de concorrência do cliente '" + name + "' atingido (" + current + ")");
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+    }
+
+    /**
+     * Libera a vaga e registra a amostra de latência.
+     *
+     * @param rttNanos Duração da chamada em nanossegundos
+     * @param dropped true se a chamada falhou por timeout ou I/O
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, current, dropped);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtRelease, boolean dropped) {
+        if (probing) {
+            onProbeSample(rttNanos, inFlightAtRelease, dropped);
+            return;
+        }
+
+        if (dropped) {
+            windowDrops++;
+        } else {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            if (noLoadRtt == 0 || rttNanos < noLoadRtt) {
+                noLoadRtt = Math.max(1, rttNanos);
+            }
+        }
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+
+        // Recalcula uma vez por janela (cerca de um "RTT" de chamadas)
+        if (windowSamples + windowDrops < Math.max(MIN_WINDOW_SAMPLES, estimatedLimit)) {
+            return;
+        }
+
+        double newLimit;
+        if (windowDrops > 0) {
+            newLimit = estimatedLimit * backoffRatio;
+        } else if (windowMaxInFlight * 2 < estimatedLimit) {
+            // Sem demanda suficiente, a latência não diz nada sobre o limite
+            newLimit = estimatedLimit;
+        } else {
+            double averageRtt = (double) windowRttSum / windowSamples;
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * noLoadRtt / averageRtt));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+        resetWindow();
+
+        if (++windowsSinceProbe >= PROBE_INTERVAL_WINDOWS) {
+            windowsSinceProbe = 0;
+            probing = true;
+            probeMinRtt = Long.MAX_VALUE;
+            limit = Math.max(minLimit, limit / 2);
+        }
+    }
+
+    private void onProbeSample(long rttNanos, int inFlightAtRelease, boolean dropped) {
+        // Só conta amostras de chamadas iniciadas já com o limite reduzido
+        if (dropped || inFlightAtRelease > limit) {
+            return;
+        }
+        probeMinRtt = Math.min(probeMinRtt, rttNanos);
+        if (++windowSamples >= MIN_WINDOW_SAMPLES) {
+            noLoadRtt = Math.max(1, probeMinRtt);
+            probing = false;
+            limit = (int) estimatedLimit;
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDrops = 0;
+    }
+
+    /**
+     * @return Nome do cliente
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Limite atual de chamadas simultâneas
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return Chamadas em andamento
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return Total de chamadas rejeitadas
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @param t Falha da chamada
+     * @return true se a falha indica sobrecarga (timeout ou I/O) e reduz o limite
+     */
+    public static boolean isDrop(Throwable t) {
+        return t instanceof TimeoutException
+            || t instanceof IOException
+            || t instanceof UncheckedIOException
+            || t instanceof feign.RetryableException;
+    }
+}
@@ -0,0 +1,88 @@
+package com.conexaoauthlib.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limites adaptativos de concorrência dos clientes da biblioteca.
+ *
+ * <p>Mantém um {@link AdaptiveConcurrencyLimiter} por cliente
+ * ({@code oauth2}, {@code tenant}, {@code client}, {@code user},
+ * {@code role}, {@code scope}), aplicado às chamadas pelas cadeias de
+ * {@link ResilienceDecorators}. Os limites são expostos como gauges
+ * em {@link ResilienceMetrics}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see AdaptiveConcurrencyLimiter
+ */
+public final class AdaptiveConcurrencyLimits {
+
+    private static volatile AdaptiveConcurrencyLimits defaultInstance;
+
+    private final ResilienceProperties.AdaptiveLimitProperties properties;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param properties Parâmetros do limite adaptativo
+     */
+    public AdaptiveConcurrencyLimits(ResilienceProperties.AdaptiveLimitProperties properties) {
+        this.properties = properties;
+        if (properties.isEnabled()) {
+            ClientBulkheads.CLIENTS.forEach(this::limiter);
+        }
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com os valores padrão
+     * fora de um contexto Spring.
+     *
+     * @return AdaptiveConcurrencyLimits padrão
+     */
+    public static AdaptiveConcurrencyLimits getDefault() {
+        AdaptiveConcurrencyLimits instance = defaultInstance;
+        if (instance == null) {
+            synchronized (AdaptiveConcurrencyLimits.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new AdaptiveConcurrencyLimits(new ResilienceProperties.AdaptiveLimitProperties());
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param adaptiveConcurrencyLimits Nova instância
+     */
+    public static void setDefault(AdaptiveConcurrencyLimits adaptiveConcurrencyLimits) {
+        AdaptiveConcurrencyLimits.defaultInstance = adaptiveConcurrencyLimits;
+    }
+
+    /**
+     * @return true se o limite adaptativo está habilitado
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Limite adaptativo do cliente
+     */
+    public AdaptiveConcurrencyLimiter limiter(String clientName) {
+        return limiters.computeIfAbsent(clientName, name -> new AdaptiveConcurrencyLimiter(name, properties));
+    }
+
+    /**
+     * @return Limites adaptativos por cliente
+     */
+    public Map<String, AdaptiveConcurrencyLimiter> getLimiters() {
+        return Map.copyOf(limiters);
+    }
+}
@@ -0,0 +1,79 @@
+package com.conexaoauthlib.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Métricas dos bulkheads de cada cliente.
+ *
+ * <h3>Métricas expostas (tags {@code bulkhead} e {@code type}):</h3>
+ * <ul>
+ *   <li>conexaoauth.bulkhead.available.permits - Vagas livres
+ *       (chamadas simultâneas no semáforo, threads livres no thread pool)</li>
+ *   <li>conexaoauth.bulkhead.rejected.calls - Chamadas rejeitadas por falta de vaga</li>
+ * </ul>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ClientBulkheads
+ */
+public class BulkheadMetrics implements MeterBinder {
+
+    private static final String SEMAPHORE = "semaphore";
+    private static final String THREAD_POOL = "thread-pool";
+
+    private final ClientBulkheads clientBulkheads;
+
+    /**
+     * Construtor.
+     *
+     * @param clientBulkheads Bulkheads dos clientes
+     */
+    public BulkheadMetrics(ClientBulkheads clientBulkheads) {
+        this.clientBulkheads = clientBulkheads;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        clientBulkheads.getBulkheads().forEach((name, bulkhead) -> {
+            Gauge.builder("conexaoauth.bulkhead.available.permits", bulkhead,
+                          b -> b.getMetrics().getAvailableConcurrentCalls())
+                .tag("bulkhead", name)
+                .tag("type", SEMAPHORE)
+                .description("Chamadas simultâneas ainda permitidas")
+                .register(registry);
+
+            FunctionCounter.builder("conexaoauth.bulkhead.rejected.calls", clientBulkheads,
+                                    c -> c.getRejectedCount(name))
+                .tag("bulkhead", name)
+                .tag("type", SEMAPHORE)
+                .description("Chamadas rejeitadas pelo bulkhead")
+                .register(registry);
+        });
+
+        clientBulkheads.getThreadPoolBulkheads().forEach((name, bulkhead) -> {
+            Gauge.builder("conexaoauth.bulkhead.available.permits", bulkhead,
+                          b -> b.getMetrics().getMaximumThreadPoolSize() - b.getMetrics().getActiveThreadCount())
+                .tag("bulkhead", name)
+                .tag("type", THREAD_POOL)
+                .description("Threads livres no pool do bulkhead")
+                .register(registry);
+
+            Gauge.builder("conexaoauth.bulkhead.queue.remaining", bulkhead,
+                          b -> b.getMetrics().getRemainingQueueCapacity())
+                .tag("bulkhead", name)
+                .tag("type", THREAD_POOL)
+                .description("Capacidade restante da fila do bulkhead")
+                .register(registry);
+
+            FunctionCounter.builder("conexaoauth.bulkhead.rejected.calls", clientBulkheads,
+                                    c -> c.getThreadPoolRejectedCount(name))
+                .tag("bulkhead", name)
+                .tag("type", THREAD_POOL)
+                .description("Chamadas rejeitadas pelo bulkhead")
+                .register(registry);
+        });
+    }
+}
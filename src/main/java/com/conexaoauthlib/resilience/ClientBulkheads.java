@@ -0,0 +1,178 @@
+package com.conexaoauthlib.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkheads aplicados aos Feign Clients da API fluente.
+ *
+ * <p>Cada cliente ({@code oauth2}, {@code tenant}, {@code client},
+ * {@code user}, {@code role}, {@code scope}) possui um Bulkhead de semáforo,
+ * que limita as chamadas síncronas simultâneas, e um Bulkhead de thread pool,
+ * utilizável pelas chamadas assíncronas. Chamadas rejeitadas são contadas
+ * por bulkhead e expostas via {@link BulkheadMetrics}.</p>
+ *
+ * <p>O Bulkhead de semáforo é aplicado a cada chamada síncrona pelas
+ * cadeias de {@link ResilienceDecorators}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ResilienceConfiguration
+ */
+public final class ClientBulkheads {
+
+    /**
+     * Clientes da biblioteca, cujos bulkheads são criados antecipadamente.
+     */
+    public static final List<String> CLIENTS = List.of("oauth2", "tenant", "client", "user", "role", "scope");
+
+    private static volatile ClientBulkheads defaultInstance;
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, ThreadPoolBulkhead> threadPoolBulkheads = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> threadPoolRejected = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param bulkheadRegistry Registry de Bulkheads (semáforo)
+     * @param threadPoolBulkheadRegistry Registry de Bulkheads de thread pool
+     */
+    public ClientBulkheads(BulkheadRegistry bulkheadRegistry,
+                           ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.threadPoolBulkheadRegistry = threadPoolBulkheadRegistry;
+        CLIENTS.forEach(client -> {
+            bulkhead(client);
+            threadPoolBulkhead(client);
+        });
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com a configuração
+     * padrão de {@link ResilienceConfiguration} fora de um contexto Spring.
+     *
+     * @return ClientBulkheads padrão
+     */
+    public static ClientBulkheads getDefault() {
+        ClientBulkheads instance = defaultInstance;
+        if (instance == null) {
+            synchronized (ClientBulkheads.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    ResilienceConfiguration configuration = new ResilienceConfiguration();
+                    instance = new ClientBulkheads(
+                        configuration.bulkheadRegistry(),
+                        configuration.threadPoolBulkheadRegistry()
+                    );
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param clientBulkheads Nova instância
+     */
+    public static void setDefault(ClientBulkheads clientBulkheads) {
+        ClientBulkheads.defaultInstance = clientBulkheads;
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Bulkhead de semáforo do cliente
+     */
+    public Bulkhead bulkhead(String clientName) {
+        return bulkheads.computeIfAbsent(clientName, name -> {
+            rejected.computeIfAbsent(name, key -> new LongAdder());
+            return bulkheadRegistry.bulkhead(name, configName(name));
+        });
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Bulkhead de thread pool do cliente
+     */
+    public ThreadPoolBulkhead threadPoolBulkhead(String clientName) {
+        return threadPoolBulkheads.computeIfAbsent(clientName, name -> {
+            ThreadPoolBulkhead bulkhead = threadPoolBulkheadRegistry.bulkhead(name,
+                threadPoolBulkheadRegistry.getConfiguration(name).isPresent() ? name : "default");
+            LongAdder counter = threadPoolRejected.computeIfAbsent(name, key -> new LongAdder());
+            bulkhead.getEventPublisher().onCallRejected(event -> counter.increment());
+            return bulkhead;
+        });
+    }
+
+    /**
+     * Retorna um Executor que submete as tarefas ao Bulkhead de thread pool
+     * do cliente. Lança {@code BulkheadFullException} quando a fila está cheia.
+     *
+     * @param clientName Nome do cliente
+     * @return Executor limitado pelo bulkhead
+     */
+    public Executor threadPoolExecutor(String clientName) {
+        ThreadPoolBulkhead bulkhead = threadPoolBulkhead(clientName);
+        return bulkhead::executeRunnable;
+    }
+
+    /**
+     * Contabiliza uma chamada rejeitada pelo Bulkhead de semáforo. O contador
+     * é atualizado por quem executa a chamada, e não por um consumidor de
+     * eventos, para que o bulkhead não publique eventos a cada chamada.
+     *
+     * @param clientName Nome do cliente
+     */
+    public void recordRejected(String clientName) {
+        rejected.computeIfAbsent(clientName, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Total de chamadas rejeitadas pelo Bulkhead de semáforo
+     */
+    public long getRejectedCount(String clientName) {
+        LongAdder counter = rejected.get(clientName);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Total de chamadas rejeitadas pelo Bulkhead de thread pool
+     */
+    public long getThreadPoolRejectedCount(String clientName) {
+        LongAdder counter = threadPoolRejected.get(clientName);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * @return Bulkheads de semáforo por cliente
+     */
+    public Map<String, Bulkhead> getBulkheads() {
+        return Map.copyOf(bulkheads);
+    }
+
+    /**
+     * @return Bulkheads de thread pool por cliente
+     */
+    public Map<String, ThreadPoolBulkhead> getThreadPoolBulkheads() {
+        return Map.copyOf(threadPoolBulkheads);
+    }
+
+    private String configName(String clientName) {
+        return bulkheadRegistry.getConfiguration(clientName).isPresent() ? clientName : "default";
+    }
+}
@@ -0,0 +1,194 @@
+package com.conexaoauthlib.resilience;
+
+import com.conexaoauthlib.exception.DeadlineExceededException;
+import io.github.resilience4j.core.IntervalBiFunction;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Prazo de uma chamada lógica, compartilhado por todas as tentativas do Retry.
+ *
+ * <p>Definido pelos builders fluentes com {@code .deadline(Duration)} e
+ * válido para as chamadas feitas pela thread atual. Nas cadeias de
+ * {@link ResilienceDecorators}:</p>
+ * <ul>
+ *   <li>cada tentativa é limitada ao tempo restante: o transporte reduz o
+ *       timeout da requisição ao prazo e a encerra com
+ *       {@link DeadlineExceededException};</li>
+ *   <li>com o prazo esgotado, nenhuma nova tentativa é feita
+ *       ({@link DeadlineExceededException});</li>
+ *   <li>a espera entre tentativas é encurtada para no máximo metade do
+ *       tempo restante, e o retry é dispensado quando resta menos que
+ *       {@value #MIN_ATTEMPT_MILLIS}ms.</li>
+ * </ul>
+ *
+ * <p>Prazos aninhados não se estendem: prevalece o mais curto.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * UserResponseDTO user = UserClient.get(userId)
+ *     .tenant("tenant-123")
+ *     .deadline(Duration.ofSeconds(2))
+ *     .execute();
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see DeadlineExceededException
+ */
+public final class Deadline {
+
+    /**
+     * Tempo restante mínimo para valer a pena uma nova tentativa.
+     */
+    static final long MIN_ATTEMPT_MILLIS = 10;
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final Duration timeout;
+
+    private Deadline(long deadlineNanos, Duration timeout) {
+        this.deadlineNanos = deadlineNanos;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Cria um prazo a partir de agora.
+     *
+     * @param timeout Tempo total disponível
+     * @return Prazo
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), timeout);
+    }
+
+    /**
+     * @return Prazo da chamada em andamento na thread atual, ou null
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a chamada com um prazo. Sem prazo (null), executa diretamente,
+     * mantendo um prazo externo se houver.
+     *
+     * @param timeout Tempo total disponível, ou null
+     * @param call Chamada a executar
+     * @param <T> Tipo do resultado
+     * @return Resultado da chamada
+     */
+    public static <T> T call(Duration timeout, Supplier<T> call) {
+        if (timeout == null) {
+            return call.get();
+        }
+        Deadline previous = CURRENT.get();
+        Deadline deadline = after(timeout);
+        CURRENT.set(previous != null && previous.deadlineNanos - deadline.deadlineNanos < 0 ? previous : deadline);
+        try {
+            return call.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Executa uma chamada sem retorno com um prazo.
+     *
+     * @param timeout Tempo total disponível, ou null
+     * @param call Chamada a executar
+     * @see #call(Duration, Supplier)
+     */
+    public static void run(Duration timeout, Runnable call) {
+        call(timeout, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Intervalo fixo entre tentativas, encurtado pelo prazo da chamada:
+     * no máximo metade do tempo restante, deixando a outra metade para a
+     * tentativa seguinte.
+     *
+     * @param wait Intervalo sem prazo
+     * @param <T> Tipo do resultado do Retry
+     * @return Função de intervalo para o {@code RetryConfig}
+     */
+    public static <T> IntervalBiFunction<T> boundedInterval(Duration wait) {
+        long waitMillis = wait.toMillis();
+        return (attempt, result) -> {
+            Deadline deadline = CURRENT.get();
+            if (deadline == null) {
+                return waitMillis;
+            }
+            return Math.max(0, Math.min(waitMillis, deadline.remainingMillis() / 2));
+        };
+    }
+
+    /**
+     * @return Tempo restante em nanossegundos (negativo se esgotado)
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * @return Tempo restante em milissegundos (negativo se esgotado)
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    /**
+     * @return true se o prazo se esgotou
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * @return true se ainda há tempo para uma nova tentativa
+     */
+    boolean allowsAttempt() {
+        return remainingMillis() >= MIN_ATTEMPT_MILLIS;
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Exceção de prazo esgotado
+     */
+    public DeadlineExceededException exceeded(String clientName) {
+        return new DeadlineExceededException(
+            "Prazo de " + timeout.toMillis() + "ms esgotado na chamada ao cliente '" + clientName + "'");
+    }
+
+    /**
+     * Associa um prazo à thread atual, ao executar parte da chamada em
+     * outra thread.
+     *
+     * @param deadline Prazo da chamada, ou null
+     * @return Prazo anterior, a ser devolvido a {@link #restore(Deadline)}
+     */
+    static Deadline bind(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        restore(deadline);
+        return previous;
+    }
+
+    /**
+     * Restaura o prazo anterior a {@link #bind(Deadline)}.
+     *
+     * @param previous Prazo anterior, ou null
+     */
+    static void restore(Deadline previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
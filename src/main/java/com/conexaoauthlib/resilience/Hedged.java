@@ -0,0 +1,26 @@
+package com.conexaoauthlib.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método idempotente de Feign Client como elegível a requisições
+ * de hedge.
+ *
+ * <p>Quando o hedge está habilitado ({@code conexao-auth.resilience.hedging.enabled}),
+ * uma segunda requisição idêntica é enviada se a primeira não responder
+ * dentro do p95 de latência do método. A primeira resposta vence e a outra
+ * é cancelada. Use apenas em operações de leitura.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see RequestHedging
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Hedged {
+}
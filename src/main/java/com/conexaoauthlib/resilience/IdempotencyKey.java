@@ -0,0 +1,34 @@
+package com.conexaoauthlib.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método de criação ou alteração de Feign Client que deve enviar
+ * uma chave de idempotência.
+ *
+ * <p>A chave é gerada uma vez por chamada lógica e reaproveitada em todas
+ * as tentativas do Retry, de modo que o servidor reconhece a repetição e
+ * não cria o recurso duas vezes. Por isso os métodos anotados também são
+ * repetidos pelo Retry. Submissões idênticas simultâneas são atendidas
+ * pela primeira chamada, exceto com {@code deduplicate = false}, usado nas
+ * operações que devem sempre chegar ao servidor (por exemplo, a rotação de
+ * secret).</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see IdempotencyKeys
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface IdempotencyKey {
+
+    /**
+     * @return false para nunca unir chamadas nem reaproveitar resultados
+     */
+    boolean deduplicate() default true;
+}
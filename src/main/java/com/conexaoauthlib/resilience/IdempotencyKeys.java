@@ -0,0 +1,287 @@
+package com.conexaoauthlib.resilience;
+
+import com.conexaoauthlib.cache.ExpiringCache;
+import com.conexaoauthlib.concurrent.SingleFlight;
+import io.github.resilience4j.core.functions.CheckedFunction;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Chaves de idempotência e deduplicação das chamadas de criação.
+ *
+ * <p>Cada chamada lógica de um método anotado com {@link IdempotencyKey}
+ * recebe uma chave nova, enviada no header {@code Idempotency-Key} em todas
+ * as tentativas do Retry. Se a primeira tentativa foi processada pelo
+ * servidor e só a resposta se perdeu, a repetição é reconhecida em vez de
+ * resultar em {@code ConflictException}.</p>
+ *
+ * <p>Submissões idênticas (mesmo método e mesmos argumentos) feitas ao
+ * mesmo tempo são unidas no processo: enquanto uma está em andamento, as
+ * demais aguardam o mesmo resultado. Submissões posteriores são sempre
+ * enviadas, pois uma alteração repetida depois de outras (incluir, remover,
+ * incluir) precisa chegar ao servidor. Métodos com
+ * {@code @IdempotencyKey(deduplicate = false)} nunca são unidos.</p>
+ *
+ * <p>Com uma janela de deduplicação ({@code dedup-window}, desabilitada por
+ * padrão), o resultado de uma chamada com chave definida pelo chamador
+ * ({@link #call(String, Supplier)}) é reaproveitado pelas chamadas com a
+ * mesma chave e o mesmo método durante a janela. Argumentos iguais sem
+ * chave própria nunca reaproveitam um resultado concluído.</p>
+ *
+ * <h3>Exemplo de uso com chave própria:</h3>
+ * <pre>{@code
+ * UserResponseDTO user = IdempotencyKeys.call(requestId, () -> UserClient.register()
+ *     .name("João Silva")
+ *     .email("joao@empresa.com")
+ *     .password("Senha123!")
+ *     .tenantId("tenant-123")
+ *     .execute());
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see IdempotencyKey
+ */
+public class IdempotencyKeys {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private static volatile IdempotencyKeys defaultInstance;
+
+    private final ResilienceProperties.IdempotencyProperties properties;
+    private final SingleFlight<Submission, Object> inFlight = new SingleFlight<>();
+    private final ExpiringCache<Submission, Object> completed;
+    private final LongAdder generated = new LongAdder();
+
+    /**
+     * Construtor.
+     *
+     * @param properties Parâmetros de idempotência
+     */
+    public IdempotencyKeys(ResilienceProperties.IdempotencyProperties properties) {
+        this.properties = properties;
+        Duration window = properties.getDedupWindow();
+        this.completed = new ExpiringCache<>(
+            window != null && window.compareTo(Duration.ZERO) > 0 ? properties.getDedupMaxSize() : 0);
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com os valores padrão
+     * fora de um contexto Spring.
+     *
+     * @return IdempotencyKeys padrão
+     */
+    public static IdempotencyKeys getDefault() {
+        IdempotencyKeys instance = defaultInstance;
+        if (instance == null) {
+            synchronized (IdempotencyKeys.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new IdempotencyKeys(new ResilienceProperties.IdempotencyProperties());
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param idempotencyKeys Nova instância
+     */
+    public static void setDefault(IdempotencyKeys idempotencyKeys) {
+        IdempotencyKeys.defaultInstance = idempotencyKeys;
+    }
+
+    /**
+     * Executa a chamada usando uma chave de idempotência definida pelo
+     * chamador (por exemplo, recebida do cliente final). A chave substitui
+     * a comparação de argumentos: com a janela de deduplicação habilitada,
+     * chamadas com a mesma chave recebem o resultado da primeira.
+     *
+     * @param key Chave de idempotência
+     * @param call Chamada a executar
+     * @param <T> Tipo do resultado
+     * @return Resultado da chamada
+     */
+    public static <T> T call(String key, Supplier<T> call) {
+        String previous = CURRENT.get();
+        CURRENT.set(key);
+        try {
+            return call.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * @return Chave de idempotência da chamada em andamento na thread atual, ou null
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Envolve a cadeia de Retry de um método com a geração da chave e a
+     * deduplicação. Deve ficar fora do Retry para que todas as tentativas
+     * usem a mesma chave.
+     *
+     * @param method Método do Feign Client
+     * @param function Cadeia com Retry
+     * @return Função com chave de idempotência
+     */
+    public CheckedFunction<Object[], Object> decorateCheckedFunction(Method method,
+                                                                    CheckedFunction<Object[], Object> function) {
+        if (!properties.isEnabled()) {
+            return function;
+        }
+        IdempotencyKey annotation = method.getAnnotation(IdempotencyKey.class);
+        boolean deduplicate = annotation == null || annotation.deduplicate();
+        Duration window = properties.getDedupWindow();
+        boolean replay = deduplicate && window != null && window.compareTo(Duration.ZERO) > 0;
+        return args -> {
+            String callerKey = CURRENT.get();
+            if (callerKey != null) {
+                if (!replay) {
+                    return function.apply(args);
+                }
+                Submission submission = new Submission(method, callerKey, List.of());
+                return coalesce(submission, () -> {
+                    Object previous = completed.get(submission);
+                    if (previous != null) {
+                        return previous;
+                    }
+                    Object result = apply(function, args);
+                    if (result != null) {
+                        completed.put(submission, result, window);
+                    }
+                    return result;
+                });
+            }
+            if (!deduplicate) {
+                return applyWithKey(function, args);
+            }
+            Submission submission = new Submission(method, null, args == null ? List.of() : Arrays.asList(args));
+            return coalesce(submission, () -> applyWithKey(function, args));
+        };
+    }
+
+    private Object coalesce(Submission submission, Supplier<Object> call) throws Throwable {
+        try {
+            return inFlight.execute(submission, call);
+        } catch (SubmissionFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object applyWithKey(CheckedFunction<Object[], Object> function, Object[] args) {
+        generated.increment();
+        CURRENT.set(newKey());
+        try {
+            return apply(function, args);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    private static Object apply(CheckedFunction<Object[], Object> function, Object[] args) {
+        try {
+            return function.apply(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SubmissionFailure(t);
+        }
+    }
+
+    /**
+     * UUID versão 4 gerado com {@link ThreadLocalRandom}, sem a contenção
+     * do {@code SecureRandom} compartilhado de {@link UUID#randomUUID()}.
+     * A chave só precisa ser única, não imprevisível.
+     */
+    private static String newKey() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+        return new UUID(most, least).toString();
+    }
+
+    /**
+     * Define a chave da thread atual, devolvendo a anterior. Usado para
+     * levar a chave às threads do TimeLimiter.
+     *
+     * @param key Chave (null remove)
+     * @return Chave anterior
+     */
+    static String bind(String key) {
+        String previous = CURRENT.get();
+        restore(key);
+        return previous;
+    }
+
+    /**
+     * Restaura a chave devolvida por {@link #bind(String)}.
+     *
+     * @param previous Chave anterior
+     */
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return true se as chaves de idempotência estão habilitadas
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return Nome do header que transporta a chave
+     */
+    public String getHeaderName() {
+        return properties.getHeaderName();
+    }
+
+    /**
+     * @return Total de chaves geradas (uma por chamada lógica enviada ao servidor)
+     */
+    public long getGeneratedCount() {
+        return generated.sum();
+    }
+
+    /**
+     * @return Total de submissões duplicadas atendidas por outra chamada
+     */
+    public long getDeduplicatedCount() {
+        return inFlight.getCoalescedCount() + completed.getHitCount();
+    }
+
+    /**
+     * Método e chave do chamador, ou método e argumentos comparados por
+     * igualdade (os DTOs de requisição implementam {@code equals}).
+     */
+    private record Submission(Method method, String callerKey, List<Object> args) {
+    }
+
+    /**
+     * Transporta exceções verificadas pelo {@link SingleFlight}.
+     */
+    private static final class SubmissionFailure extends RuntimeException {
+
+        SubmissionFailure(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.conexaoauthlib.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método POST ou PATCH de Feign Client como idempotente, e
+ * portanto seguro para retry.
+ *
+ * <p>Métodos GET, PUT e DELETE já são considerados idempotentes. Os demais
+ * só são repetidos quando anotados ou quando a chamada é marcada como
+ * segura com {@link SafeRetry}.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see RetryBudgets
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Idempotent {
+}
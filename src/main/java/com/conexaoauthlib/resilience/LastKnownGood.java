@@ -0,0 +1,320 @@
+package com.conexaoauthlib.resilience;
+
+import com.conexaoauthlib.cache.ExpiringCache;
+import com.conexaoauthlib.dto.common.PageResponseDTO;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.BaseStream;
+
+/**
+ * Última resposta válida das leituras, servida como obsoleta enquanto o
+ * CircuitBreaker recusa chamadas (stale-while-revalidate).
+ *
+ * <p>Desabilitado por padrão. Quando habilitado, cada resposta bem-sucedida
+ * de uma leitura de entidade única ({@code @GetMapping} nomeado
+ * {@code get*}, como {@code getById} e {@code getByDocument}) é guardada por
+ * método e argumentos (incluindo o {@code X-Tenant-Id}) durante a janela de
+ * tolerância. Listagens, páginas e streams não são guardados. Quando o
+ * circuito recusa a chamada ({@link CallNotPermittedException}), a última
+ * resposta guardada é devolvida no lugar do {@code fallbackMethod}, marcada
+ * como obsoleta para a thread chamadora ({@link #isStale()}). Sem resposta
+ * guardada, ou com a janela esgotada, o {@code fallbackMethod} é executado
+ * como antes.</p>
+ *
+ * <p>As leituras servidas como obsoletas são revalidadas em segundo plano
+ * quando o CircuitBreaker passa a meio-aberto: cada uma é repetida pela
+ * cadeia de resiliência (servindo de chamada de teste) e atualiza a
+ * resposta guardada. A revalidação para na primeira recusa ou falha.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * TenantResponseDTO tenant = TenantClient.get("tenant-123").execute();
+ * if (LastKnownGood.isStale()) {
+ *     log.warn("Tenant servido do cache obsoleto, obtido em {}", LastKnownGood.staleSince());
+ * }
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ResilienceDecorators
+ */
+public class LastKnownGood {
+
+    /**
+     * Máximo de leituras aguardando revalidação por cliente.
+     */
+    static final int MAX_PENDING_REVALIDATIONS = 256;
+
+    private static final Logger LOGGER = Logger.getLogger(LastKnownGood.class.getName());
+
+    private static final ExecutorService REVALIDATION_EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("conexaoauth-revalidate-", 0).factory());
+
+    private static final ThreadLocal<Instant> STALE = new ThreadLocal<>();
+
+    private static volatile LastKnownGood defaultInstance;
+
+    private final ResilienceProperties.LastKnownGoodProperties properties;
+    private final ExpiringCache<Read, Snapshot> snapshots;
+    private final Map<String, Map<Read, Revalidation>> pending = new ConcurrentHashMap<>();
+    private final Set<String> subscribed = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> served = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> revalidated = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param properties Parâmetros da última resposta válida
+     */
+    public LastKnownGood(ResilienceProperties.LastKnownGoodProperties properties) {
+        this.properties = properties;
+        this.snapshots = new ExpiringCache<>(properties.isEnabled() ? properties.getMaximumSize() : 0);
+        ClientBulkheads.CLIENTS.forEach(this::counters);
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com os valores padrão
+     * fora de um contexto Spring.
+     *
+     * @return LastKnownGood padrão
+     */
+    public static LastKnownGood getDefault() {
+        LastKnownGood instance = defaultInstance;
+        if (instance == null) {
+            synchronized (LastKnownGood.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new LastKnownGood(new ResilienceProperties.LastKnownGoodProperties());
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param lastKnownGood Nova instância
+     */
+    public static void setDefault(LastKnownGood lastKnownGood) {
+        LastKnownGood.defaultInstance = lastKnownGood;
+    }
+
+    /**
+     * @return true se a última leitura feita pela thread atual foi servida
+     *         como obsoleta
+     */
+    public static boolean isStale() {
+        return STALE.get() != null;
+    }
+
+    /**
+     * @return Instante em que a resposta obsoleta servida à thread atual foi
+     *         obtida do servidor, ou null se a última leitura não foi obsoleta
+     */
+    public static Instant staleSince() {
+        return STALE.get();
+    }
+
+    /**
+     * Envolve a cadeia de um método de leitura com o registro e o
+     * fornecimento da última resposta válida. Deve ficar fora do Retry e
+     * dentro do {@code fallbackMethod}. Métodos que não são leituras de
+     * entidade única não são alterados.
+     *
+     * @param clientName Nome do cliente
+     * @param circuitBreaker CircuitBreaker do método
+     * @param method Método do Feign Client
+     * @param function Cadeia de resiliência do método
+     * @return Função com a última resposta válida
+     */
+    public CheckedFunction<Object[], Object> decorateCheckedFunction(String clientName, CircuitBreaker circuitBreaker,
+                                                                    Method method,
+                                                                    CheckedFunction<Object[], Object> function) {
+        if (!properties.isEnabled() || !isCacheableRead(method)) {
+            return function;
+        }
+        subscribe(circuitBreaker);
+        return args -> {
+            STALE.remove();
+            Read read = new Read(method, args == null ? List.of() : Arrays.asList(args));
+            try {
+                Object result = function.apply(args);
+                store(read, result);
+                return result;
+            } catch (CallNotPermittedException e) {
+                Snapshot snapshot = snapshots.get(read);
+                if (snapshot == null) {
+                    throw e;
+                }
+                STALE.set(snapshot.fetchedAt());
+                counters(clientName).served().increment();
+                schedule(circuitBreaker.getName(), new Revalidation(clientName, read, function, args));
+                return snapshot.value();
+            }
+        };
+    }
+
+    /**
+     * @return true se a última resposta válida está habilitada
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Total de leituras servidas como obsoletas
+     */
+    public long getServedCount(String clientName) {
+        LongAdder counter = served.get(clientName);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Total de leituras obsoletas revalidadas em segundo plano
+     */
+    public long getRevalidatedCount(String clientName) {
+        LongAdder counter = revalidated.get(clientName);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * @return Nomes dos clientes com contadores
+     */
+    public Set<String> getClients() {
+        return Set.copyOf(served.keySet());
+    }
+
+    /**
+     * @return Número de respostas guardadas
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Remove todas as respostas guardadas.
+     */
+    public void clear() {
+        snapshots.clear();
+        pending.clear();
+    }
+
+    /**
+     * Leituras de entidade única: {@code @GetMapping} nomeadas {@code get*}
+     * que não devolvem coleções, páginas, streams ou futuros.
+     */
+    private static boolean isCacheableRead(Method method) {
+        Class<?> returnType = method.getReturnType();
+        return method.isAnnotationPresent(GetMapping.class)
+            && method.getName().startsWith("get")
+            && returnType != void.class
+            && !returnType.isArray()
+            && !PageResponseDTO.class.isAssignableFrom(returnType)
+            && !Iterable.class.isAssignableFrom(returnType)
+            && !Map.class.isAssignableFrom(returnType)
+            && !BaseStream.class.isAssignableFrom(returnType)
+            && !Future.class.isAssignableFrom(returnType);
+    }
+
+    private void store(Read read, Object result) {
+        if (result != null) {
+            snapshots.put(read, new Snapshot(result, Instant.now()), properties.getGraceWindow());
+        }
+    }
+
+    private Counters counters(String clientName) {
+        return new Counters(
+            served.computeIfAbsent(clientName, name -> new LongAdder()),
+            revalidated.computeIfAbsent(clientName, name -> new LongAdder()));
+    }
+
+    private void schedule(String circuitBreakerName, Revalidation revalidation) {
+        Map<Read, Revalidation> reads = pending.computeIfAbsent(circuitBreakerName, name -> new ConcurrentHashMap<>());
+        if (reads.size() < MAX_PENDING_REVALIDATIONS) {
+            reads.putIfAbsent(revalidation.read(), revalidation);
+        }
+    }
+
+    /**
+     * Registra, uma vez por CircuitBreaker, a revalidação na passagem para
+     * meio-aberto e o descarte das pendências no fechamento.
+     */
+    private void subscribe(CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        if (!subscribed.add(name)) {
+            return;
+        }
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            switch (event.getStateTransition().getToState()) {
+                case HALF_OPEN -> REVALIDATION_EXECUTOR.execute(() -> revalidate(name));
+                case CLOSED -> {
+                    Map<Read, Revalidation> reads = pending.get(name);
+                    if (reads != null) {
+                        reads.clear();
+                    }
+                }
+                default -> {
+                }
+            }
+        });
+    }
+
+    private void revalidate(String circuitBreakerName) {
+        Map<Read, Revalidation> reads = pending.get(circuitBreakerName);
+        if (reads == null) {
+            return;
+        }
+        for (Revalidation revalidation : reads.values()) {
+            if (!reads.remove(revalidation.read(), revalidation)) {
+                continue;
+            }
+            try {
+                store(revalidation.read(), revalidation.function().apply(revalidation.args()));
+                counters(revalidation.clientName()).revalidated().increment();
+            } catch (Throwable t) {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine("Revalidation of " + revalidation.read().method().getName()
+                        + " on '" + circuitBreakerName + "' stopped: " + t);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Método e argumentos de uma leitura, comparados por igualdade
+     * (os DTOs de filtro implementam {@code equals}).
+     */
+    private record Read(Method method, List<Object> args) {
+    }
+
+    private record Snapshot(Object value, Instant fetchedAt) {
+    }
+
+    private record Revalidation(String clientName, Read read, CheckedFunction<Object[], Object> function,
+                                Object[] args) {
+    }
+
+    private record Counters(LongAdder served, LongAdder revalidated) {
+    }
+}
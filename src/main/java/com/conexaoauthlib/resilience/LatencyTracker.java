@@ -0,0 +1,102 @@
+package com.conexaoauthlib.resilience;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências com buckets exponenciais, para estimar percentis
+ * recentes sem armazenar as amostras.
+ *
+ * <p>Os buckets crescem 25% a partir de 100µs (até ~2 minutos). A cada
+ * {@value #DECAY_SAMPLES} amostras as contagens são divididas por dois,
+ * de modo que o percentil acompanha a latência recente.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ */
+public class LatencyTracker {
+
+    private static final int BUCKETS = 64;
+    private static final double FIRST_BUCKET_NANOS = 100_000;
+    private static final double LOG_GROWTH = Math.log(1.25);
+    private static final int DECAY_SAMPLES = 1000;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder samples = new LongAdder();
+    private final double percentile;
+    private final long minSamples;
+
+    private volatile long cachedNanos = -1;
+
+    /**
+     * Construtor.
+     *
+     * @param percentile Percentil estimado (0 a 1, ex.: 0.95)
+     * @param minSamples Amostras necessárias antes de estimar o percentil
+     */
+    public LatencyTracker(double percentile, long minSamples) {
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Registra uma amostra de latência.
+     *
+     * @param nanos Latência em nanossegundos
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucket(nanos));
+        samples.increment();
+        long total = samples.sum();
+        if (total % 100 == 0) {
+            if (total % DECAY_SAMPLES == 0) {
+                decay();
+            }
+            cachedNanos = total >= minSamples ? compute() : -1;
+        }
+    }
+
+    /**
+     * @return Latência do percentil em nanossegundos, ou -1 se ainda não há amostras suficientes
+     */
+    public long getPercentileNanos() {
+        return cachedNanos;
+    }
+
+    private long compute() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target && seen > 0) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    private void decay() {
+        for (int i = 0; i < BUCKETS; i++) {
+            long value;
+            do {
+                value = counts.get(i);
+            } while (!counts.compareAndSet(i, value, value / 2));
+        }
+    }
+
+    private static int bucket(long nanos) {
+        if (nanos <= FIRST_BUCKET_NANOS) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log(nanos / FIRST_BUCKET_NANOS) / LOG_GROWTH);
+        return Math.min(BUCKETS - 1, index);
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) (FIRST_BUCKET_NANOS * Math.exp(bucket * LOG_GROWTH));
+    }
+}
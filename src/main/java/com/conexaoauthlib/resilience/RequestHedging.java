@@ -0,0 +1,242 @@
+package com.conexaoauthlib.resilience;
+
+import io.github.resilience4j.core.functions.CheckedFunction;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requisições de hedge para os métodos idempotentes anotados com {@link Hedged}.
+ *
+ * <p>A primeira tentativa roda em uma virtual thread. Se não responder
+ * dentro do percentil configurado (p95) da latência do método, uma segunda
+ * requisição idêntica é enviada; a primeira resposta bem-sucedida vence e a
+ * outra tentativa é cancelada (interrompida). Se uma das tentativas falhar,
+ * aguarda-se a outra. Apenas as tentativas bem-sucedidas alimentam o
+ * percentil; falhas e tentativas canceladas não são medidas.</p>
+ *
+ * <p>Cada tentativa passa pelo Bulkhead separadamente, ocupando sua própria
+ * vaga, e recebe o {@link Deadline} e a chave de idempotência da thread
+ * chamadora.</p>
+ *
+ * <p>Os hedges de cada cliente são limitados por um orçamento: cada chamada
+ * elegível acumula {@code budget-percent}% de um hedge (até 10 hedges
+ * acumulados), e cada hedge enviado consome um. Assim a carga extra nunca
+ * passa do percentual configurado.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see Hedged
+ * @see ResilienceDecorators
+ */
+public class RequestHedging {
+
+    /**
+     * Unidade do orçamento: 1 hedge = 1000 milésimos.
+     */
+    private static final long HEDGE_COST = 1000;
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("conexaoauth-hedge-", 0).factory());
+
+    private static volatile RequestHedging defaultInstance;
+
+    private final ResilienceProperties.HedgingProperties properties;
+    private final long depositPerCall;
+    private final long minDelayNanos;
+    private final Map<String, AtomicLong> budgets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> hedged = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> wins = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param properties Parâmetros de hedge
+     */
+    public RequestHedging(ResilienceProperties.HedgingProperties properties) {
+        this.properties = properties;
+        this.depositPerCall = Math.round(properties.getBudgetPercent() / 100 * HEDGE_COST);
+        this.minDelayNanos = properties.getMinDelay().toNanos();
+        ClientBulkheads.CLIENTS.forEach(this::counters);
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com os valores padrão
+     * (hedge desabilitado) fora de um contexto Spring.
+     *
+     * @return RequestHedging padrão
+     */
+    public static RequestHedging getDefault() {
+        RequestHedging instance = defaultInstance;
+        if (instance == null) {
+            synchronized (RequestHedging.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new RequestHedging(new ResilienceProperties.HedgingProperties());
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param requestHedging Nova instância
+     */
+    public static void setDefault(RequestHedging requestHedging) {
+        RequestHedging.defaultInstance = requestHedging;
+    }
+
+    /**
+     * Envolve uma função com hedge. Retorna a própria função se o hedge
+     * estiver desabilitado.
+     *
+     * @param clientName Nome do cliente (orçamento e métricas)
+     * @param function Função idempotente a proteger
+     * @param <T> Tipo do argumento
+     * @return Função com hedge
+     */
+    public <T> CheckedFunction<T, Object> decorateCheckedFunction(String clientName,
+                                                                 CheckedFunction<T, Object> function) {
+        if (!properties.isEnabled() || depositPerCall <= 0) {
+            return function;
+        }
+        LatencyTracker tracker = new LatencyTracker(properties.getPercentile(), properties.getMinSamples());
+        AtomicLong budget = budgets.computeIfAbsent(clientName, name -> new AtomicLong());
+        counters(clientName);
+        LongAdder hedgedCounter = hedged.get(clientName);
+        LongAdder winCounter = wins.get(clientName);
+        return argument -> execute(function, argument, tracker, budget, hedgedCounter, winCounter);
+    }
+
+    private <T> Object execute(CheckedFunction<T, Object> function, T argument, LatencyTracker tracker,
+                               AtomicLong budget, LongAdder hedgedCounter, LongAdder winCounter) throws Throwable {
+        deposit(budget);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        Deadline deadline = Deadline.current();
+        String idempotencyKey = IdempotencyKeys.current();
+        Future<?> primary = EXECUTOR.submit(
+            attempt(function, argument, tracker, result, pending, null, deadline, idempotencyKey));
+        Future<?> hedge = null;
+        try {
+            long percentileNanos = tracker.getPercentileNanos();
+            if (percentileNanos >= 0) {
+                try {
+                    return result.get(Math.max(percentileNanos, minDelayNanos), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (!result.isDone() && withdraw(budget)) {
+                        pending.incrementAndGet();
+                        hedgedCounter.increment();
+                        hedge = EXECUTOR.submit(attempt(function, argument, tracker, result, pending,
+                            winCounter, deadline, idempotencyKey));
+                    }
+                }
+            }
+            return result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private static <T> Runnable attempt(CheckedFunction<T, Object> function, T argument, LatencyTracker tracker,
+                                        CompletableFuture<Object> result, AtomicInteger pending,
+                                        LongAdder winCounter, Deadline deadline, String idempotencyKey) {
+        return () -> {
+            Deadline previousDeadline = Deadline.bind(deadline);
+            String previousKey = IdempotencyKeys.bind(idempotencyKey);
+            long start = System.nanoTime();
+            try {
+                Object value = function.apply(argument);
+                tracker.record(System.nanoTime() - start);
+                if (result.complete(value) && winCounter != null) {
+                    winCounter.increment();
+                }
+            } catch (Throwable t) {
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(t);
+                }
+            } finally {
+                IdempotencyKeys.restore(previousKey);
+                Deadline.restore(previousDeadline);
+            }
+        };
+    }
+
+    private void deposit(AtomicLong budget) {
+        long current;
+        do {
+            current = budget.get();
+            if (current >= MAX_BUDGET) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(MAX_BUDGET, current + depositPerCall)));
+    }
+
+    private static boolean withdraw(AtomicLong budget) {
+        long current;
+        do {
+            current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+
+    private void counters(String clientName) {
+        hedged.computeIfAbsent(clientName, name -> new LongAdder());
+        wins.computeIfAbsent(clientName, name -> new LongAdder());
+    }
+
+    /**
+     * @return true se o hedge está habilitado
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Total de requisições de hedge enviadas
+     */
+    public long getHedgedCount(String clientName) {
+        LongAdder counter = hedged.get(clientName);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Total de hedges que responderam antes da tentativa original
+     */
+    public long getHedgeWinCount(String clientName) {
+        LongAdder counter = wins.get(clientName);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * @return Nomes dos clientes com contadores de hedge
+     */
+    public Set<String> getClients() {
+        return Set.copyOf(hedged.keySet());
+    }
+}
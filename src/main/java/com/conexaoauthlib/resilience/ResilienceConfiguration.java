@@ -1,21 +1,42 @@
 package com.conexaoauthlib.resilience;
 
+import com.conexaoauthlib.exception.ConcurrencyLimitExceededException;
+import com.conexaoauthlib.exception.ConflictException;
+import com.conexaoauthlib.exception.DeadlineExceededException;
+import com.conexaoauthlib.exception.InvalidClientException;
+import com.conexaoauthlib.exception.InvalidGrantException;
+import com.conexaoauthlib.exception.InvalidOperationException;
+import com.conexaoauthlib.exception.ResourceNotFoundException;
+import com.conexaoauthlib.exception.ServerException;
+import com.conexaoauthlib.exception.UnauthorizedException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Configuração centralizada de resiliência.
- * Configura CircuitBreaker e Retry para cada cliente da biblioteca.
+ * Configura CircuitBreaker, Retry, Bulkhead e TimeLimiter para cada cliente da biblioteca.
+ *
+ * <p>Os registries são criados uma única vez e compartilhados, via
+ * {@link ResilienceDecorators}, pelas cadeias de resiliência dos Feign Clients.</p>
  *
  * <h3>Configurações por cliente:</h3>
  * <ul>
@@ -27,6 +48,24 @@ import java.util.Map;
  *   <li>scope - Retry conservador (2 tentativas)</li>
  * </ul>
  *
+ * <p>Todos os clientes contam como falha no CircuitBreaker, e repetem no
+ * Retry, apenas erros de rede, timeouts e respostas 5xx
+ * ({@link ServerException}). Erros de negócio (404, 401, 409, 400,
+ * {@code invalid_grant}) e chamadas rejeitadas pelo limite adaptativo de
+ * concorrência ({@link ConcurrencyLimitExceededException}) não contam como
+ * falha nem são repetidos. Retries só ocorrem em métodos idempotentes e
+ * enquanto houver saldo em {@link RetryBudgets}.</p>
+ *
+ * <h3>Bulkheads por cliente:</h3>
+ * <ul>
+ *   <li>oauth2 - 10 chamadas simultâneas; thread pool de 10 threads (5 fixas)</li>
+ *   <li>demais clientes - 20 chamadas simultâneas; thread pool de 20 threads
+ *       (10 fixas)</li>
+ * </ul>
+ *
+ * <p>Os thread pools têm fila de 100 chamadas. Os limites dos Bulkheads
+ * são definidos aqui, e não em {@code resilience4j.yml}.</p>
+ *
  * @author ConexãoAuthLib Team
  * @version 1.0.0
  */
@@ -78,54 +117,303 @@ public class ResilienceConfiguration {
     }
 
     /**
-     * Cria e retorna um CircuitBreaker para o cliente especificado.
+     * Registry de Bulkheads (semáforo) configurado.
+     * Limita as chamadas síncronas simultâneas de cada cliente.
+     */
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        Map<String, BulkheadConfig> configs = new HashMap<>();
+
+        // Configuração padrão (usada como fallback)
+        configs.put("default", createBulkheadConfig(20));
+
+        // Configurações específicas por cliente
+        configs.put("oauth2", createBulkheadConfig(10));
+        configs.put("tenant", createBulkheadConfig(20));
+        configs.put("client", createBulkheadConfig(20));
+        configs.put("user", createBulkheadConfig(20));
+        configs.put("role", createBulkheadConfig(20));
+        configs.put("scope", createBulkheadConfig(20));
+
+        return BulkheadRegistry.of(configs);
+    }
+
+    /**
+     * Registry de Bulkheads de thread pool configurado.
+     * Limita as chamadas assíncronas de cada cliente a um pool dedicado.
+     */
+    @Bean
+    public ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry() {
+        Map<String, ThreadPoolBulkheadConfig> configs = new HashMap<>();
+
+        // Configuração padrão (usada como fallback)
+        configs.put("default", createThreadPoolBulkheadConfig(20));
+
+        // Configurações específicas por cliente
+        configs.put("oauth2", createThreadPoolBulkheadConfig(10));
+        configs.put("tenant", createThreadPoolBulkheadConfig(20));
+        configs.put("client", createThreadPoolBulkheadConfig(20));
+        configs.put("user", createThreadPoolBulkheadConfig(20));
+        configs.put("role", createThreadPoolBulkheadConfig(20));
+        configs.put("scope", createThreadPoolBulkheadConfig(20));
+
+        return ThreadPoolBulkheadRegistry.of(configs);
+    }
+
+    /**
+     * Bulkheads aplicados aos Feign Clients da API fluente.
+     *
+     * @param bulkheadRegistry Registry de Bulkheads (semáforo)
+     * @param threadPoolBulkheadRegistry Registry de Bulkheads de thread pool
+     * @return ClientBulkheads registrado como instância compartilhada
+     */
+    @Bean
+    public ClientBulkheads clientBulkheads(BulkheadRegistry bulkheadRegistry,
+                                           ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry) {
+        ClientBulkheads clientBulkheads = new ClientBulkheads(bulkheadRegistry, threadPoolBulkheadRegistry);
+        ClientBulkheads.setDefault(clientBulkheads);
+        return clientBulkheads;
+    }
+
+    /**
+     * Registry de TimeLimiters configurado.
+     * Contém apenas os clientes listados em {@code conexao-auth.resilience.time-limiter}.
+     *
+     * @param properties Propriedades de resiliência
+     */
+    @Bean
+    public TimeLimiterRegistry timeLimiterRegistry(ResilienceProperties properties) {
+        Map<String, TimeLimiterConfig> configs = new HashMap<>();
+
+        // Configuração padrão (usada como fallback)
+        configs.put("default", TimeLimiterConfig.ofDefaults());
+
+        // Configurações específicas por cliente
+        properties.getTimeLimiter().forEach((clientName, timeout) ->
+            configs.put(clientName, TimeLimiterConfig.custom()
+                .timeoutDuration(timeout)
+                .cancelRunningFuture(true)
+                .build()));
+
+        return TimeLimiterRegistry.of(configs);
+    }
+
+    /**
+     * Limites adaptativos de concorrência por cliente.
+     *
+     * @param properties Propriedades de resiliência
+     * @return AdaptiveConcurrencyLimits registrado como instância compartilhada
+     */
+    @Bean
+    public AdaptiveConcurrencyLimits adaptiveConcurrencyLimits(ResilienceProperties properties) {
+        AdaptiveConcurrencyLimits adaptiveConcurrencyLimits =
+            new AdaptiveConcurrencyLimits(properties.getAdaptiveLimit());
+        AdaptiveConcurrencyLimits.setDefault(adaptiveConcurrencyLimits);
+        return adaptiveConcurrencyLimits;
+    }
+
+    /**
+     * Orçamentos de retry por cliente e global.
+     *
+     * @param properties Propriedades de resiliência
+     * @return RetryBudgets registrado como instância compartilhada
+     */
+    @Bean
+    public RetryBudgets retryBudgets(ResilienceProperties properties) {
+        RetryBudgets retryBudgets = new RetryBudgets(properties.getRetryBudget());
+        RetryBudgets.setDefault(retryBudgets);
+        return retryBudgets;
+    }
+
+    /**
+     * Chaves de idempotência dos métodos de criação.
+     *
+     * @param properties Propriedades de resiliência
+     * @return IdempotencyKeys registrado como instância compartilhada
+     */
+    @Bean
+    public IdempotencyKeys idempotencyKeys(ResilienceProperties properties) {
+        IdempotencyKeys idempotencyKeys = new IdempotencyKeys(properties.getIdempotency());
+        IdempotencyKeys.setDefault(idempotencyKeys);
+        return idempotencyKeys;
+    }
+
+    /**
+     * Última resposta válida das leituras, servida com o circuito aberto.
+     *
+     * @param properties Propriedades de resiliência
+     * @return LastKnownGood registrado como instância compartilhada
+     */
+    @Bean
+    public LastKnownGood lastKnownGood(ResilienceProperties properties) {
+        LastKnownGood lastKnownGood = new LastKnownGood(properties.getLastKnownGood());
+        LastKnownGood.setDefault(lastKnownGood);
+        return lastKnownGood;
+    }
+
+    /**
+     * Requisições de hedge dos métodos de leitura anotados com {@link Hedged}.
+     *
+     * @param properties Propriedades de resiliência
+     * @return RequestHedging registrado como instância compartilhada
+     */
+    @Bean
+    public RequestHedging requestHedging(ResilienceProperties properties) {
+        RequestHedging requestHedging = new RequestHedging(properties.getHedging());
+        RequestHedging.setDefault(requestHedging);
+        return requestHedging;
+    }
+
+    /**
+     * Cadeias de resiliência aplicadas aos Feign Clients da API fluente.
+     *
+     * @param circuitBreakerRegistry Registry de CircuitBreakers
+     * @param retryRegistry Registry de Retries
+     * @param timeLimiterRegistry Registry de TimeLimiters
+     * @param clientBulkheads Bulkheads dos clientes
+     * @param adaptiveConcurrencyLimits Limites adaptativos de concorrência
+     * @param requestHedging Requisições de hedge
+     * @param retryBudgets Orçamentos de retry
+     * @param idempotencyKeys Chaves de idempotência
+     * @param lastKnownGood Última resposta válida das leituras
+     * @return ResilienceDecorators registrado como instância compartilhada
+     */
+    @Bean
+    public ResilienceDecorators resilienceDecorators(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                     RetryRegistry retryRegistry,
+                                                     TimeLimiterRegistry timeLimiterRegistry,
+                                                     ClientBulkheads clientBulkheads,
+                                                     AdaptiveConcurrencyLimits adaptiveConcurrencyLimits,
+                                                     RequestHedging requestHedging,
+                                                     RetryBudgets retryBudgets,
+                                                     IdempotencyKeys idempotencyKeys,
+                                                     LastKnownGood lastKnownGood) {
+        ResilienceDecorators resilienceDecorators = new ResilienceDecorators(
+            circuitBreakerRegistry, retryRegistry, timeLimiterRegistry, clientBulkheads,
+            adaptiveConcurrencyLimits, requestHedging, retryBudgets, idempotencyKeys, lastKnownGood);
+        ResilienceDecorators.setDefault(resilienceDecorators);
+        return resilienceDecorators;
+    }
+
+    /**
+     * Retorna o CircuitBreaker do cliente especificado, a partir do registry compartilhado.
      *
      * @param clientName Nome do cliente
      * @return CircuitBreaker configurado
      */
     public CircuitBreaker getCircuitBreaker(String clientName) {
-        return circuitBreakerRegistry().circuitBreaker(clientName);
+        return ResilienceDecorators.getDefault().getCircuitBreakerRegistry().circuitBreaker(clientName);
     }
 
     /**
-     * Cria e retorna um Retry para o cliente especificado.
+     * Retorna o Retry do cliente especificado, a partir do registry compartilhado.
      *
      * @param clientName Nome do cliente
      * @return Retry configurado
      */
     public Retry getRetry(String clientName) {
-        return retryRegistry().retry(clientName);
+        return ResilienceDecorators.getDefault().getRetryRegistry().retry(clientName);
+    }
+
+    // ==================== Exception Classification ====================
+
+    /**
+     * CircuitBreaker que conta como falha apenas erros de rede, timeouts e
+     * respostas 5xx. Erros de negócio (4xx), rejeições do limite adaptativo
+     * e prazos esgotados do chamador não contam como falha nem como sucesso.
+     */
+    private static CircuitBreakerConfig.Builder circuitBreakerConfig() {
+        return CircuitBreakerConfig.custom()
+            .recordExceptions(
+                IOException.class,
+                TimeoutException.class,
+                RetryableException.class,
+                ServerException.class
+            )
+            .ignoreExceptions(
+                ConcurrencyLimitExceededException.class,
+                DeadlineExceededException.class,
+                ResourceNotFoundException.class,
+                UnauthorizedException.class,
+                InvalidGrantException.class,
+                InvalidClientException.class,
+                ConflictException.class,
+                InvalidOperationException.class
+            );
+    }
+
+    /**
+     * Retry que repete apenas erros de rede, timeouts e respostas 5xx.
+     * Erros de negócio (4xx) são devolvidos na primeira tentativa.
+     */
+    private static RetryConfig.Builder<Object> retryConfig() {
+        return RetryConfig.custom()
+            .retryExceptions(
+                IOException.class,
+                TimeoutException.class,
+                RetryableException.class,
+                ServerException.class
+            )
+            .ignoreExceptions(
+                ConcurrencyLimitExceededException.class,
+                DeadlineExceededException.class,
+                RetryBudgets.RetryDeniedException.class,
+                ResourceNotFoundException.class,
+                UnauthorizedException.class,
+                InvalidGrantException.class,
+                InvalidClientException.class,
+                ConflictException.class,
+                InvalidOperationException.class
+            );
     }
 
     // ==================== Default Configurations ====================
 
     private CircuitBreakerConfig createDefaultCircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(5)
             .permittedNumberOfCallsInHalfOpenState(3)
             .automaticTransitionFromOpenToHalfOpenEnabled(true)
             .waitDurationInOpenState(Duration.ofSeconds(60))
             .failureRateThreshold(50)
-            .recordExceptions(
-                java.io.IOException.class,
-                java.util.concurrent.TimeoutException.class,
-                feign.RetryableException.class
-            )
             .build();
     }
 
     private RetryConfig createDefaultRetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(3)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
+            .build();
+    }
+
+    // ==================== Bulkhead Configuration ====================
+
+    /**
+     * Bulkhead de semáforo com o limite informado e espera máxima de 500ms.
+     */
+    static BulkheadConfig createBulkheadConfig(int maxConcurrentCalls) {
+        return BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ofMillis(500))
+            .build();
+    }
+
+    /**
+     * Bulkhead de thread pool com até {@code maxThreads} threads e fila de 100 chamadas.
+     */
+    static ThreadPoolBulkheadConfig createThreadPoolBulkheadConfig(int maxThreads) {
+        return ThreadPoolBulkheadConfig.custom()
+            .maxThreadPoolSize(maxThreads)
+            .coreThreadPoolSize(Math.max(1, maxThreads / 2))
+            .queueCapacity(100)
             .build();
     }
 
     // ==================== OAuth2 Configuration ====================
 
     private CircuitBreakerConfig createOAuth2CircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(3)
             .permittedNumberOfCallsInHalfOpenState(3)
@@ -136,16 +424,16 @@ public class ResilienceConfiguration {
     }
 
     private RetryConfig createOAuth2RetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(3)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
             .build();
     }
 
     // ==================== Tenant Configuration ====================
 
     private CircuitBreakerConfig createTenantCircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(5)
             .permittedNumberOfCallsInHalfOpenState(3)
@@ -156,16 +444,16 @@ public class ResilienceConfiguration {
     }
 
     private RetryConfig createTenantRetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(3)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
             .build();
     }
 
     // ==================== Client Configuration ====================
 
     private CircuitBreakerConfig createClientCircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(5)
             .permittedNumberOfCallsInHalfOpenState(3)
@@ -176,16 +464,16 @@ public class ResilienceConfiguration {
     }
 
     private RetryConfig createClientRetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(3)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
             .build();
     }
 
     // ==================== User Configuration ====================
 
     private CircuitBreakerConfig createUserCircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(5)
             .permittedNumberOfCallsInHalfOpenState(3)
@@ -196,16 +484,16 @@ public class ResilienceConfiguration {
     }
 
     private RetryConfig createUserRetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(3)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
             .build();
     }
 
     // ==================== Role Configuration ====================
 
     private CircuitBreakerConfig createRoleCircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(5)
             .permittedNumberOfCallsInHalfOpenState(3)
@@ -216,16 +504,16 @@ public class ResilienceConfiguration {
     }
 
     private RetryConfig createRoleRetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(2)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
             .build();
     }
 
     // ==================== Scope Configuration ====================
 
     private CircuitBreakerConfig createScopeCircuitBreakerConfig() {
-        return CircuitBreakerConfig.custom()
+        return circuitBreakerConfig()
             .slidingWindowSize(10)
             .minimumNumberOfCalls(5)
             .permittedNumberOfCallsInHalfOpenState(3)
@@ -236,9 +524,9 @@ public class ResilienceConfiguration {
     }
 
     private RetryConfig createScopeRetryConfig() {
-        return RetryConfig.custom()
+        return retryConfig()
             .maxAttempts(2)
-            .waitDuration(Duration.ofMillis(500))
+            .intervalBiFunction(Deadline.boundedInterval(Duration.ofMillis(500)))
             .build();
     }
 }
@@ -0,0 +1,415 @@
+package com.conexaoauthlib.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cadeias de resiliência pré-compiladas para os Feign Clients da API fluente.
+ *
+ * <p>As anotações {@code @CircuitBreaker}, {@code @Retry} e {@code @Bulkhead}
+ * das interfaces Feign dependeriam do Spring AOP interceptar o proxy Feign, o
+ * que não acontece com os clientes criados pelo {@code FeignClientBuilder}.
+ * Esta classe lê as anotações uma única vez, na criação do cliente, e monta
+ * para cada método a cadeia Retry → CircuitBreaker → TimeLimiter → Bulkhead
+ * (a mesma ordem dos aspectos do Resilience4j) com instâncias obtidas dos
+ * registries compartilhados, seguida do limite adaptativo de concorrência do
+ * cliente, que mede cada tentativa. O hedge (métodos {@link Hedged}) fica
+ * entre o TimeLimiter e o Bulkhead, de modo que a requisição original e o
+ * hedge ocupam cada um a sua vaga no Bulkhead.
+ * Cada chamada apenas percorre a cadeia já pronta.</p>
+ *
+ * <p>O Retry só repete métodos idempotentes (ou chamadas marcadas com
+ * {@link SafeRetry}) e consome o orçamento de {@link RetryBudgets}. Nos
+ * métodos anotados com {@link IdempotencyKey}, a chave de idempotência é
+ * gerada fora do Retry e reaproveitada em todas as tentativas. Com um
+ * {@link Deadline} definido, cada tentativa é limitada ao tempo restante.</p>
+ *
+ * <p>Quando o circuito recusa a chamada ({@link CallNotPermittedException}),
+ * as leituras devolvem a última resposta válida, marcada como obsoleta
+ * ({@link LastKnownGood}); sem ela, é executado o {@code fallbackMethod}
+ * do {@code @CircuitBreaker}. Demais exceções chegam ao chamador sem
+ * alteração. O TimeLimiter só é
+ * aplicado aos clientes configurados em
+ * {@code conexao-auth.resilience.time-limiter}.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * UserClient client = ResilienceDecorators.getDefault()
+ *     .decorate(UserClient.class, feignClient, "user");
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ResilienceConfiguration
+ * @see ClientBulkheads
+ */
+public class ResilienceDecorators {
+
+    private static final ExecutorService TIME_LIMITER_EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("conexaoauth-timelimiter-", 0).factory());
+
+    private static volatile ResilienceDecorators defaultInstance;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final ClientBulkheads clientBulkheads;
+    private final AdaptiveConcurrencyLimits adaptiveConcurrencyLimits;
+    private final RequestHedging requestHedging;
+    private final RetryBudgets retryBudgets;
+    private final IdempotencyKeys idempotencyKeys;
+    private final LastKnownGood lastKnownGood;
+
+    /**
+     * Construtor.
+     *
+     * @param circuitBreakerRegistry Registry de CircuitBreakers
+     * @param retryRegistry Registry de Retries
+     * @param timeLimiterRegistry Registry de TimeLimiters
+     * @param clientBulkheads Bulkheads dos clientes
+     * @param adaptiveConcurrencyLimits Limites adaptativos de concorrência
+     * @param requestHedging Requisições de hedge
+     * @param retryBudgets Orçamentos de retry
+     * @param idempotencyKeys Chaves de idempotência
+     * @param lastKnownGood Última resposta válida das leituras
+     */
+    public ResilienceDecorators(CircuitBreakerRegistry circuitBreakerRegistry,
+                                RetryRegistry retryRegistry,
+                                TimeLimiterRegistry timeLimiterRegistry,
+                                ClientBulkheads clientBulkheads,
+                                AdaptiveConcurrencyLimits adaptiveConcurrencyLimits,
+                                RequestHedging requestHedging,
+                                RetryBudgets retryBudgets,
+                                IdempotencyKeys idempotencyKeys,
+                                LastKnownGood lastKnownGood) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.clientBulkheads = clientBulkheads;
+        this.adaptiveConcurrencyLimits = adaptiveConcurrencyLimits;
+        this.requestHedging = requestHedging;
+        this.retryBudgets = retryBudgets;
+        this.idempotencyKeys = idempotencyKeys;
+        this.lastKnownGood = lastKnownGood;
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com a configuração
+     * padrão de {@link ResilienceConfiguration} fora de um contexto Spring.
+     *
+     * @return ResilienceDecorators padrão
+     */
+    public static ResilienceDecorators getDefault() {
+        ResilienceDecorators instance = defaultInstance;
+        if (instance == null) {
+            synchronized (ResilienceDecorators.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    ResilienceConfiguration configuration = new ResilienceConfiguration();
+                    instance = new ResilienceDecorators(
+                        configuration.circuitBreakerRegistry(),
+                        configuration.retryRegistry(),
+                        configuration.timeLimiterRegistry(new ResilienceProperties()),
+                        ClientBulkheads.getDefault(),
+                        AdaptiveConcurrencyLimits.getDefault(),
+                        RequestHedging.getDefault(),
+                        RetryBudgets.getDefault(),
+                        IdempotencyKeys.getDefault(),
+                        LastKnownGood.getDefault()
+                    );
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param resilienceDecorators Nova instância
+     */
+    public static void setDefault(ResilienceDecorators resilienceDecorators) {
+        ResilienceDecorators.defaultInstance = resilienceDecorators;
+    }
+
+    /**
+     * @return Registry de CircuitBreakers compartilhado
+     */
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        return circuitBreakerRegistry;
+    }
+
+    /**
+     * @return Registry de Retries compartilhado
+     */
+    public RetryRegistry getRetryRegistry() {
+        return retryRegistry;
+    }
+
+    /**
+     * CircuitBreaker de um cliente, o mesmo usado pelas cadeias dos Feign
+     * Clients (por exemplo, para proteger as requisições da API reativa).
+     *
+     * @param clientName Nome do cliente
+     * @return CircuitBreaker compartilhado
+     */
+    public io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker(String clientName) {
+        return circuitBreakerRegistry.circuitBreaker(
+            clientName, configName(clientName, circuitBreakerRegistry.getConfiguration(clientName).isPresent()));
+    }
+
+    /**
+     * Chamadas simultâneas permitidas a uma leitura em lote do cliente,
+     * como {@code list().parallel(n)}. Com o CircuitBreaker fechado, o
+     * paralelismo pedido é limitado ao máximo do Bulkhead; aberto ou
+     * meio-aberto, uma chamada por vez, que falha rápido ou serve de teste.
+     *
+     * @param clientName Nome do cliente
+     * @param requested Paralelismo pedido
+     * @return Paralelismo efetivo (mínimo 1)
+     */
+    public int parallelism(String clientName, int requested) {
+        io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker = circuitBreaker(clientName);
+        if (circuitBreaker.getState() != io.github.resilience4j.circuitbreaker.CircuitBreaker.State.CLOSED) {
+            return 1;
+        }
+        int bulkheadLimit = clientBulkheads.bulkhead(clientName).getBulkheadConfig().getMaxConcurrentCalls();
+        return Math.max(1, Math.min(requested, bulkheadLimit));
+    }
+
+    /**
+     * Envolve um Feign Client com as cadeias de resiliência de cada método.
+     * As cadeias são montadas nesta chamada; métodos default (fallbacks)
+     * e métodos de Object são repassados diretamente ao Feign Client.
+     *
+     * @param type Interface do Feign Client
+     * @param target Instância criada pelo Feign
+     * @param clientName Nome do cliente, usado quando o método não tem anotação
+     * @param <T> Tipo do Feign Client
+     * @return Proxy com CircuitBreaker, Retry, TimeLimiter e Bulkhead
+     */
+    public <T> T decorate(Class<T> type, T target, String clientName) {
+        Map<Method, CheckedFunction<Object[], Object>> chains = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            MethodHandle handle = bind(method, target);
+            chains.put(method, method.isDefault()
+                ? args -> (Object) handle.invokeExact(args)
+                : buildChain(type, target, method, handle, clientName));
+        }
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            CheckedFunction<Object[], Object> chain = chains.get(method);
+            if (chain == null) {
+                return invokeObjectMethod(target, method, args);
+            }
+            return chain.apply(args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private CheckedFunction<Object[], Object> buildChain(Class<?> type, Object target, Method method,
+                                                         MethodHandle handle, String clientName) {
+        CheckedFunction<Object[], Object> chain = args -> (Object) handle.invokeExact(args);
+
+        if (adaptiveConcurrencyLimits.isEnabled()) {
+            chain = AdaptiveConcurrencyLimiter.decorateCheckedFunction(
+                adaptiveConcurrencyLimits.limiter(clientName), chain);
+        }
+
+        Bulkhead bulkheadAnnotation = method.getAnnotation(Bulkhead.class);
+        String bulkheadName = bulkheadAnnotation != null ? bulkheadAnnotation.name() : clientName;
+        CheckedFunction<Object[], Object> bulkheadChain = io.github.resilience4j.bulkhead.Bulkhead
+            .decorateCheckedFunction(clientBulkheads.bulkhead(bulkheadName), chain);
+        chain = args -> {
+            try {
+                return bulkheadChain.apply(args);
+            } catch (BulkheadFullException e) {
+                clientBulkheads.recordRejected(bulkheadName);
+                throw e;
+            }
+        };
+
+        if (method.isAnnotationPresent(Hedged.class)) {
+            chain = requestHedging.decorateCheckedFunction(clientName, chain);
+        }
+
+        if (timeLimiterRegistry.getConfiguration(clientName).isPresent()) {
+            chain = decorateTimeLimiter(timeLimiterRegistry.timeLimiter(clientName, clientName), chain);
+        }
+
+        CircuitBreaker circuitBreakerAnnotation = method.getAnnotation(CircuitBreaker.class);
+        String circuitBreakerName = circuitBreakerAnnotation != null ? circuitBreakerAnnotation.name() : clientName;
+        io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(
+            circuitBreakerName, configName(circuitBreakerName,
+                circuitBreakerRegistry.getConfiguration(circuitBreakerName).isPresent()));
+        chain = io.github.resilience4j.circuitbreaker.CircuitBreaker.decorateCheckedFunction(circuitBreaker, chain);
+
+        chain = decorateDeadline(clientName, chain);
+
+        Retry retryAnnotation = method.getAnnotation(Retry.class);
+        String retryName = retryAnnotation != null ? retryAnnotation.name() : clientName;
+        chain = retryBudgets.decorateCheckedFunction(
+            retryRegistry.retry(retryName, configName(retryName, retryRegistry.getConfiguration(retryName).isPresent())),
+            clientName, isIdempotent(method), chain);
+
+        if (method.isAnnotationPresent(IdempotencyKey.class)) {
+            chain = idempotencyKeys.decorateCheckedFunction(method, chain);
+        }
+
+        chain = lastKnownGood.decorateCheckedFunction(clientName, circuitBreaker, method, chain);
+
+        MethodHandle fallback = circuitBreakerAnnotation != null
+            ? findFallback(type, target, method, circuitBreakerAnnotation.fallbackMethod())
+            : null;
+        if (fallback == null) {
+            return chain;
+        }
+        MethodHandle boundFallback = fallback;
+        CheckedFunction<Object[], Object> decorated = chain;
+        return args -> {
+            try {
+                return decorated.apply(args);
+            } catch (CallNotPermittedException e) {
+                Object[] fallbackArgs = args == null ? new Object[1] : Arrays.copyOf(args, args.length + 1);
+                fallbackArgs[fallbackArgs.length - 1] = e;
+                return (Object) boundFallback.invokeExact(fallbackArgs);
+            }
+        };
+    }
+
+    /**
+     * GET, PUT e DELETE são idempotentes; POST e PATCH apenas com {@link Idempotent}
+     * ou, com as chaves de idempotência habilitadas, com {@link IdempotencyKey}.
+     */
+    private boolean isIdempotent(Method method) {
+        return method.isAnnotationPresent(Idempotent.class)
+            || (idempotencyKeys.isEnabled() && method.isAnnotationPresent(IdempotencyKey.class))
+            || method.isAnnotationPresent(GetMapping.class)
+            || method.isAnnotationPresent(PutMapping.class)
+            || method.isAnnotationPresent(DeleteMapping.class);
+    }
+
+    /**
+     * Rejeita novas tentativas depois que o {@link Deadline} da chamada se
+     * esgotou. A tentativa roda na thread chamadora, preservando o contexto
+     * da chamada (chave de idempotência, {@link SafeRetry}, estado dos
+     * interceptors); o tempo de cada tentativa é limitado ao restante do
+     * prazo pelo transporte ({@code HttpTransportClient}), que encerra a
+     * requisição com {@link DeadlineExceededException}. Fica fora do
+     * CircuitBreaker: um prazo curto do chamador não é falha do servidor.
+     */
+    private static CheckedFunction<Object[], Object> decorateDeadline(String clientName,
+                                                                  CheckedFunction<Object[], Object> chain) {
+        return args -> {
+            Deadline deadline = Deadline.current();
+            if (deadline != null && deadline.isExpired()) {
+                throw deadline.exceeded(clientName);
+            }
+            return chain.apply(args);
+        };
+    }
+
+    private static CheckedFunction<Object[], Object> decorateTimeLimiter(TimeLimiter timeLimiter,
+                                                                     CheckedFunction<Object[], Object> chain) {
+        return args -> {
+            String idempotencyKey = IdempotencyKeys.current();
+            Deadline deadline = Deadline.current();
+            return timeLimiter.executeFutureSupplier(() -> CompletableFuture.supplyAsync(() -> {
+                String previousKey = IdempotencyKeys.bind(idempotencyKey);
+                Deadline previousDeadline = Deadline.bind(deadline);
+                try {
+                    return chain.apply(args);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new CompletionException(t);
+                } finally {
+                    Deadline.restore(previousDeadline);
+                    IdempotencyKeys.restore(previousKey);
+                }
+            }, TIME_LIMITER_EXECUTOR));
+        };
+    }
+
+    private static MethodHandle findFallback(Class<?> type, Object target, Method method, String fallbackMethod) {
+        if (fallbackMethod.isEmpty()) {
+            return null;
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (Method candidate : type.getMethods()) {
+            Class<?>[] candidateTypes = candidate.getParameterTypes();
+            if (candidate.isDefault()
+                    && candidate.getName().equals(fallbackMethod)
+                    && candidateTypes.length == parameterTypes.length + 1
+                    && Arrays.equals(candidateTypes, 0, parameterTypes.length, parameterTypes, 0, parameterTypes.length)
+                    && candidateTypes[parameterTypes.length].isAssignableFrom(CallNotPermittedException.class)) {
+                return bind(candidate, target);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cria um MethodHandle (Object[]) → Object para o método no alvo informado.
+     */
+    private static MethodHandle bind(Method method, Object target) {
+        return unreflect(method).bindTo(target);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            int parameterCount = method.getParameterCount();
+            return handle
+                .asSpreader(Object[].class, parameterCount)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Método inacessível: " + method, e);
+        }
+    }
+
+    private static Object invokeObjectMethod(Object target, Method method, Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String configName(String name, boolean configured) {
+        return configured ? name : "default";
+    }
+}
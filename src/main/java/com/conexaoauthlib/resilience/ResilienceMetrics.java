@@ -1,7 +1,9 @@
 package com.conexaoauthlib.resilience;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,13 +11,27 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuração de métricas Prometheus para resiliência.
- * Expõe métricas de CircuitBreaker para monitoramento via Prometheus.
+ * Expõe métricas de CircuitBreaker e Bulkhead para monitoramento via Prometheus.
  *
  * <h3>Métricas expostas:</h3>
  * <ul>
  *   <li>resilience4j.circuitbreaker.state - Estado do CircuitBreaker</li>
  *   <li>resilience4j.circuitbreaker.failed.calls - Número de chamadas falhas</li>
  *   <li>resilience4j.circuitbreaker.successful.calls - Chamadas bem-sucedidas</li>
+ *   <li>conexaoauth.bulkhead.available.permits - Vagas livres por bulkhead</li>
+ *   <li>conexaoauth.bulkhead.rejected.calls - Chamadas rejeitadas por bulkhead</li>
+ *   <li>conexaoauth.concurrency.limit - Limite adaptativo de concorrência por cliente</li>
+ *   <li>conexaoauth.concurrency.inflight - Chamadas em andamento por cliente</li>
+ *   <li>conexaoauth.concurrency.rejected.calls - Chamadas rejeitadas pelo limite adaptativo</li>
+ *   <li>conexaoauth.hedging.requests - Requisições de hedge enviadas por cliente</li>
+ *   <li>conexaoauth.hedging.wins - Hedges que responderam antes da tentativa original</li>
+ *   <li>conexaoauth.retry.budget.tokens - Retries disponíveis por orçamento (cliente ou global)</li>
+ *   <li>conexaoauth.retry.budget.retries - Retries autorizados pelo orçamento</li>
+ *   <li>conexaoauth.retry.budget.exhausted - Retries negados por falta de saldo</li>
+ *   <li>conexaoauth.idempotency.keys - Chaves de idempotência geradas</li>
+ *   <li>conexaoauth.idempotency.deduplicated - Submissões duplicadas atendidas por outra chamada</li>
+ *   <li>conexaoauth.stale.served - Leituras servidas como obsoletas com o circuito aberto</li>
+ *   <li>conexaoauth.stale.revalidated - Leituras obsoletas revalidadas com o circuito meio-aberto</li>
  * </ul>
  *
  * @author ConexãoAuthLib Team
@@ -85,4 +101,136 @@ public class ResilienceMetrics {
                 .register(meterRegistry);
         });
     }
+
+    /**
+     * Métricas de vagas livres e chamadas rejeitadas dos bulkheads.
+     *
+     * @param clientBulkheads Bulkheads dos clientes
+     * @return MeterBinder com as métricas de bulkhead
+     */
+    @Bean
+    public MeterBinder bulkheadMetrics(ClientBulkheads clientBulkheads) {
+        return new BulkheadMetrics(clientBulkheads);
+    }
+
+    /**
+     * Métricas dos limites adaptativos de concorrência.
+     *
+     * @param adaptiveConcurrencyLimits Limites adaptativos por cliente
+     * @return MeterBinder com o limite, as chamadas em andamento e as rejeições
+     */
+    @Bean
+    public MeterBinder adaptiveConcurrencyMetrics(AdaptiveConcurrencyLimits adaptiveConcurrencyLimits) {
+        return meterRegistry -> adaptiveConcurrencyLimits.getLimiters().forEach((name, limiter) -> {
+            Gauge.builder("conexaoauth.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("client", name)
+                .description("Limite adaptativo de chamadas simultâneas")
+                .register(meterRegistry);
+
+            Gauge.builder("conexaoauth.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("client", name)
+                .description("Chamadas em andamento")
+                .register(meterRegistry);
+
+            FunctionCounter.builder("conexaoauth.concurrency.rejected.calls", limiter,
+                                    AdaptiveConcurrencyLimiter::getRejectedCount)
+                .tag("client", name)
+                .description("Chamadas rejeitadas pelo limite adaptativo")
+                .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Métricas das requisições de hedge.
+     *
+     * @param requestHedging Requisições de hedge
+     * @return MeterBinder com os hedges enviados e vencedores
+     */
+    @Bean
+    public MeterBinder hedgingMetrics(RequestHedging requestHedging) {
+        return meterRegistry -> requestHedging.getClients().forEach(name -> {
+            FunctionCounter.builder("conexaoauth.hedging.requests", requestHedging,
+                                    h -> h.getHedgedCount(name))
+                .tag("client", name)
+                .description("Requisições de hedge enviadas")
+                .register(meterRegistry);
+
+            FunctionCounter.builder("conexaoauth.hedging.wins", requestHedging,
+                                    h -> h.getHedgeWinCount(name))
+                .tag("client", name)
+                .description("Hedges que responderam antes da tentativa original")
+                .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Métricas dos orçamentos de retry, com tag {@code budget} igual ao
+     * nome do cliente ou {@value RetryBudgets#GLOBAL}.
+     *
+     * @param retryBudgets Orçamentos de retry
+     * @return Binder das métricas
+     */
+    @Bean
+    public MeterBinder retryBudgetMetrics(RetryBudgets retryBudgets) {
+        return meterRegistry -> retryBudgets.getBudgets().forEach((name, budget) -> {
+            Gauge.builder("conexaoauth.retry.budget.tokens", budget, RetryBudget::getAvailableTokens)
+                .tag("budget", name)
+                .description("Retries disponíveis no orçamento")
+                .register(meterRegistry);
+
+            FunctionCounter.builder("conexaoauth.retry.budget.retries", budget, RetryBudget::getRetryCount)
+                .tag("budget", name)
+                .description("Retries autorizados pelo orçamento")
+                .register(meterRegistry);
+
+            FunctionCounter.builder("conexaoauth.retry.budget.exhausted", budget, RetryBudget::getExhaustedCount)
+                .tag("budget", name)
+                .description("Retries negados por falta de saldo no orçamento")
+                .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Métricas das chaves de idempotência e da deduplicação de submissões.
+     *
+     * @param idempotencyKeys Chaves de idempotência
+     * @return Binder das métricas
+     */
+    @Bean
+    public MeterBinder idempotencyMetrics(IdempotencyKeys idempotencyKeys) {
+        return meterRegistry -> {
+            FunctionCounter.builder("conexaoauth.idempotency.keys", idempotencyKeys,
+                                    IdempotencyKeys::getGeneratedCount)
+                .description("Chaves de idempotência geradas")
+                .register(meterRegistry);
+
+            FunctionCounter.builder("conexaoauth.idempotency.deduplicated", idempotencyKeys,
+                                    IdempotencyKeys::getDeduplicatedCount)
+                .description("Submissões duplicadas atendidas por outra chamada")
+                .register(meterRegistry);
+        };
+    }
+
+    /**
+     * Métricas das leituras servidas como obsoletas e revalidadas.
+     *
+     * @param lastKnownGood Última resposta válida das leituras
+     * @return Binder das métricas
+     */
+    @Bean
+    public MeterBinder lastKnownGoodMetrics(LastKnownGood lastKnownGood) {
+        return meterRegistry -> lastKnownGood.getClients().forEach(name -> {
+            FunctionCounter.builder("conexaoauth.stale.served", lastKnownGood,
+                                    l -> l.getServedCount(name))
+                .tag("client", name)
+                .description("Leituras servidas como obsoletas com o circuito aberto")
+                .register(meterRegistry);
+
+            FunctionCounter.builder("conexaoauth.stale.revalidated", lastKnownGood,
+                                    l -> l.getRevalidatedCount(name))
+                .tag("client", name)
+                .description("Leituras obsoletas revalidadas com o circuito meio-aberto")
+                .register(meterRegistry);
+        });
+    }
 }
@@ -4,6 +4,10 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Propriedades de configuração de resiliência.
  * Carregadas de application.yml com prefixo "conexao-auth.resilience".
@@ -21,6 +25,23 @@ import org.springframework.context.annotation.Configuration;
  *       oauth2:
  *         max-attempts: 5
  *         wait-duration: 1s
+ *     time-limiter:
+ *       oauth2: 5s
+ *     adaptive-limit:
+ *       enabled: true
+ *       initial-limit: 20
+ *       max-limit: 200
+ *     hedging:
+ *       enabled: true
+ *       budget-percent: 5
+ *     retry-budget:
+ *       ratio: 0.1
+ *       client-capacity: 10
+ *       global-capacity: 30
+ *     idempotency:
+ *       header-name: Idempotency-Key
+ *     last-known-good:
+ *       grace-window: 5m
  * }</pre>
  *
  * @author ConexãoAuthLib Team
@@ -34,6 +55,38 @@ public class ResilienceProperties {
     private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
     private RetryProperties retry = new RetryProperties();
 
+    /**
+     * Tempo máximo de cada tentativa por cliente (TimeLimiter), incluindo a
+     * espera no bulkhead. Cliente ausente = sem TimeLimiter (o read-timeout
+     * do Feign já limita cada tentativa).
+     */
+    private Map<String, Duration> timeLimiter = new HashMap<>();
+
+    /**
+     * Limite adaptativo de chamadas simultâneas por cliente.
+     */
+    private AdaptiveLimitProperties adaptiveLimit = new AdaptiveLimitProperties();
+
+    /**
+     * Requisições de hedge nos métodos anotados com {@link Hedged}.
+     */
+    private HedgingProperties hedging = new HedgingProperties();
+
+    /**
+     * Orçamento de retries por cliente e global.
+     */
+    private RetryBudgetProperties retryBudget = new RetryBudgetProperties();
+
+    /**
+     * Chaves de idempotência e deduplicação das chamadas de criação.
+     */
+    private IdempotencyProperties idempotency = new IdempotencyProperties();
+
+    /**
+     * Última resposta válida das leituras, servida com o circuito aberto.
+     */
+    private LastKnownGoodProperties lastKnownGood = new LastKnownGoodProperties();
+
     @Data
     public static class CircuitBreakerProperties {
         private ClientProperties oauth2 = new ClientProperties();
@@ -54,6 +107,167 @@ public class ResilienceProperties {
         private ClientProperties scope = new ClientProperties();
     }
 
+    @Data
+    public static class AdaptiveLimitProperties {
+        /**
+         * Habilita o limite adaptativo de concorrência.
+         * Valor padrão: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Limite inicial de chamadas simultâneas por cliente.
+         * Valor padrão: 20
+         */
+        private int initialLimit = 20;
+
+        /**
+         * Limite mínimo de chamadas simultâneas.
+         * Valor padrão: 2
+         */
+        private int minLimit = 2;
+
+        /**
+         * Limite máximo de chamadas simultâneas.
+         * Valor padrão: 200
+         */
+        private int maxLimit = 200;
+
+        /**
+         * Quanto a latência pode superar a latência sem carga antes
+         * de o limite ser reduzido.
+         * Valor padrão: 1.5
+         */
+        private double rttTolerance = 1.5;
+
+        /**
+         * Peso de cada novo cálculo sobre o limite atual.
+         * Valor padrão: 0.2
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Fator aplicado ao limite quando uma chamada falha por timeout ou I/O.
+         * Valor padrão: 0.9
+         */
+        private double backoffRatio = 0.9;
+    }
+
+    @Data
+    public static class HedgingProperties {
+        /**
+         * Habilita o envio de requisições de hedge.
+         * Valor padrão: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Percentil de latência após o qual a requisição de hedge é enviada.
+         * Valor padrão: 0.95 (p95)
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Carga extra máxima, em percentual das chamadas elegíveis do cliente.
+         * Valor padrão: 5
+         */
+        private double budgetPercent = 5;
+
+        /**
+         * Espera mínima antes do hedge, mesmo que o percentil seja menor.
+         * Valor padrão: 10ms
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * Amostras de latência necessárias antes do primeiro hedge.
+         * Valor padrão: 100
+         */
+        private int minSamples = 100;
+    }
+
+    @Data
+    public static class RetryBudgetProperties {
+        /**
+         * Habilita o orçamento de retries. Mesmo desabilitado, apenas
+         * chamadas idempotentes são repetidas.
+         * Valor padrão: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Fração de um retry ganha a cada chamada bem-sucedida.
+         * Valor padrão: 0.1 (no máximo 1 retry a cada 10 sucessos)
+         */
+        private double ratio = 0.1;
+
+        /**
+         * Retries acumuláveis por cliente (rajada máxima).
+         * Valor padrão: 10
+         */
+        private int clientCapacity = 10;
+
+        /**
+         * Retries acumuláveis no orçamento global, compartilhado pelos clientes.
+         * Valor padrão: 30
+         */
+        private int globalCapacity = 30;
+    }
+
+    @Data
+    public static class IdempotencyProperties {
+        /**
+         * Habilita as chaves de idempotência nos métodos anotados com
+         * {@code @IdempotencyKey}, que passam a ser repetidos pelo Retry.
+         * Valor padrão: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Header que transporta a chave.
+         * Valor padrão: Idempotency-Key
+         */
+        private String headerName = "Idempotency-Key";
+
+        /**
+         * Por quanto tempo o resultado de uma chamada com chave definida
+         * pelo chamador ({@code IdempotencyKeys.call}) atende as chamadas
+         * com a mesma chave (0 une apenas chamadas simultâneas).
+         * Valor padrão: 0 (desabilitado)
+         */
+        private Duration dedupWindow = Duration.ZERO;
+
+        /**
+         * Número máximo de submissões concluídas mantidas para deduplicação.
+         * Valor padrão: 1000
+         */
+        private int dedupMaxSize = 1000;
+    }
+
+    @Data
+    public static class LastKnownGoodProperties {
+        /**
+         * Habilita o fornecimento da última resposta válida das leituras de
+         * entidade única ({@code get*}) enquanto o CircuitBreaker recusa
+         * chamadas.
+         * Valor padrão: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Por quanto tempo após obtida uma resposta pode ser servida como
+         * obsoleta.
+         * Valor padrão: 5 minutos
+         */
+        private Duration graceWindow = Duration.ofMinutes(5);
+
+        /**
+         * Número máximo de respostas guardadas.
+         * Valor padrão: 10000
+         */
+        private int maximumSize = 10_000;
+    }
+
     @Data
     public static class ClientProperties {
         /**
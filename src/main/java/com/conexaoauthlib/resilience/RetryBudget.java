@@ -0,0 +1,103 @@
+package com.conexaoauthlib.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket que limita retries a uma fração das chamadas bem-sucedidas.
+ *
+ * <p>Cada sucesso deposita {@code ratio} token (até a capacidade) e cada
+ * retry consome um token inteiro. Com ratio 0,1, no longo prazo há no
+ * máximo um retry para cada dez sucessos; a capacidade permite rajadas
+ * curtas. Durante uma indisponibilidade os sucessos param, o bucket
+ * esvazia e os retries cessam.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see RetryBudgets
+ */
+public class RetryBudget {
+
+    /**
+     * Unidade interna: 1 token = 1000 milésimos.
+     */
+    private static final long TOKEN = 1000;
+
+    private final long depositPerSuccess;
+    private final long capacity;
+    private final AtomicLong balance;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Construtor. O bucket começa cheio.
+     *
+     * @param ratio Fração de token depositada a cada sucesso
+     * @param capacity Número máximo de tokens acumulados
+     */
+    public RetryBudget(double ratio, int capacity) {
+        this.depositPerSuccess = Math.round(ratio * TOKEN);
+        this.capacity = Math.max(1, capacity) * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida.
+     */
+    public void recordSuccess() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + depositPerSuccess)));
+    }
+
+    /**
+     * Consome um token para um retry.
+     *
+     * @return true se havia saldo; false (e registra o esgotamento) caso contrário
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                exhausted.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * Devolve um token consumido por {@link #tryAcquire()}.
+     */
+    void refund() {
+        balance.addAndGet(TOKEN);
+        retries.decrement();
+    }
+
+    /**
+     * @return Tokens disponíveis
+     */
+    public double getAvailableTokens() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    /**
+     * @return Total de retries autorizados
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return Total de retries negados por falta de saldo
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+}
@@ -0,0 +1,187 @@
+package com.conexaoauthlib.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.github.resilience4j.retry.Retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Orçamentos de retry por cliente e global.
+ *
+ * <p>Um retry só acontece se houver saldo no {@link RetryBudget} do cliente
+ * e no orçamento global, compartilhado por todos os clientes. Além disso,
+ * apenas métodos idempotentes (GET, PUT, DELETE ou anotados com
+ * {@link Idempotent}) e chamadas marcadas com {@link SafeRetry} são
+ * repetidos, e nunca enquanto o CircuitBreaker estiver aberto ou quando o
+ * {@link Deadline} da chamada não deixa tempo para outra tentativa. Quando o
+ * retry é negado, a exceção original chega ao chamador sem a espera do
+ * backoff.</p>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see ResilienceDecorators
+ */
+public final class RetryBudgets {
+
+    /**
+     * Nome do orçamento compartilhado por todos os clientes.
+     */
+    public static final String GLOBAL = "global";
+
+    private static volatile RetryBudgets defaultInstance;
+
+    private final ResilienceProperties.RetryBudgetProperties properties;
+    private final RetryBudget global;
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor.
+     *
+     * @param properties Parâmetros dos orçamentos
+     */
+    public RetryBudgets(ResilienceProperties.RetryBudgetProperties properties) {
+        this.properties = properties;
+        this.global = new RetryBudget(properties.getRatio(), properties.getGlobalCapacity());
+        ClientBulkheads.CLIENTS.forEach(this::budget);
+    }
+
+    /**
+     * Retorna a instância compartilhada, criando-a com os valores padrão
+     * fora de um contexto Spring.
+     *
+     * @return RetryBudgets padrão
+     */
+    public static RetryBudgets getDefault() {
+        RetryBudgets instance = defaultInstance;
+        if (instance == null) {
+            synchronized (RetryBudgets.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new RetryBudgets(new ResilienceProperties.RetryBudgetProperties());
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Substitui a instância compartilhada (chamado automaticamente pelo Spring).
+     *
+     * @param retryBudgets Nova instância
+     */
+    public static void setDefault(RetryBudgets retryBudgets) {
+        RetryBudgets.defaultInstance = retryBudgets;
+    }
+
+    /**
+     * @param clientName Nome do cliente
+     * @return Orçamento de retry do cliente
+     */
+    public RetryBudget budget(String clientName) {
+        return budgets.computeIfAbsent(clientName,
+            name -> new RetryBudget(properties.getRatio(), properties.getClientCapacity()));
+    }
+
+    /**
+     * @return Orçamento global
+     */
+    public RetryBudget global() {
+        return global;
+    }
+
+    /**
+     * @return Orçamentos por cliente, mais o global ({@value #GLOBAL})
+     */
+    public Map<String, RetryBudget> getBudgets() {
+        Map<String, RetryBudget> all = new ConcurrentHashMap<>(budgets);
+        all.put(GLOBAL, global);
+        return Map.copyOf(all);
+    }
+
+    /**
+     * Aplica o Retry a uma função, condicionado à idempotência e aos orçamentos.
+     *
+     * @param retry Retry do cliente
+     * @param clientName Nome do cliente
+     * @param idempotent true se o método é idempotente
+     * @param function Função a repetir
+     * @return Função com retry limitado
+     */
+    public CheckedFunction<Object[], Object> decorateCheckedFunction(Retry retry, String clientName,
+                                                                    boolean idempotent,
+                                                                    CheckedFunction<Object[], Object> function) {
+        RetryBudget budget = budget(clientName);
+        int maxAttempts = retry.getRetryConfig().getMaxAttempts();
+        Predicate<Throwable> retryable = retry.getRetryConfig().getExceptionPredicate();
+        boolean budgetEnabled = properties.isEnabled();
+
+        CheckedFunction<Attempts, Object> retried = Retry.decorateCheckedFunction(retry, attempts -> {
+            try {
+                Object result = function.apply(attempts.args);
+                budget.recordSuccess();
+                global.recordSuccess();
+                return result;
+            } catch (Throwable t) {
+                if (++attempts.count >= maxAttempts || !retryable.test(t)) {
+                    throw t;
+                }
+                // Com o CircuitBreaker aberto, repetir apenas consumiria o orçamento
+                Deadline deadline = Deadline.current();
+                if (!attempts.safe || t instanceof CallNotPermittedException
+                        || (deadline != null && !deadline.allowsAttempt())
+                        || (budgetEnabled && !tryAcquire(budget))) {
+                    throw new RetryDeniedException(t);
+                }
+                throw t;
+            }
+        });
+
+        return args -> {
+            try {
+                return retried.apply(new Attempts(args, idempotent || SafeRetry.isMarked()));
+            } catch (RetryDeniedException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private boolean tryAcquire(RetryBudget budget) {
+        if (!budget.tryAcquire()) {
+            return false;
+        }
+        if (!global.tryAcquire()) {
+            budget.refund();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Estado de uma chamada entre as tentativas do Retry.
+     */
+    private static final class Attempts {
+        private final Object[] args;
+        private final boolean safe;
+        private int count;
+
+        private Attempts(Object[] args, boolean safe) {
+            this.args = args;
+            this.safe = safe;
+        }
+    }
+
+    /**
+     * Interrompe o Retry sem espera. Ignorada por todas as configurações
+     * de Retry e desembrulhada antes de chegar ao chamador.
+     */
+    static final class RetryDeniedException extends RuntimeException {
+
+        RetryDeniedException(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.conexaoauthlib.resilience;
+
+import java.util.function.Supplier;
+
+/**
+ * Marca chamadas não idempotentes como seguras para retry.
+ *
+ * <p>Útil quando o servidor deduplica a operação (por exemplo, por uma
+ * chave de idempotência), de modo que repetir um POST não cria o
+ * recurso duas vezes.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * UserResponseDTO user = SafeRetry.call(() -> userClient.create(request, tenantId));
+ * }</pre>
+ *
+ * @author ConexãoAuthLib Team
+ * @version 1.0.0
+ * @see Idempotent
+ */
+public final class SafeRetry {
+
+    private static final ThreadLocal<Boolean> SAFE = new ThreadLocal<>();
+
+    private SafeRetry() {
+        // Utility class - não instanciar
+    }
+
+    /**
+     * Executa a chamada permitindo retry das requisições feitas por ela.
+     *
+     * @param call Chamada a executar
+     * @param <T> Tipo do resultado
+     * @return Resultado da chamada
+     */
+    public static <T> T call(Supplier<T> call) {
+        Boolean previous = SAFE.get();
+        SAFE.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                SAFE.remove();
+            } else {
+                SAFE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return true se a thread atual está dentro de {@link #call(Supplier)}
+     */
+    public static boolean isMarked() {
+        return SAFE.get() != null;
+    }
+}
@@ -1,14 +1,30 @@
 /**
  * Módulo de Configuração de Resiliência.
  *
- * <p>Este módulo fornece configurações de CircuitBreaker e Retry
+ * <p>Este módulo fornece configurações de CircuitBreaker, Retry e Bulkhead
  * para todos os clientes Feign da biblioteca, garantindo resiliência
  * e tolerância a falhas nas comunicações com serviços externos.</p>
  *
  * <h3>Componentes principais:</h3>
  * <ul>
- *   <li>ResilienceConfiguration - Configuração centralizada de CircuitBreaker e Retry</li>
+ *   <li>ResilienceConfiguration - Registries compartilhados de CircuitBreaker,
+ *       Retry, Bulkhead e TimeLimiter</li>
+ *   <li>ResilienceDecorators - Cadeias de resiliência pré-compiladas por método
+ *       dos Feign Clients</li>
+ *   <li>ClientBulkheads - Bulkheads de semáforo e de thread pool por cliente</li>
+ *   <li>AdaptiveConcurrencyLimits - Limite adaptativo de concorrência por
+ *       cliente (gradiente de latência)</li>
+ *   <li>RequestHedging - Requisições de hedge nos métodos de leitura anotados
+ *       com {@code @Hedged}</li>
+ *   <li>RetryBudgets - Orçamentos de retry por cliente e global; apenas métodos
+ *       idempotentes são repetidos</li>
+ *   <li>IdempotencyKeys - Chaves de idempotência e deduplicação das chamadas de criação</li>
+ *   <li>LastKnownGood - Última resposta válida das leituras de entidade única
+ *       (opcional), servida como obsoleta com o circuito aberto</li>
+ *   <li>Deadline - Prazo por chamada ({@code .deadline(Duration)}),
+ *       compartilhado pelas tentativas do Retry</li>
  *   <li>ResilienceMetrics - Métricas Prometheus para monitoramento</li>
+ *   <li>BulkheadMetrics - Vagas livres e chamadas rejeitadas por bulkhead</li>
  *   <li>ResilienceHealthIndicator - Health check para status dos CircuitBreakers</li>
  *   <li>ResilienceProperties - Propriedades configuráveis via application.yml</li>
  * </ul>
@@ -26,6 +42,17 @@
  *       oauth2:
  *         max-attempts: 5
  *         wait-duration: 1s
+ *     time-limiter:
+ *       oauth2: 5s
+ *     adaptive-limit:
+ *       enabled: true
+ *       max-limit: 200
+ *     hedging:
+ *       enabled: true
+ *       budget-percent: 5
+ *     last-known-good:
+ *       enabled: true
+ *       grace-window: 5m
  * }</pre>
  *
  * <h3>Métricas Prometheus:</h3>
@@ -34,10 +61,20 @@
  *   <li>resilience4j.circuitbreaker.failed.calls - Chamadas falhas</li>
  *   <li>resilience4j.circuitbreaker.successful.calls - Chamadas bem-sucedidas</li>
  *   <li>resilience4j.circuitbreaker.not.permitted.calls - Chamadas rejeitadas</li>
+ *   <li>conexaoauth.bulkhead.available.permits - Vagas livres por bulkhead</li>
+ *   <li>conexaoauth.bulkhead.rejected.calls - Chamadas rejeitadas por bulkhead</li>
+ *   <li>conexaoauth.concurrency.limit - Limite adaptativo de concorrência</li>
+ *   <li>conexaoauth.concurrency.rejected.calls - Chamadas rejeitadas pelo limite adaptativo</li>
+ *   <li>conexaoauth.hedging.requests - Requisições de hedge enviadas</li>
+ *   <li>conexaoauth.retry.budget.tokens - Retries disponíveis por orçamento</li>
+ *   <li>conexaoauth.retry.budget.exhausted - Retries negados por falta de saldo</li>
+ *   <li>conexaoauth.idempotency.deduplicated - Submissões duplicadas deduplicadas</li>
+ *   <li>conexaoauth.stale.served - Leituras servidas como obsoletas</li>
  * </ul>
  *
  * @since 1.0.0
  * @see com.conexaoauthlib.resilience.ResilienceConfiguration
+ * @see com.conexaoauthlib.resilience.ResilienceDecorators
  * @see com.conexaoauthlib.resilience.ResilienceMetrics
  * @see com.conexaoauthlib.resilience.ResilienceHealthIndicator
  */